@@ -180,6 +180,43 @@ class BlobManager {
 
     NativeBlobModule.sendOverSocket(blob.data, socketId);
   }
+
+  /**
+   * If binary data can be moved between blobs and array buffers through JSI,
+   * without encoding it to base64.
+   */
+  static isArrayBufferTransferAvailable(): boolean {
+    return (
+      global.__blobTakeArrayBuffer != null &&
+      global.__blobFromArrayBuffer != null
+    );
+  }
+
+  /**
+   * Move the contents of blob data from native into a new array buffer, and
+   * deallocate the blob.
+   */
+  static takeArrayBuffer(data: BlobData): ArrayBuffer {
+    return global.__blobTakeArrayBuffer(data.blobId, data.offset, data.size);
+  }
+
+  /**
+   * Send the contents of an array buffer to a websocket as a binary message.
+   */
+  static sendArrayBufferOverSocket(
+    data: ArrayBuffer | $ArrayBufferView,
+    socketId: number,
+  ): void {
+    invariant(NativeBlobModule, 'NativeBlobModule is available.');
+
+    const size = data.byteLength;
+    const blobId =
+      data instanceof ArrayBuffer
+        ? global.__blobFromArrayBuffer(data, 0, size)
+        : global.__blobFromArrayBuffer(data.buffer, data.byteOffset, size);
+    NativeBlobModule.sendOverSocket({blobId, offset: 0, size}, socketId);
+    NativeBlobModule.release(blobId);
+  }
 }
 
 export default BlobManager;
@@ -11,6 +11,7 @@
 const BlobModule = {
   createFromParts() {},
   release() {},
+  sendOverSocket() {},
 };
 
 export default BlobModule;
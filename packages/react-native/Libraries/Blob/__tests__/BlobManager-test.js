@@ -29,4 +29,50 @@ describe('BlobManager', function () {
     expect(blob).toBeInstanceOf(Blob);
     expect(blob.type).toBe('text/html');
   });
+
+  describe('array buffer transfer', () => {
+    const BlobModule = require('../__mocks__/BlobModule').default;
+
+    afterEach(() => {
+      delete global.__blobTakeArrayBuffer;
+      delete global.__blobFromArrayBuffer;
+      jest.restoreAllMocks();
+    });
+
+    it('should be unavailable without the JSI bindings', () => {
+      expect(BlobManager.isArrayBufferTransferAvailable()).toBe(false);
+    });
+
+    it('should take array buffers from blob data', () => {
+      const buffer = new ArrayBuffer(4);
+      global.__blobTakeArrayBuffer = jest.fn(() => buffer);
+      global.__blobFromArrayBuffer = jest.fn();
+
+      expect(BlobManager.isArrayBufferTransferAvailable()).toBe(true);
+      expect(
+        BlobManager.takeArrayBuffer({blobId: 'id', offset: 2, size: 4}),
+      ).toBe(buffer);
+      expect(global.__blobTakeArrayBuffer).toHaveBeenCalledWith('id', 2, 4);
+    });
+
+    it('should send the viewed range of an array buffer', () => {
+      const sendOverSocket = jest.spyOn(BlobModule, 'sendOverSocket');
+      const release = jest.spyOn(BlobModule, 'release');
+      global.__blobFromArrayBuffer = jest.fn(() => 'id');
+      const view = new Uint8Array(new ArrayBuffer(16), 4, 8);
+
+      BlobManager.sendArrayBufferOverSocket(view, 1);
+
+      expect(global.__blobFromArrayBuffer).toHaveBeenCalledWith(
+        view.buffer,
+        4,
+        8,
+      );
+      expect(sendOverSocket).toHaveBeenCalledWith(
+        {blobId: 'id', offset: 0, size: 8},
+        1,
+      );
+      expect(release).toHaveBeenCalledWith('id');
+    });
+  });
 });
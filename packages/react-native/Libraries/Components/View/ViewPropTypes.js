@@ -23,7 +23,9 @@ import type {
   LayoutRectangle,
   MouseEvent,
   PointerEvent,
+  NativeSyntheticEvent,
   RemotePressEvent,
+  TVRemoteEvent,
 } from '../../Types/CoreEventTypes';
 import type {TVViewProps} from '../TV/TVViewPropTypes';
 import type {
@@ -151,6 +153,12 @@ type TouchEventProps = Readonly<{
 type PressEventProps = Readonly<{
   onPressIn?: ?(e: RemotePressEvent) => void,
   onPressOut?: ?(e: RemotePressEvent) => void,
+  /**
+   * Android TV: hardware key events for the focused view, dispatched when
+   * `ReactFeatureFlags.enableTypedHWKeyEvents` is set.
+   */
+  onHWKeyEvent?: ?(e: NativeSyntheticEvent<TVRemoteEvent>) => void,
+  onHWKeyEventCapture?: ?(e: NativeSyntheticEvent<TVRemoteEvent>) => void,
 }>;
 
 /**
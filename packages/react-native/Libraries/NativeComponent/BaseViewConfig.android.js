@@ -155,6 +155,12 @@ const bubblingEventTypes = {
       bubbled: 'onKeyUp',
     },
   },
+  topHWKeyEvent: {
+    phasedRegistrationNames: {
+      captured: 'onHWKeyEventCapture',
+      bubbled: 'onHWKeyEvent',
+    },
+  },
 };
 
 const directEventTypes = {
@@ -299,5 +299,6 @@ export interface TVRemoteEvent {
   target?: number | undefined;
   eventType: string;
   eventKeyAction?: string | undefined;
+  repeatCount?: number | undefined;
   body?: any | undefined;
 }
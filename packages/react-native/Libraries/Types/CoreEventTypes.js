@@ -94,6 +94,7 @@ export type TVRemoteEvent = $ReadOnly<{
   target?: number,
   eventType: string,
   eventKeyAction?: string,
+  repeatCount?: number,
   // $FlowFixMe[unclear-type]
   body?: any,
 }>;
@@ -359,6 +360,13 @@ export type KeyEvent = Readonly<{
    * @see https://developer.mozilla.org/en-US/docs/Web/API/KeyboardEvent/repeat
    */
   repeat?: boolean,
+  /**
+   * Android TV: how many times the key has repeated since it was pressed, 0
+   * for the first key down. When repeats are coalesced, this is the count of
+   * the most recent repeat, so the difference with the previous event is the
+   * number of repeats it stands for.
+   */
+  repeatCount?: number,
   /**
    * Returns a boolean value indicating if the event is fired within a composition session
    * @see https://developer.mozilla.org/en-US/docs/Web/API/CompositionEvent/isComposing
@@ -56,14 +56,17 @@ const CLOSE_ABNORMAL = 1006;
 
 let nextWebSocketId = 0;
 
+type WebSocketMessage =
+  | {type: 'binary', id: number, data: string}
+  | {type: 'text', id: number, data: string}
+  | {type: 'blob', id: number, data: BlobData};
+
 type WebSocketEventDefinitions = {
   websocketOpen: [{id: number, protocol: string}],
   websocketClosed: [{id: number, code: number, reason: string}],
-  websocketMessage: [
-    | {type: 'binary', id: number, data: string}
-    | {type: 'text', id: number, data: string}
-    | {type: 'blob', id: number, data: BlobData},
-  ],
+  websocketMessage: [WebSocketMessage],
+  // Sent instead of websocketMessage when native batching is enabled
+  websocketMessageBatch: [{id: number, messages: Array<WebSocketMessage>}],
   websocketFailed: [{id: number, message: string}],
 };
 
@@ -88,6 +91,9 @@ class WebSocket extends EventTarget {
   _eventEmitter: NativeEventEmitter<WebSocketEventDefinitions>;
   _subscriptions: Array<EventSubscription>;
   _binaryType: ?BinaryType;
+  // Binary messages are moved between native and JS array buffers without
+  // going through base64.
+  _transfersArrayBuffers: boolean;
 
   bufferedAmount: number;
   extension: ?string;
@@ -145,6 +151,13 @@ class WebSocket extends EventTarget {
     );
     this._socketId = nextWebSocketId++;
     this._registerEvents();
+    this._transfersArrayBuffers =
+      BlobManager.isAvailable && BlobManager.isArrayBufferTransferAvailable();
+    if (this._transfersArrayBuffers) {
+      // Binary messages arrive as blobs, which are then moved into array
+      // buffers unless binaryType is 'blob'.
+      BlobManager.addWebSocketHandler(this._socketId);
+    }
     const devToolsRequestId =
       global.__NETWORK_REPORTER__?.createDevToolsRequestId();
     NativeWebSocketModule.connect(
@@ -170,7 +183,7 @@ class WebSocket extends EventTarget {
       );
       if (binaryType === 'blob') {
         BlobManager.addWebSocketHandler(this._socketId);
-      } else {
+      } else if (!this._transfersArrayBuffers) {
         BlobManager.removeWebSocketHandler(this._socketId);
       }
     }
@@ -206,6 +219,10 @@ class WebSocket extends EventTarget {
     }
 
     if (data instanceof ArrayBuffer || ArrayBuffer.isView(data)) {
+      if (this._transfersArrayBuffers) {
+        BlobManager.sendArrayBufferOverSocket(data, this._socketId);
+        return;
+      }
       NativeWebSocketModule.sendBinary(binaryToBase64(data), this._socketId);
       return;
     }
@@ -227,7 +244,10 @@ class WebSocket extends EventTarget {
     const closeReason = typeof reason === 'string' ? reason : '';
     NativeWebSocketModule.close(statusCode, closeReason, this._socketId);
 
-    if (BlobManager.isAvailable && this._binaryType === 'blob') {
+    if (
+      BlobManager.isAvailable &&
+      (this._binaryType === 'blob' || this._transfersArrayBuffers)
+    ) {
       BlobManager.removeWebSocketHandler(this._socketId);
     }
   }
@@ -237,22 +257,37 @@ class WebSocket extends EventTarget {
     this._subscriptions = [];
   }
 
+  _dispatchMessage(ev: WebSocketMessage): void {
+    let data: Blob | BlobData | ArrayBuffer | string = ev.data;
+    switch (ev.type) {
+      case 'binary':
+        data = base64.toByteArray(ev.data).buffer;
+        break;
+      case 'blob':
+        data =
+          this._binaryType === 'blob'
+            ? BlobManager.createFromOptions(ev.data)
+            : BlobManager.takeArrayBuffer(ev.data);
+        break;
+    }
+    this.dispatchEvent(new MessageEvent('message', {data}));
+  }
+
   _registerEvents(): void {
     this._subscriptions = [
       this._eventEmitter.addListener('websocketMessage', ev => {
         if (ev.id !== this._socketId) {
           return;
         }
-        let data: Blob | BlobData | ArrayBuffer | string = ev.data;
-        switch (ev.type) {
-          case 'binary':
-            data = base64.toByteArray(ev.data).buffer;
-            break;
-          case 'blob':
-            data = BlobManager.createFromOptions(ev.data);
-            break;
+        this._dispatchMessage(ev);
+      }),
+      this._eventEmitter.addListener('websocketMessageBatch', ev => {
+        if (ev.id !== this._socketId) {
+          return;
+        }
+        for (const message of ev.messages) {
+          this._dispatchMessage(message);
         }
-        this.dispatchEvent(new MessageEvent('message', {data}));
       }),
       this._eventEmitter.addListener('websocketOpen', ev => {
         if (ev.id !== this._socketId) {
@@ -769,7 +769,26 @@ kotlin {
   explicitApi()
 }
 
-tasks.withType<Test> { jvmArgs = listOf("-Xshare:off") }
+tasks.withType<Test> {
+  jvmArgs = listOf("-Xshare:off")
+
+  // The microbenchmarks (the *Benchmark classes) only run with -PreactBenchmarkOutputDir=<dir>,
+  // which runs nothing else and writes their results as JSON to <dir>. See
+  // com.facebook.testutils.benchmark.BenchmarkRule.
+  val benchmarkOutputDir = project.findProperty("reactBenchmarkOutputDir")
+  if (benchmarkOutputDir == null) {
+    filter.excludeTestsMatching("*Benchmark")
+  } else {
+    filter.includeTestsMatching("*Benchmark")
+    systemProperty("react.benchmark.outputDir", file(benchmarkOutputDir).absolutePath)
+    project.findProperty("reactBenchmarkBaselineDir")?.let {
+      systemProperty("react.benchmark.baselineDir", file(it).absolutePath)
+    }
+    project.findProperty("reactBenchmarkTolerance")?.let {
+      systemProperty("react.benchmark.tolerance", it)
+    }
+  }
+}
 
 /* Publishing Configuration */
 apply(from = "./publish.gradle")
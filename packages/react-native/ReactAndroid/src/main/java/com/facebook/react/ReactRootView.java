@@ -336,7 +336,7 @@ public class ReactRootView extends FrameLayout implements RootView, ReactRoot {
       return super.dispatchKeyEvent(ev);
     }
 
-    mAndroidHWInputDeviceHelper.handleKeyEvent(ev, context);
+    mAndroidHWInputDeviceHelper.handleKeyEvent(ev, context, findFocus());
 
     // Dispatch during the capture phase before children handle the event as the focus could shift
     dispatchJSKeyEvent(ev);
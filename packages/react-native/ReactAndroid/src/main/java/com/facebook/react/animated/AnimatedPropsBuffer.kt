@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.ReadableArray
+import com.facebook.react.bridge.ReadableMap
+
+/**
+ * Props of a view driven by native animations, kept in preallocated slots (one per prop) so that
+ * each frame only produces an update for the props whose value changed since the last update sent
+ * to the view.
+ *
+ * Animated nodes write their props in the same order every frame, so a slot is found by comparing
+ * the key with the one of the slot at the write cursor. Keys come from the node configs, hence the
+ * same String instances every frame, and the comparison is by reference; the key is only hashed
+ * the first time it's written, or when the order changes.
+ *
+ * Transforms alternate between two preallocated arrays: view managers ignore a transform equal to
+ * the one they already hold, which a single instance mutated in place would always be.
+ */
+internal class AnimatedPropsBuffer {
+
+  private val slots = ArrayList<Slot>()
+  private val slotIndexByKey = HashMap<String, Int>()
+  private var cursor = 0
+  private var hasChanges = false
+
+  /** The props that changed as of the last [flushUpdates]. Reused across frames. */
+  val updates: JavaOnlyMap = JavaOnlyMap()
+
+  /** Starts writing the props of a new frame. */
+  fun beginFrame() {
+    cursor = 0
+  }
+
+  fun putDouble(key: String, value: Double) {
+    val slot = slotFor(key, TYPE_DOUBLE)
+    if (!slot.hasValue || slot.doubleValue.compareTo(value) != 0) {
+      slot.doubleValue = value
+      markChanged(slot)
+    }
+  }
+
+  fun putInt(key: String, value: Int) {
+    val slot = slotFor(key, TYPE_INT)
+    if (!slot.hasValue || slot.intValue != value) {
+      slot.intValue = value
+      markChanged(slot)
+    }
+  }
+
+  /** Writes a [ReadableMap], [ReadableArray], String or null value. */
+  fun putObject(key: String, value: Any?) {
+    val slot = slotFor(key, TYPE_OBJECT)
+    if (!slot.hasValue || slot.objectValue != value) {
+      slot.objectValue = value
+      markChanged(slot)
+    }
+  }
+
+  /** Writes the current value of [node], the same way it would be put in a props map. */
+  fun putAnimatedValue(key: String, node: ValueAnimatedNode) {
+    when (val animatedObject = node.getAnimatedObject()) {
+      is Int -> putInt(key, animatedObject)
+      is String -> putObject(key, animatedObject)
+      else -> putDouble(key, node.getValue())
+    }
+  }
+
+  /**
+   * Writes a transform made of one `{[properties[i]]: values[i]}` entry per index. Both arrays are
+   * copied, so callers may reuse them across frames.
+   */
+  fun putTransform(key: String, properties: Array<String?>, values: DoubleArray) {
+    val slot = slotFor(key, TYPE_TRANSFORM)
+    val transform = slot.transform ?: TransformSlot().also { slot.transform = it }
+    var changed = !slot.hasValue
+    if (!transform.properties.contentEquals(properties)) {
+      transform.properties = properties.copyOf()
+      transform.values = values.copyOf()
+      transform.arrays.fill(null)
+      changed = true
+    } else {
+      for (i in values.indices) {
+        if (transform.values[i].compareTo(values[i]) != 0) {
+          transform.values[i] = values[i]
+          changed = true
+        }
+      }
+    }
+    if (changed) {
+      markChanged(slot)
+    }
+  }
+
+  /**
+   * Moves the props that changed since the previous call into [updates], removing the ones that
+   * didn't. Returns false, and leaves [updates] untouched, when no prop changed.
+   */
+  fun flushUpdates(): Boolean {
+    if (!hasChanges) {
+      return false
+    }
+    hasChanges = false
+    for (i in slots.indices) {
+      val slot = slots[i]
+      if (slot.changed) {
+        slot.changed = false
+        slot.inUpdates = true
+        when (slot.type) {
+          TYPE_DOUBLE -> updates.putDouble(slot.key, slot.doubleValue)
+          TYPE_INT -> updates.putInt(slot.key, slot.intValue)
+          TYPE_TRANSFORM -> updates.putArray(slot.key, checkNotNull(slot.transform).nextArray())
+          else ->
+              when (val value = slot.objectValue) {
+                is ReadableMap -> updates.putMap(slot.key, value)
+                is ReadableArray -> updates.putArray(slot.key, value)
+                is String -> updates.putString(slot.key, value)
+                else -> updates.putNull(slot.key)
+              }
+        }
+      } else if (slot.inUpdates) {
+        slot.inUpdates = false
+        updates.remove(slot.key)
+      }
+    }
+    return true
+  }
+
+  /** Forgets every value sent so far, so that the next flush sends all props again. */
+  fun reset() {
+    for (i in slots.indices) {
+      val slot = slots[i]
+      slot.hasValue = false
+      slot.changed = false
+    }
+    hasChanges = false
+  }
+
+  private fun slotFor(key: String, type: Int): Slot {
+    var index = cursor
+    if (index >= slots.size || slots[index].key !== key) {
+      index = slotIndexByKey[key] ?: addSlot(key)
+    }
+    cursor = index + 1
+    val slot = slots[index]
+    if (slot.type != type) {
+      slot.type = type
+      slot.hasValue = false
+    }
+    return slot
+  }
+
+  private fun addSlot(key: String): Int {
+    val index = slots.size
+    slots.add(Slot(key))
+    slotIndexByKey[key] = index
+    return index
+  }
+
+  private fun markChanged(slot: Slot) {
+    slot.hasValue = true
+    slot.changed = true
+    hasChanges = true
+  }
+
+  private class Slot(val key: String) {
+    var type = TYPE_DOUBLE
+    var hasValue = false
+    var changed = false
+    var inUpdates = false
+    var doubleValue = 0.0
+    var intValue = 0
+    var objectValue: Any? = null
+    var transform: TransformSlot? = null
+  }
+
+  private class TransformSlot {
+    var properties: Array<String?> = emptyArray()
+    var values: DoubleArray = DoubleArray(0)
+    val arrays = arrayOfNulls<JavaOnlyArray>(2)
+    val entries = arrayOfNulls<Array<JavaOnlyMap>>(2)
+    var next = 0
+
+    fun nextArray(): JavaOnlyArray {
+      val index = next
+      next = 1 - index
+      val array = arrays[index]
+      val maps = entries[index]
+      if (array == null || maps == null) {
+        val newMaps = Array(properties.size) { i -> JavaOnlyMap.of(properties[i], values[i]) }
+        return JavaOnlyArray.from(newMaps.asList()).also {
+          arrays[index] = it
+          entries[index] = newMaps
+        }
+      }
+      for (i in maps.indices) {
+        maps[i].putDouble(checkNotNull(properties[i]), values[i])
+      }
+      return array
+    }
+  }
+
+  private companion object {
+    const val TYPE_DOUBLE = 0
+    const val TYPE_INT = 1
+    const val TYPE_OBJECT = 2
+    const val TYPE_TRANSFORM = 3
+  }
+}
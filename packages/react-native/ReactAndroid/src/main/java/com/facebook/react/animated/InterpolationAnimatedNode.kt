@@ -30,11 +30,13 @@ internal class InterpolationAnimatedNode(config: ReadableMap) : ValueAnimatedNod
   private val inputRange: DoubleArray = fromDoubleArray(config.getArray("inputRange"))
   private var outputRange: Any? = null
   private var outputType: OutputType? = null
-  private var pattern: String? = null
+  private var template: InterpolationTemplate? = null
   private val extrapolateLeft: String? = config.getString("extrapolateLeft")
   private val extrapolateRight: String? = config.getString("extrapolateRight")
   private var parent: ValueAnimatedNode? = null
   private var objectValue: Any? = null
+  // Parent value objectValue was computed from, so a frame that doesn't move it reuses the result
+  private var objectValueInput = Double.NaN
 
   init {
     val output = config.getArray("outputRange")
@@ -43,8 +45,13 @@ internal class InterpolationAnimatedNode(config: ReadableMap) : ValueAnimatedNod
       outputRange = fromIntArray(output)
     } else if (output?.getType(0) == ReadableType.String) {
       outputType = OutputType.String
-      outputRange = fromStringPattern(output)
-      pattern = output.getString(0)
+      val stringOutputRange = fromStringPattern(output)
+      outputRange = stringOutputRange
+      template =
+          InterpolationTemplate.compile(
+              output.getString(0).orEmpty(),
+              stringOutputRange[0]?.size ?: 0,
+          )
     } else if (output != null && output.size() > 0 && output.getType(0) != ReadableType.Number) {
       FLog.e(
           TAG,
@@ -85,20 +92,25 @@ internal class InterpolationAnimatedNode(config: ReadableMap) : ValueAnimatedNod
                   extrapolateRight,
               )
       OutputType.Color ->
-          objectValue =
-              Integer.valueOf(interpolateColor(parentValue, inputRange, outputRange as IntArray))
-      OutputType.String ->
-          pattern?.let {
-            @Suppress("UNCHECKED_CAST")
+          if (objectValue == null || objectValueInput != parentValue) {
+            objectValueInput = parentValue
             objectValue =
-                interpolateString(
-                    it,
-                    parentValue,
-                    inputRange,
-                    outputRange as Array<DoubleArray>,
-                    extrapolateLeft,
-                    extrapolateRight,
-                )
+                Integer.valueOf(interpolateColor(parentValue, inputRange, outputRange as IntArray))
+          }
+      OutputType.String ->
+          template?.let {
+            if (objectValue == null || objectValueInput != parentValue) {
+              objectValueInput = parentValue
+              @Suppress("UNCHECKED_CAST")
+              objectValue =
+                  it.render(
+                      parentValue,
+                      inputRange,
+                      outputRange as Array<DoubleArray>,
+                      extrapolateLeft,
+                      extrapolateRight,
+                  )
+            }
           }
 
       else -> {}
@@ -277,7 +289,7 @@ internal class InterpolationAnimatedNode(config: ReadableMap) : ValueAnimatedNod
       return sb.toString()
     }
 
-    private fun findRangeIndex(value: Double, ranges: DoubleArray): Int {
+    internal fun findRangeIndex(value: Double, ranges: DoubleArray): Int {
       var index = 1
       while (index < ranges.size - 1) {
         if (ranges[index] >= value) {
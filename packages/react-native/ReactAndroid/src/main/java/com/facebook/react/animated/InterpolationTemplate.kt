@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import java.util.regex.Pattern
+
+/**
+ * The output pattern of a string interpolation (e.g. `"rotate(45deg)"`), split once into the
+ * literal text around each number. Rendering a frame then only appends those literals and the
+ * interpolated numbers to a reused [StringBuilder], without running a regex over the pattern.
+ */
+internal class InterpolationTemplate private constructor(private val literals: Array<String>) {
+
+  private val builder = StringBuilder()
+
+  /** Number of numbers in the pattern, each of which gets interpolated. */
+  val numberCount: Int
+    get() = literals.size - 1
+
+  /**
+   * Renders the pattern with its numbers interpolated from [outputRange], the same way as
+   * [InterpolationAnimatedNode.interpolateString].
+   */
+  fun render(
+      value: Double,
+      inputRange: DoubleArray,
+      outputRange: Array<DoubleArray>,
+      extrapolateLeft: String?,
+      extrapolateRight: String?,
+  ): String {
+    val rangeIndex = InterpolationAnimatedNode.findRangeIndex(value, inputRange)
+    val outputMin = outputRange[rangeIndex]
+    val outputMax = outputRange[rangeIndex + 1]
+    val sb = builder
+    sb.setLength(0)
+    sb.append(literals[0])
+    for (i in 0..<numberCount) {
+      val v =
+          InterpolationAnimatedNode.interpolate(
+              value,
+              inputRange[rangeIndex],
+              inputRange[rangeIndex + 1],
+              outputMin[i],
+              outputMax[i],
+              extrapolateLeft,
+              extrapolateRight,
+          )
+      val intVal = v.toInt()
+      if (intVal.toDouble() != v) {
+        sb.append(v)
+      } else {
+        sb.append(intVal)
+      }
+      sb.append(literals[i + 1])
+    }
+    return sb.toString()
+  }
+
+  companion object {
+    private val numericPattern: Pattern =
+        Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?")
+
+    /**
+     * Splits [pattern] around its numbers. Only the first [maxNumbers] numbers are interpolated,
+     * the rest stay part of the literal text.
+     */
+    fun compile(pattern: String, maxNumbers: Int = Int.MAX_VALUE): InterpolationTemplate {
+      val literals = ArrayList<String>()
+      val m = numericPattern.matcher(pattern)
+      var literalStart = 0
+      while (literals.size < maxNumbers && m.find()) {
+        literals.add(pattern.substring(literalStart, m.start()))
+        literalStart = m.end()
+      }
+      literals.add(pattern.substring(literalStart))
+      return InterpolationTemplate(literals.toTypedArray())
+    }
+  }
+}
@@ -27,6 +27,7 @@ import com.facebook.react.uimanager.events.Event
 import com.facebook.react.uimanager.events.EventDispatcherListener
 import java.util.ArrayDeque
 import java.util.ArrayList
+import java.util.HashMap
 import java.util.HashSet
 import java.util.LinkedList
 import java.util.Queue
@@ -52,9 +53,10 @@ public class NativeAnimatedNodesManager(
   private val activeAnimations = SparseArray<AnimationDriver>()
   private val updatedNodes = SparseArray<AnimatedNode>()
 
-  // List of event animation drivers for an event on view.
+  // Event animation drivers, indexed by normalized event name and then by view tag.
   // There may be multiple drivers for the same event and view.
-  private val eventDrivers: MutableList<EventAnimationDriver> = ArrayList()
+  private val eventDrivers = HashMap<String, SparseArray<MutableList<EventAnimationDriver>>>()
+  private var eventDriverCount = 0
   private var animatedGraphBFSColor = 0
 
   // Used to avoid allocating a new array on every frame in `runUpdates` and `onEventDispatch`.
@@ -484,7 +486,12 @@ public class NativeAnimatedNodesManager(
     val eventName = normalizeEventName(eventHandlerName)
 
     val eventDriver = EventAnimationDriver(eventName, viewTag, pathList, node)
-    eventDrivers.add(eventDriver)
+    val driversForView = eventDrivers.getOrPut(eventName) { SparseArray() }
+    val drivers =
+        driversForView.get(viewTag)
+            ?: ArrayList<EventAnimationDriver>(1).also { driversForView.put(viewTag, it) }
+    drivers.add(eventDriver)
+    eventDriverCount++
 
     if (eventName == "topScroll") {
       // Handle the custom topScrollEnded event sent by the ScrollViews when the user stops dragging
@@ -500,13 +507,21 @@ public class NativeAnimatedNodesManager(
   ) {
     val eventName = normalizeEventName(eventHandlerName)
 
-    eventDrivers
-        .find { driver ->
-          eventName == driver.eventName &&
-              viewTag == driver.viewTag &&
-              animatedValueTag == driver.valueNode.tag
+    val driversForView = eventDrivers[eventName]
+    val drivers = driversForView?.get(viewTag)
+    if (drivers != null) {
+      val index = drivers.indexOfFirst { driver -> animatedValueTag == driver.valueNode.tag }
+      if (index >= 0) {
+        drivers.removeAt(index)
+        eventDriverCount--
+        if (drivers.isEmpty()) {
+          driversForView.remove(viewTag)
+          if (driversForView.size() == 0) {
+            eventDrivers.remove(eventName)
+          }
         }
-        ?.let { driver -> eventDrivers.remove(driver) }
+      }
+    }
 
     if (eventName == "topScroll") {
       // Handle the custom topScrollEnded event sent by the ScrollViews when the user stops dragging
@@ -526,27 +541,45 @@ public class NativeAnimatedNodesManager(
 
   @UiThread
   private fun handleEvent(event: Event<*>) {
-    if (eventDrivers.isEmpty()) {
+    if (eventDriverCount == 0) {
       return
     }
 
-    var foundAtLeastOneDriver = false
-    val matchSpec = event.eventAnimationDriverMatchSpec
-    for (driver in eventDrivers) {
-      if (matchSpec != null && matchSpec.match(driver.viewTag, driver.eventName)) {
-        foundAtLeastOneDriver = true
-        stopAnimationsForNode(driver.valueNode)
-        event.dispatchModern(driver)
-        runUpdateNodeList.add(driver.valueNode)
+    val matchSpec = event.eventAnimationDriverMatchSpec ?: return
+    if (event.hasDefaultEventAnimationDriverMatchSpec) {
+      // The default spec only matches drivers for this exact event and view, so look them up
+      // directly instead of asking every driver
+      val drivers = eventDrivers[event.eventName]?.get(event.viewTag) ?: return
+      for (i in drivers.indices) {
+        dispatchToDriver(event, drivers[i])
+      }
+    } else {
+      for (driversForView in eventDrivers.values) {
+        for (i in 0..<driversForView.size()) {
+          val drivers = driversForView.valueAt(i)
+          for (j in drivers.indices) {
+            val driver = drivers[j]
+            if (matchSpec.match(driver.viewTag, driver.eventName)) {
+              dispatchToDriver(event, driver)
+            }
+          }
+        }
       }
     }
 
-    if (foundAtLeastOneDriver) {
+    if (runUpdateNodeList.isNotEmpty()) {
       updateNodes(runUpdateNodeList)
       runUpdateNodeList.clear()
     }
   }
 
+  @UiThread
+  private fun dispatchToDriver(event: Event<*>, driver: EventAnimationDriver) {
+    stopAnimationsForNode(driver.valueNode)
+    event.dispatchModern(driver)
+    runUpdateNodeList.add(driver.valueNode)
+  }
+
   /**
    * Animation loop performs two BFSes over the graph of animated nodes. We use incremented
    * `mAnimatedGraphBFSColor` to mark nodes as visited in each of the BFSes which saves additional
@@ -624,13 +657,9 @@ public class NativeAnimatedNodesManager(
   internal fun getTagsOfConnectedNodes(tag: Int, eventName: String): Set<Int> {
     val tags: MutableSet<Int> = HashSet()
 
-    // Filter only relevant animation drivers
-
-    eventDrivers.forEach { driver ->
-      if (eventName == driver.eventName && tag == driver.viewTag) {
-        tags.add(driver.viewTag)
-        driver.valueNode.children?.forEach { node -> tags.add(node.tag) }
-      }
+    eventDrivers[eventName]?.get(tag)?.forEach { driver ->
+      tags.add(driver.viewTag)
+      driver.valueNode.children?.forEach { node -> tags.add(node.tag) }
     }
 
     return tags
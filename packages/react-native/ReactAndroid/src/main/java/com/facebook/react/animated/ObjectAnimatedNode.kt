@@ -22,6 +22,11 @@ internal class ObjectAnimatedNode(
     private val nativeAnimatedNodesManager: NativeAnimatedNodesManager,
 ) : AnimatedNode() {
   private val configClone: JavaOnlyMap = JavaOnlyMap.deepClone(config)
+  // Tags of the value nodes mapped in the config, and their values when lastViewUpdate was built
+  private val mappedNodeTags: IntArray = collectMappedNodeTags()
+  private val mappedValues = DoubleArray(mappedNodeTags.size)
+  private val mappedObjects = arrayOfNulls<Any>(mappedNodeTags.size)
+  private var lastViewUpdate: Any? = null
 
   fun collectViewUpdates(propKey: String, propsMap: JavaOnlyMap) {
     val valueType = configClone.getType(VALUE_KEY)
@@ -34,6 +39,99 @@ internal class ObjectAnimatedNode(
     }
   }
 
+  /**
+   * Only builds a new value when one of the mapped nodes changed, and otherwise puts the same
+   * instance again, which the buffer doesn't send.
+   */
+  fun collectViewUpdates(propKey: String, propsBuffer: AnimatedPropsBuffer) {
+    var viewUpdate = lastViewUpdate
+    if (updateMappedValues() || viewUpdate == null) {
+      val valueType = configClone.getType(VALUE_KEY)
+      viewUpdate =
+          if (valueType == ReadableType.Map) {
+            collectViewUpdatesHelper(configClone.getMap(VALUE_KEY))
+          } else if (valueType == ReadableType.Array) {
+            collectViewUpdatesHelper(configClone.getArray(VALUE_KEY))
+          } else {
+            throw IllegalArgumentException("Invalid value type for ObjectAnimatedNode")
+          }
+      lastViewUpdate = viewUpdate
+    }
+    propsBuffer.putObject(propKey, viewUpdate)
+  }
+
+  /** Records the current values of the mapped nodes, and returns whether any of them changed. */
+  private fun updateMappedValues(): Boolean {
+    var changed = false
+    for (i in mappedNodeTags.indices) {
+      val node = nativeAnimatedNodesManager.getNodeById(mappedNodeTags[i])
+      requireNotNull(node) { "Mapped value node does not exist" }
+      var value = 0.0
+      var animatedObject: Any? = null
+      if (node is ValueAnimatedNode) {
+        animatedObject = node.getAnimatedObject()
+        if (animatedObject !is Int && animatedObject !is String) {
+          animatedObject = null
+          value = node.getValue()
+        }
+      } else if (node is ColorAnimatedNode) {
+        value = node.color.toDouble()
+      }
+      if (mappedValues[i].compareTo(value) != 0 || mappedObjects[i] != animatedObject) {
+        mappedValues[i] = value
+        mappedObjects[i] = animatedObject
+        changed = true
+      }
+    }
+    return changed
+  }
+
+  private fun collectMappedNodeTags(): IntArray {
+    val tags = ArrayList<Int>()
+    when (configClone.getType(VALUE_KEY)) {
+      ReadableType.Map -> collectMappedNodeTags(configClone.getMap(VALUE_KEY), tags)
+      ReadableType.Array -> collectMappedNodeTags(configClone.getArray(VALUE_KEY), tags)
+      else -> Unit
+    }
+    return tags.toIntArray()
+  }
+
+  private fun collectMappedNodeTags(source: ReadableArray?, tags: MutableList<Int>) {
+    source ?: return
+    for (i in 0 until source.size()) {
+      when (source.getType(i)) {
+        ReadableType.Map -> collectMappedNodeTag(source.getMap(i), tags)
+        ReadableType.Array -> collectMappedNodeTags(source.getArray(i), tags)
+        else -> Unit
+      }
+    }
+  }
+
+  private fun collectMappedNodeTags(source: ReadableMap?, tags: MutableList<Int>) {
+    source ?: return
+    val iter = source.keySetIterator()
+    while (iter.hasNextKey()) {
+      val key = iter.nextKey()
+      when (source.getType(key)) {
+        ReadableType.Map -> collectMappedNodeTag(source.getMap(key), tags)
+        ReadableType.Array -> collectMappedNodeTags(source.getArray(key), tags)
+        else -> Unit
+      }
+    }
+  }
+
+  private fun collectMappedNodeTag(map: ReadableMap?, tags: MutableList<Int>) {
+    if (
+        map != null &&
+            map.hasKey(NODE_TAG_KEY) &&
+            map.getType(NODE_TAG_KEY) == ReadableType.Number
+    ) {
+      tags.add(map.getInt(NODE_TAG_KEY))
+    } else {
+      collectMappedNodeTags(map, tags)
+    }
+  }
+
   private fun collectViewUpdatesHelper(source: ReadableArray?): JavaOnlyArray? {
     source ?: return null
     val result = JavaOnlyArray()
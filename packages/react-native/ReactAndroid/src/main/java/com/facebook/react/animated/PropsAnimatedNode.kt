@@ -5,6 +5,8 @@
  * LICENSE file in the root directory of this source tree.
  */
 
+@file:Suppress("DEPRECATION") // ReactFeatureFlags.enableTypedAnimatedPropsUpdates
+
 package com.facebook.react.animated
 
 import android.view.View
@@ -12,6 +14,7 @@ import com.facebook.react.bridge.JSApplicationIllegalArgumentException
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.UIManager
+import com.facebook.react.config.ReactFeatureFlags
 
 /**
  * Animated node that represents view properties. There is a special handling logic implemented for
@@ -25,6 +28,9 @@ internal class PropsAnimatedNode(
   private var connectedViewTag = -1
   private val propNodeMapping: MutableMap<String, Int>
   private val propMap = JavaOnlyMap()
+  private val propsBuffer = AnimatedPropsBuffer()
+  private val propKeys: Array<String>
+  private val propNodeTags: IntArray
   private var connectedViewUIManager: UIManager? = null
 
   val connectedView: View?
@@ -41,6 +47,8 @@ internal class PropsAnimatedNode(
       val nodeIndex = props.getInt(propKey)
       propNodeMapping[propKey] = nodeIndex
     }
+    propKeys = propNodeMapping.keys.toTypedArray()
+    propNodeTags = IntArray(propKeys.size) { i -> propNodeMapping.getValue(propKeys[i]) }
   }
 
   fun connectToView(viewTag: Int, uiManager: UIManager?) {
@@ -51,6 +59,7 @@ internal class PropsAnimatedNode(
     }
     connectedViewTag = viewTag
     connectedViewUIManager = uiManager
+    propsBuffer.reset()
   }
 
   fun disconnectFromView(viewTag: Int) {
@@ -73,6 +82,10 @@ internal class PropsAnimatedNode(
     if (connectedViewTag == -1) {
       return
     }
+    if (ReactFeatureFlags.enableTypedAnimatedPropsUpdates) {
+      updateViewWithChangedProps()
+      return
+    }
     for ((key, value) in propNodeMapping) {
       val node = nativeAnimatedNodesManager.getNodeById(value)
       // The mapped node can be dropped mid-teardown (e.g. component unmounts during
@@ -105,6 +118,31 @@ internal class PropsAnimatedNode(
     connectedViewUIManager?.synchronouslyUpdateViewOnUIThread(connectedViewTag, propMap)
   }
 
+  private fun updateViewWithChangedProps() {
+    propsBuffer.beginFrame()
+    for (i in propKeys.indices) {
+      val key = propKeys[i]
+      // See updateView for why a missing node is skipped
+      when (val node = nativeAnimatedNodesManager.getNodeById(propNodeTags[i])) {
+        null -> continue
+        is StyleAnimatedNode -> node.collectViewUpdates(propsBuffer)
+        is ValueAnimatedNode -> propsBuffer.putAnimatedValue(key, node)
+        is ColorAnimatedNode -> propsBuffer.putInt(key, node.color)
+        is ObjectAnimatedNode -> node.collectViewUpdates(key, propsBuffer)
+        else ->
+            throw IllegalArgumentException(
+                "Unsupported type of node used in property node ${node.javaClass}",
+            )
+      }
+    }
+    if (propsBuffer.flushUpdates()) {
+      connectedViewUIManager?.synchronouslyUpdateViewOnUIThread(
+          connectedViewTag,
+          propsBuffer.updates,
+      )
+    }
+  }
+
   override fun prettyPrint(): String =
       "PropsAnimatedNode[$tag] connectedViewTag: $connectedViewTag " +
           "propNodeMapping: $propNodeMapping propMap: $propMap"
@@ -18,6 +18,9 @@ internal class StyleAnimatedNode(
     private val nativeAnimatedNodesManager: NativeAnimatedNodesManager,
 ) : AnimatedNode() {
   private val propMapping: Map<String, Int>
+  // propMapping flattened, so that the AnimatedPropsBuffer path doesn't allocate an iterator
+  private val propKeys: Array<String>
+  private val propNodeTags: IntArray
 
   init {
     val style = config.getMap("style")
@@ -29,6 +32,8 @@ internal class StyleAnimatedNode(
             put(propKey, style.getInt(propKey))
           }
         }
+    propKeys = propMapping.keys.toTypedArray()
+    propNodeTags = IntArray(propKeys.size) { i -> propMapping.getValue(propKeys[i]) }
   }
 
   fun collectViewUpdates(propsMap: JavaOnlyMap) {
@@ -58,5 +63,23 @@ internal class StyleAnimatedNode(
     }
   }
 
+  fun collectViewUpdates(propsBuffer: AnimatedPropsBuffer) {
+    for (i in propKeys.indices) {
+      val key = propKeys[i]
+      val node = nativeAnimatedNodesManager.getNodeById(propNodeTags[i])
+      requireNotNull(node) { "Mapped style node does not exist" }
+      when (node) {
+        is TransformAnimatedNode -> node.collectViewUpdates(propsBuffer)
+        is ValueAnimatedNode -> propsBuffer.putAnimatedValue(key, node)
+        is ColorAnimatedNode -> propsBuffer.putInt(key, node.color)
+        is ObjectAnimatedNode -> node.collectViewUpdates(key, propsBuffer)
+        else ->
+            throw IllegalArgumentException(
+                "Unsupported type of node used in property node ${node.javaClass}",
+            )
+      }
+    }
+  }
+
   override fun prettyPrint(): String = "StyleAnimatedNode[$tag] mPropMapping: $propMapping"
 }
@@ -20,6 +20,9 @@ internal class TransformAnimatedNode(
     private val nativeAnimatedNodesManager: NativeAnimatedNodesManager,
 ) : AnimatedNode() {
   private val transformConfigs: List<TransformConfig>
+  // Reused by the AnimatedPropsBuffer path, which copies them
+  private val transformProperties: Array<String?>
+  private val transformValues: DoubleArray
 
   init {
     val transforms = config.getArray("transforms")
@@ -42,6 +45,8 @@ internal class TransformAnimatedNode(
                 transformConfig
               }
             }
+    transformProperties = Array(transformConfigs.size) { i -> transformConfigs[i].property }
+    transformValues = DoubleArray(transformConfigs.size)
   }
 
   fun collectViewUpdates(propsMap: JavaOnlyMap) {
@@ -71,6 +76,26 @@ internal class TransformAnimatedNode(
     propsMap.putArray("transform", JavaOnlyArray.from(transforms))
   }
 
+  fun collectViewUpdates(propsBuffer: AnimatedPropsBuffer) {
+    for (i in transformConfigs.indices) {
+      val transformConfig = transformConfigs[i]
+      transformValues[i] =
+          if (transformConfig is AnimatedTransformConfig) {
+            when (val node = nativeAnimatedNodesManager.getNodeById(transformConfig.nodeTag)) {
+              null -> throw IllegalArgumentException("Mapped style node does not exist")
+              is ValueAnimatedNode -> node.getValue()
+              else ->
+                  throw IllegalArgumentException(
+                      "Unsupported type of node used as a transform child node ${node.javaClass}",
+                  )
+            }
+          } else {
+            (transformConfig as StaticTransformConfig).value
+          }
+    }
+    propsBuffer.putTransform(TRANSFORM_KEY, transformProperties, transformValues)
+  }
+
   override fun prettyPrint(): String =
       "TransformAnimatedNode[$tag]: transformConfigs: $transformConfigs"
 
@@ -85,4 +110,8 @@ internal class TransformAnimatedNode(
   private inner class StaticTransformConfig : TransformConfig() {
     var value = 0.0
   }
+
+  private companion object {
+    private const val TRANSFORM_KEY = "transform"
+  }
 }
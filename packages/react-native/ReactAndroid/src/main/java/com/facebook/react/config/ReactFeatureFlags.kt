@@ -32,4 +32,83 @@ public object ReactFeatureFlags {
    * TODO: Move this flag to ReactNativeFeatureFlags
    */
   @JvmField public var enableKeyDownEvents: Boolean = false
+
+  /**
+   * Android TV: Resolve D-pad focus search through a per-surface spatial index of focusable views
+   * instead of letting FocusFinder collect and score every focusable in the window. The index is
+   * kept up to date by the Fabric mounting layer, so it is only used for Fabric surfaces.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var enableSpatialFocusIndex: Boolean = false
+
+  /**
+   * Android TV: Also dispatch hardware key events to the focused Fabric view as pooled
+   * `topHWKeyEvent` view events (`onHWKeyEvent` / `onHWKeyEventCapture` props), alongside the
+   * `onHWKeyEvent` device event that TVEventHandler listens to, unless
+   * [emitHWKeyDeviceEventsWithTypedEvents] is turned off.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var enableTypedHWKeyEvents: Boolean = false
+
+  /**
+   * Android TV: Whether keys dispatched as typed view events with [enableTypedHWKeyEvents] are also
+   * emitted as the `onHWKeyEvent` device event. Turn it off when the app only handles the typed
+   * events, so every key doesn't cost a second payload map and JS call.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var emitHWKeyDeviceEventsWithTypedEvents: Boolean = true
+
+  /**
+   * Android TV: Collapse the key down repeats sent while a key is held down, so that JS receives
+   * at most one key down per key per frame, with the `repeatCount` of the latest repeat.
+   * Applies to both the TV remote events and the `onKeyDown` events.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var enableKeyRepeatCoalescing: Boolean = false
+
+  /**
+   * Android TV: When [enableKeyRepeatCoalescing] is set, the maximum number of coalesced key
+   * repeats delivered per second for each key. 0 delivers them once per frame.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var keyRepeatMaxEventsPerSecond: Int = 0
+
+  /**
+   * Android TV: Fraction of each frame that Fabric may spend executing pre mount items (view
+   * preallocation) before deferring the rest to the next frame. The frame duration follows the
+   * refresh rate of the display, so this keeps the same share of the frame at 50, 60 or 120 Hz.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var preMountItemsFrameBudgetFraction: Float = 0.5f
+
+  /**
+   * Android TV: Collect the props of natively driven animations in preallocated per-prop slots,
+   * and only send the view the props whose value changed since the previous frame, instead of
+   * rebuilding and sending every animated prop each frame.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var enableTypedAnimatedPropsUpdates: Boolean = false
+
+  /**
+   * Android TV: When greater than 0, BlobModule keeps blob contents off the Java heap, in direct
+   * buffers up to this many bytes in total, and spills the least recently used blobs to files in
+   * the no-backup files directory. 0 keeps every blob in a byte array on the Java heap.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var blobStoreMaxMemoryBytes: Long = 0L
+
+  /**
+   * Android TV: The most bytes that the blobs spilled to files by BlobModule take on disk, when
+   * [blobStoreMaxMemoryBytes] is set. The least recently used spilled blobs are removed beyond it.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var blobStoreMaxDiskBytes: Long = 256L * 1024 * 1024
+
+  /**
+   * Android TV: Send text and base64 network responses to JS in chunks as they are downloaded,
+   * with backpressure against the JS thread, instead of reading and encoding the whole body into
+   * one string on the Java heap first.
+   * TODO: Move this flag to ReactNativeFeatureFlags
+   */
+  @JvmField public var enableStreamingNetworkResponses: Boolean = false
 }
@@ -36,6 +36,7 @@ import com.facebook.infer.annotation.ThreadConfined;
 import com.facebook.proguard.annotations.DoNotStripAny;
 import com.facebook.react.bridge.ColorPropConverter;
 import com.facebook.react.bridge.GuardedRunnable;
+import com.facebook.react.bridge.JavaOnlyMap;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.NativeArray;
 import com.facebook.react.bridge.NativeMap;
@@ -58,6 +59,8 @@ import com.facebook.react.fabric.events.FabricEventEmitter;
 import com.facebook.react.fabric.internal.interop.InteropUIBlockListener;
 import com.facebook.react.fabric.interop.UIBlock;
 import com.facebook.react.fabric.interop.UIBlockViewResolver;
+import com.facebook.react.fabric.mounting.FrameIntervalTracker;
+import com.facebook.react.fabric.mounting.MeasurementCache;
 import com.facebook.react.fabric.mounting.MountItemDispatcher;
 import com.facebook.react.fabric.mounting.MountingManager;
 import com.facebook.react.fabric.mounting.SurfaceMountingManager;
@@ -194,6 +197,7 @@ public class FabricUIManager
 
   @ThreadConfined(UI)
   private final DispatchUIFrameCallback mDispatchUIFrameCallback;
+  private final FrameIntervalTracker mFrameIntervalTracker;
 
   /** Set of events sent synchronously during the current frame render. Cleared after each frame. */
   @ThreadConfined(UI)
@@ -249,14 +253,17 @@ public class FabricUIManager
     mDispatchUIFrameCallback = new DispatchUIFrameCallback(reactContext);
     mReactApplicationContext = reactContext;
     mMountingManager = new MountingManager(viewManagerRegistry, mMountItemExecutor);
+    mFrameIntervalTracker = new FrameIntervalTracker(reactContext);
     mMountItemDispatcher =
-        new MountItemDispatcher(mMountingManager, new MountItemDispatchListener());
+        new MountItemDispatcher(
+            mMountingManager, new MountItemDispatchListener(), mFrameIntervalTracker);
     mEventDispatcher = new FabricEventDispatcher(reactContext, new FabricEventEmitter(this));
     mBatchEventDispatchedListener = batchEventDispatchedListener;
     mReactApplicationContext.addLifecycleEventListener(this);
 
     mViewManagerRegistry = viewManagerRegistry;
     mReactApplicationContext.registerComponentCallbacks(viewManagerRegistry);
+    mReactApplicationContext.registerComponentCallbacks(mMountingManager.getMeasurementCache());
   }
 
   @Override
@@ -421,6 +428,18 @@ public class FabricUIManager
     mBinding.stopSurfaceWithSurfaceHandler(surfaceHandler);
   }
 
+  /**
+   * Keeps {@code count} Views of {@code componentName} created ahead of time for every running
+   * surface, including surfaces started in the background, so mounting the component later
+   * doesn't pay for creating them. Views are created while the UI thread is idle, with {@code
+   * baseProps} applied: these should be props every instance of the component gets. Pass a count
+   * of 0 to stop.
+   */
+  @AnyThread
+  public void setViewPrewarming(String componentName, int count, @Nullable ReadableMap baseProps) {
+    mMountingManager.setViewPrewarming(componentName, count, baseProps);
+  }
+
   /** Method called when an event has been dispatched on the C++ side. */
   @SuppressWarnings("unused")
   public void onRequestEventBeat() {
@@ -481,6 +500,7 @@ public class FabricUIManager
     mEventDispatcher.invalidate();
 
     mReactApplicationContext.unregisterComponentCallbacks(mViewManagerRegistry);
+    mReactApplicationContext.unregisterComponentCallbacks(mMountingManager.getMeasurementCache());
     mViewManagerRegistry.invalidate();
 
     // Remove lifecycle listeners (onHostResume, onHostPause) since the FabricUIManager is going
@@ -617,6 +637,7 @@ public class FabricUIManager
     }
 
     return mMountingManager.measure(
+        surfaceId,
         context,
         componentName,
         localData,
@@ -809,15 +830,18 @@ public class FabricUIManager
     //    android.view.View.updateDisplayListIfDirty(View.java:20466)
     // 3. A view is deleted while its parent is being drawn, causing a crash.
 
-    MountItem synchronousMountItem = new SynchronousMountItem(reactTag, props);
-
     // If the reactTag exists, we assume that it might at the end of the next
     // batch of MountItems. Otherwise, we try to execute immediately.
     if (!mMountingManager.getViewExists(reactTag)) {
-      mMountItemDispatcher.addMountItem(synchronousMountItem);
+      // Callers such as PropsAnimatedNode reuse the props map across frames, so keep a copy of it
+      // for when the view is created.
+      mMountItemDispatcher.addMountItem(
+          new SynchronousMountItem(reactTag, JavaOnlyMap.deepClone(props)));
       return;
     }
 
+    MountItem synchronousMountItem = new SynchronousMountItem(reactTag, props);
+
     ReactMarker.logFabricMarker(
         ReactMarkerConstants.FABRIC_UPDATE_UI_MAIN_THREAD_START, null, commitNumber);
 
@@ -1269,6 +1293,7 @@ public class FabricUIManager
 
   @Override
   public void onHostResume() {
+    mFrameIntervalTracker.start();
     mDispatchUIFrameCallback.resume();
   }
 
@@ -1280,6 +1305,7 @@ public class FabricUIManager
   @Override
   public void onHostPause() {
     mDispatchUIFrameCallback.pause();
+    mFrameIntervalTracker.stop();
   }
 
   @Override
@@ -1474,6 +1500,10 @@ public class FabricUIManager
     performanceCounters.put("BatchedExecutionTime", mMountItemDispatcher.getBatchedExecutionTime());
     performanceCounters.put("FinishFabricTransactionTime", mFinishTransactionTime);
     performanceCounters.put("FinishFabricTransactionCPPTime", mFinishTransactionCPPTime);
+    performanceCounters.putAll(mViewManagerRegistry.getViewRecyclingCounters());
+    MeasurementCache measurementCache = mMountingManager.getMeasurementCache();
+    performanceCounters.put("MeasurementCacheHits", measurementCache.getHitCount());
+    performanceCounters.put("MeasurementCacheMisses", measurementCache.getMissCount());
     return performanceCounters;
   }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric.mounting
+
+import android.content.Context
+import android.hardware.display.DisplayManager
+import android.os.Handler
+import android.os.Looper
+import android.view.Display
+import androidx.annotation.UiThread
+import com.facebook.systrace.Systrace
+
+/**
+ * Tracks the vsync interval of the default display, so that per-frame budgets follow the actual
+ * refresh rate (50 Hz, 59.94 Hz, 120 Hz...) instead of assuming 60 Hz. The interval is updated
+ * whenever the display changes modes, which some TV devices do when video playback starts.
+ */
+internal class FrameIntervalTracker(context: Context) : DisplayManager.DisplayListener {
+
+  private val displayManager: DisplayManager? =
+      context.getSystemService(Context.DISPLAY_SERVICE) as? DisplayManager
+  private var isListening = false
+
+  /** Duration of a frame on the default display, in nanoseconds. */
+  @Volatile
+  var frameIntervalNanos: Long = DEFAULT_FRAME_INTERVAL_NS
+    private set
+
+  @UiThread
+  fun start() {
+    val displayManager = displayManager ?: return
+    if (isListening) {
+      return
+    }
+    isListening = true
+    displayManager.registerDisplayListener(this, Handler(Looper.getMainLooper()))
+    updateFrameInterval()
+  }
+
+  @UiThread
+  fun stop() {
+    if (!isListening) {
+      return
+    }
+    isListening = false
+    displayManager?.unregisterDisplayListener(this)
+  }
+
+  override fun onDisplayAdded(displayId: Int) = Unit
+
+  override fun onDisplayRemoved(displayId: Int) = Unit
+
+  override fun onDisplayChanged(displayId: Int) {
+    if (displayId == Display.DEFAULT_DISPLAY) {
+      updateFrameInterval()
+    }
+  }
+
+  private fun updateFrameInterval() {
+    val refreshRate = displayManager?.getDisplay(Display.DEFAULT_DISPLAY)?.refreshRate ?: 0f
+    val newFrameIntervalNanos =
+        if (refreshRate >= MIN_REFRESH_RATE) {
+          (NANOS_PER_SECOND / refreshRate).toLong()
+        } else {
+          DEFAULT_FRAME_INTERVAL_NS
+        }
+    if (newFrameIntervalNanos != frameIntervalNanos) {
+      frameIntervalNanos = newFrameIntervalNanos
+      Systrace.traceCounter(
+          Systrace.TRACE_TAG_REACT,
+          "FrameIntervalTracker::frameIntervalUs",
+          (newFrameIntervalNanos / 1000).toInt(),
+      )
+    }
+  }
+
+  companion object {
+    const val DEFAULT_FRAME_INTERVAL_NS: Long = 1_000_000_000L / 60
+
+    private const val NANOS_PER_SECOND = 1_000_000_000.0
+    // Anything below this is not a plausible refresh rate, and is most likely a broken display
+    private const val MIN_REFRESH_RATE = 10f
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric.mounting
+
+import android.content.ComponentCallbacks2
+import android.content.res.Configuration
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.yoga.YogaMeasureMode
+import kotlin.math.roundToInt
+
+/**
+ * Remembers the results of [com.facebook.react.uimanager.ViewManager.measure], so that layout
+ * passes over many identical native components (e.g. a list of switches) don't measure each of
+ * them again. Only used for view managers that opt in with
+ * [com.facebook.react.uimanager.ViewManager.isMeasureCacheable].
+ *
+ * Entries are keyed by surface, as each surface measures with its own context, component name,
+ * localData, props and state, and the constraints quantised to [CONSTRAINT_QUANTUM]. The maps are
+ * compared with their own equals and hashCode, which don't copy them. As measurements also depend
+ * on the configuration (font scale, density, night mode, locale...), the cache is cleared whenever
+ * it changes. At most [maxEntries] measurements are kept, the least recently used being dropped
+ * first.
+ *
+ * Can be used from any thread.
+ */
+internal class MeasurementCache(private val maxEntries: Int = DEFAULT_MAX_ENTRIES) :
+    ComponentCallbacks2 {
+
+  private data class Key(
+      val surfaceId: Int,
+      val componentName: String,
+      val localData: ReadableMap?,
+      val props: ReadableMap?,
+      val state: ReadableMap?,
+      val width: Int,
+      val widthMode: YogaMeasureMode?,
+      val height: Int,
+      val heightMode: YogaMeasureMode?,
+  )
+
+  private val entries =
+      object : LinkedHashMap<Key, Long>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Long>): Boolean =
+            size > maxEntries
+      }
+
+  /** Number of measurements answered from the cache. */
+  @get:Synchronized
+  var hitCount: Long = 0
+    private set
+
+  /** Number of measurements that had to be made. */
+  @get:Synchronized
+  var missCount: Long = 0
+    private set
+
+  /** Number of measurements in the cache. */
+  val size: Int
+    @Synchronized get() = entries.size
+
+  /**
+   * Returns the cached measurement of a component for these constraints, or makes it with
+   * [measure] and caches it.
+   */
+  fun getOrMeasure(
+      surfaceId: Int,
+      componentName: String,
+      localData: ReadableMap?,
+      props: ReadableMap?,
+      state: ReadableMap?,
+      width: Float,
+      widthMode: YogaMeasureMode?,
+      height: Float,
+      heightMode: YogaMeasureMode?,
+      measure: () -> Long,
+  ): Long {
+    val key =
+        Key(
+            surfaceId,
+            componentName,
+            localData,
+            props,
+            state,
+            quantise(width, widthMode),
+            widthMode,
+            quantise(height, heightMode),
+            heightMode,
+        )
+    get(key)?.let {
+      return it
+    }
+    val result = measure()
+    put(key, result)
+    return result
+  }
+
+  @Synchronized
+  private fun get(key: Key): Long? {
+    val result = entries[key]
+    if (result != null) {
+      hitCount++
+    } else {
+      missCount++
+    }
+    return result
+  }
+
+  @Synchronized
+  private fun put(key: Key, result: Long) {
+    entries[key] = result
+  }
+
+  @Synchronized
+  fun clear() {
+    entries.clear()
+  }
+
+  /** Drops the measurements made for a surface, e.g. when it's stopped. */
+  @Synchronized
+  fun removeSurface(surfaceId: Int) {
+    entries.keys.removeAll { it.surfaceId == surfaceId }
+  }
+
+  /** ComponentCallbacks2 method. */
+  override fun onConfigurationChanged(newConfig: Configuration) {
+    clear()
+  }
+
+  /** ComponentCallbacks2 method. */
+  @Suppress("DEPRECATION") // TRIM_MEMORY_RUNNING_CRITICAL is still reported on older devices
+  override fun onTrimMemory(level: Int) {
+    if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+      clear()
+    }
+  }
+
+  /** ComponentCallbacks2 method. */
+  @Deprecated("Overrides deprecated ComponentCallbacks2.onLowMemory()")
+  override fun onLowMemory() {
+    clear()
+  }
+
+  private companion object {
+    private const val DEFAULT_MAX_ENTRIES = 256
+
+    /** Constraints closer than this share their measurements. */
+    private const val CONSTRAINT_QUANTUM = 1 / 16f
+
+    /** Sizes are ignored by undefined measure modes, so they don't take part in the key. */
+    private fun quantise(size: Float, mode: YogaMeasureMode?): Int =
+        if (mode == null || mode == YogaMeasureMode.UNDEFINED || !size.isFinite()) 0
+        else (size / CONSTRAINT_QUANTUM).roundToInt()
+  }
+}
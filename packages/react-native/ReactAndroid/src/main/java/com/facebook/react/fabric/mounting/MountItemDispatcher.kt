@@ -17,6 +17,7 @@ import com.facebook.react.bridge.ReactIgnorableMountingException
 import com.facebook.react.bridge.ReactNoCrashSoftException
 import com.facebook.react.bridge.ReactSoftExceptionLogger
 import com.facebook.react.bridge.RetryableMountingLayerException
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.fabric.FabricUIManager
 import com.facebook.react.fabric.mounting.mountitems.DispatchCommandMountItem
 import com.facebook.react.fabric.mounting.mountitems.MountItem
@@ -25,14 +26,19 @@ import com.facebook.react.internal.tracing.PerformanceTracer
 import com.facebook.systrace.Systrace
 import java.util.Queue
 import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
 
 internal class MountItemDispatcher(
     private val mountingManager: MountingManager,
     private val itemDispatchListener: ItemDispatchListener,
+    private val frameIntervalTracker: FrameIntervalTracker,
 ) {
   private val viewCommandMountItems: Queue<DispatchCommandMountItem> = ConcurrentLinkedQueue()
   private val mountItems: Queue<MountItem> = ConcurrentLinkedQueue()
   private val preMountItems: Queue<MountItem> = ConcurrentLinkedQueue()
+  // ConcurrentLinkedQueue.size is O(n), so keep count of the pre mount items for tracing
+  private val preMountItemCount = AtomicInteger()
+  private var lastDeferredPreMountItemCount = 0
 
   private var inDispatch: Boolean = false
   var batchedExecutionTime: Long = 0L
@@ -62,6 +68,7 @@ internal class MountItemDispatcher(
     // both to queue, to drain, and to execute.
     if (!mountingManager.surfaceIsStopped(mountItem.getSurfaceId())) {
       preMountItems.add(mountItem)
+      preMountItemCount.incrementAndGet()
     } else if (FabricUIManager.IS_DEVELOPMENT_ENVIRONMENT) {
       FLog.e(
           TAG,
@@ -318,11 +325,38 @@ internal class MountItemDispatcher(
 
     if (preMountItems.isEmpty()) {
       // Avoid starting systrace if there are no pre mount items.
+      traceDeferredPreMountItems(0)
       return
     }
 
-    val deadline = lastFrameTimeNanos + FRAME_TIME_NS / 2
-    dispatchPreMountItemsImpl(deadline)
+    val budgetNanos = getPreMountItemsBudgetNanos()
+    Systrace.traceCounter(
+        Systrace.TRACE_TAG_REACT,
+        "MountItemDispatcher::preMountBudgetUs",
+        (budgetNanos / 1000).toInt(),
+    )
+    dispatchPreMountItemsImpl(lastFrameTimeNanos + budgetNanos)
+    traceDeferredPreMountItems(preMountItemCount.get())
+  }
+
+  /**
+   * The part of the current frame that can be spent on pre mount items, based on the refresh rate
+   * of the display and [ReactFeatureFlags.preMountItemsFrameBudgetFraction].
+   */
+  private fun getPreMountItemsBudgetNanos(): Long {
+    val fraction = ReactFeatureFlags.preMountItemsFrameBudgetFraction.coerceIn(0f, 1f)
+    return (frameIntervalTracker.frameIntervalNanos * fraction).toLong()
+  }
+
+  private fun traceDeferredPreMountItems(deferredCount: Int) {
+    if (deferredCount != lastDeferredPreMountItemCount) {
+      lastDeferredPreMountItemCount = deferredCount
+      Systrace.traceCounter(
+          Systrace.TRACE_TAG_REACT,
+          "MountItemDispatcher::deferredPreMountItems",
+          deferredCount,
+      )
+    }
   }
 
   private fun dispatchPreMountItemsImpl(deadline: Long) {
@@ -346,6 +380,7 @@ internal class MountItemDispatcher(
 
               // If list is empty, `poll` will return null, or var will never be set
               val preMountItemToDispatch = preMountItems.poll() ?: break
+              preMountItemCount.decrementAndGet()
               if (ReactNativeFeatureFlags.enableFabricLogs()) {
                 printMountItem(preMountItemToDispatch, "dispatchPreMountItems")
               }
@@ -391,7 +426,10 @@ internal class MountItemDispatcher(
 
   @ThreadConfined(UI)
   @UiThread
-  private fun getAndResetPreMountItems(): List<MountItem>? = drainConcurrentItemQueue(preMountItems)
+  private fun getAndResetPreMountItems(): List<MountItem>? =
+      drainConcurrentItemQueue(preMountItems)?.also {
+        traceDeferredPreMountItems(preMountItemCount.addAndGet(-it.size))
+      }
 
   interface ItemDispatchListener {
     fun willMountItems(mountItems: List<MountItem>?)
@@ -404,8 +442,6 @@ internal class MountItemDispatcher(
   private companion object {
     private const val TAG: String = "MountItemDispatcher"
 
-    private const val FRAME_TIME_NS: Long = (1000000000 / 60).toLong()
-
     private fun <E> drainConcurrentItemQueue(queue: Queue<E>): List<E>? {
       if (queue.isEmpty()) {
         return null
@@ -49,6 +49,10 @@ internal class MountingManager(
 
   private val jsResponderHandler = JSResponderHandler()
   private val rootViewManager = RootViewManager()
+  private val viewPrewarmer = ViewPrewarmer(viewManagerRegistry) { surfaceIdToManager.values }
+
+  /** Measurements of components, to be cleared on configuration changes. */
+  val measurementCache = MeasurementCache()
 
   internal fun interface MountItemExecutor {
     @UiThread @ThreadConfined(ThreadConfined.UI) fun executeItems(items: Queue<MountItem>)
@@ -71,6 +75,7 @@ internal class MountingManager(
         rootViewManager,
         mountItemExecutor,
         checkNotNull(reactContext),
+        viewPrewarmer,
     )
 
     // There could technically be a race condition here if addRootView is called twice from
@@ -94,9 +99,20 @@ internal class MountingManager(
       surfaceMountingManager.attachRootView(rootView, reactContext)
     }
 
+    viewPrewarmer.onSurfaceStarted()
+
     return surfaceMountingManager
   }
 
+  /**
+   * Keeps [count] Views of [componentName] created ahead of time for every running surface, with
+   * [baseProps] applied. They are created while the UI thread is idle.
+   */
+  @AnyThread
+  fun setViewPrewarming(componentName: String, count: Int, baseProps: ReadableMap?) {
+    viewPrewarmer.setPrewarming(componentName, count, baseProps)
+  }
+
   @AnyThread
   fun attachRootView(surfaceId: Int, rootView: View, themedReactContext: ThemedReactContext) {
     val surfaceMountingManager = getSurfaceManagerEnforced(surfaceId, "attachView")
@@ -118,6 +134,7 @@ internal class MountingManager(
       stoppedSurfaceIds.add(surfaceId)
 
       surfaceMountingManager.stopSurface()
+      measurementCache.removeSurface(surfaceId)
 
       if (mostRecentSurfaceMountingManager === surfaceMountingManager) {
         mostRecentSurfaceMountingManager = null
@@ -301,6 +318,7 @@ internal class MountingManager(
    */
   @AnyThread
   fun measure(
+      surfaceId: Int,
       context: ReactContext?,
       componentName: String?,
       localData: ReadableMap?,
@@ -311,20 +329,46 @@ internal class MountingManager(
       height: Float,
       heightMode: YogaMeasureMode?,
       attachmentsPositions: FloatArray?,
-  ): Long =
-      viewManagerRegistry
-          .get(checkNotNull(componentName))
-          .measure(
-              context,
-              localData,
-              props,
-              state,
-              width,
-              widthMode,
-              height,
-              heightMode,
-              attachmentsPositions,
-          )
+  ): Long {
+    val viewManager = viewManagerRegistry.get(checkNotNull(componentName))
+    // Attachment positions are an output of the measurement, which isn't cached
+    if (!viewManager.isMeasureCacheable || attachmentsPositions != null) {
+      return viewManager.measure(
+          context,
+          localData,
+          props,
+          state,
+          width,
+          widthMode,
+          height,
+          heightMode,
+          attachmentsPositions,
+      )
+    }
+    return measurementCache.getOrMeasure(
+        surfaceId,
+        componentName,
+        localData,
+        props,
+        state,
+        width,
+        widthMode,
+        height,
+        heightMode,
+    ) {
+      viewManager.measure(
+          context,
+          localData,
+          props,
+          state,
+          width,
+          widthMode,
+          height,
+          heightMode,
+          null,
+      )
+    }
+  }
 
   fun dispatchEvent(
       surfaceId: Int,
@@ -34,6 +34,7 @@ import com.facebook.react.bridge.WritableNativeMap
 import com.facebook.react.common.annotations.UnstableReactNativeAPI
 import com.facebook.react.common.build.ReactBuildConfig
 import com.facebook.react.common.mapbuffer.MapBuffer
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.fabric.events.EventEmitterWrapper
 import com.facebook.react.fabric.mounting.MountingManager.MountItemExecutor
 import com.facebook.react.fabric.mounting.mountitems.MountItem
@@ -51,6 +52,7 @@ import com.facebook.react.uimanager.ThemedReactContext
 import com.facebook.react.uimanager.ViewManager
 import com.facebook.react.uimanager.ViewManagerRegistry
 import com.facebook.react.uimanager.events.EventCategoryDef
+import com.facebook.react.views.view.SpatialFocusIndex
 import com.facebook.systrace.Systrace
 import java.util.ArrayDeque
 import java.util.LinkedList
@@ -74,6 +76,7 @@ internal constructor(
     rootViewManager: RootViewManager,
     mountItemExecutor: MountItemExecutor,
     reactContext: ThemedReactContext,
+    private val viewPrewarmer: ViewPrewarmer? = null,
 ) {
   @Volatile
   public var isStopped: Boolean = false
@@ -173,6 +176,10 @@ internal constructor(
               rootView.setRootViewTag(surfaceId)
             }
 
+            if (ReactFeatureFlags.enableSpatialFocusIndex && rootView is ViewGroup) {
+              SpatialFocusIndex.install(rootView)
+            }
+
             executeMountItemsOnViewAttach()
 
             // By doing this after `executeMountItemsOnViewAttach`, we ensure that any operations
@@ -380,6 +387,8 @@ internal constructor(
       )
     }
 
+    SpatialFocusIndex.onChildrenChanged(parentView)
+
     // Display children after inserting
     if (SHOW_CHANGED_VIEW_HIERARCHIES) {
       // Why are we calling `runOnUiThread`? We're already on the UI thread, right?!
@@ -517,6 +526,8 @@ internal constructor(
       )
     }
 
+    SpatialFocusIndex.onChildrenChanged(parentView)
+
     // Display children after deleting any
     if (SHOW_CHANGED_VIEW_HIERARCHIES) {
       UiThreadUtil.runOnUiThread {
@@ -607,6 +618,7 @@ internal constructor(
                 jsResponderHandler,
             )
         viewState.viewManager = viewManager
+        viewPrewarmer?.onViewCreated(componentName)
       }
     } finally {
       Systrace.endSection(Systrace.TRACE_TAG_REACT)
@@ -856,6 +868,8 @@ internal constructor(
       viewToUpdate.layout(x, y, x + width, y + height)
     }
 
+    SpatialFocusIndex.onLayoutChanged(viewToUpdate)
+
     // displayType: 0 represents display: 'none'
     val visibility = if (displayType == 0) View.INVISIBLE else View.VISIBLE
     if (viewToUpdate.visibility != visibility) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric.mounting
+
+import android.os.Looper
+import android.os.MessageQueue
+import androidx.annotation.UiThread
+import com.facebook.common.logging.FLog
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.UiThreadUtil
+import com.facebook.react.uimanager.IllegalViewOperationException
+import com.facebook.react.uimanager.ReactStylesDiffMap
+import com.facebook.react.uimanager.ViewManagerRegistry
+
+/**
+ * Keeps a number of Views of some components created ahead of time for every running surface, so
+ * mounting them later (e.g. when navigating to a new screen) doesn't pay for their creation. Views
+ * are created one at a time while the UI thread's message queue is idle, and replaced the same way
+ * once they're used.
+ */
+internal class ViewPrewarmer(
+    private val viewManagerRegistry: ViewManagerRegistry,
+    private val surfaces: () -> Collection<SurfaceMountingManager>,
+) : MessageQueue.IdleHandler {
+
+  private class Spec(val count: Int, val baseProps: ReactStylesDiffMap?)
+
+  // Only accessed on the UI thread
+  private val specs = LinkedHashMap<String, Spec>()
+  private var scheduled = false
+
+  /**
+   * Keeps [count] Views of [componentName] created ahead of time, with [baseProps] applied. A count
+   * of 0 stops creating them.
+   */
+  fun setPrewarming(componentName: String, count: Int, baseProps: ReadableMap?) {
+    UiThreadUtil.runOnUiThread {
+      if (count > 0) {
+        specs[componentName] = Spec(count, baseProps?.let { ReactStylesDiffMap(it) })
+        schedule()
+      } else {
+        specs.remove(componentName)
+      }
+    }
+  }
+
+  /** Called when a surface starts, to fill its pools. */
+  fun onSurfaceStarted() {
+    UiThreadUtil.runOnUiThread { schedule() }
+  }
+
+  /** Called when a View is created, to replace it if it was taken from a pool. */
+  @UiThread
+  fun onViewCreated(componentName: String) {
+    if (specs.containsKey(componentName)) {
+      schedule()
+    }
+  }
+
+  @UiThread
+  private fun schedule() {
+    if (!scheduled && specs.isNotEmpty()) {
+      Looper.myQueue().addIdleHandler(this)
+      scheduled = true
+    }
+  }
+
+  /** Creates a single View per idle window, and stays registered while more are needed. */
+  @UiThread
+  override fun queueIdle(): Boolean {
+    for (surface in surfaces()) {
+      val context = surface.context
+      if (surface.isStopped || context == null) {
+        continue
+      }
+      for ((componentName, spec) in specs) {
+        val viewManager =
+            try {
+              viewManagerRegistry.get(componentName)
+            } catch (e: IllegalViewOperationException) {
+              FLog.w(TAG, "Unable to prewarm unknown component $componentName")
+              specs.remove(componentName)
+              return true
+            }
+        if (viewManager.getWarmViewCount(surface.surfaceId) < spec.count) {
+          viewManager.prewarmView(context, spec.baseProps)
+          return true
+        }
+      }
+    }
+    scheduled = false
+    return false
+  }
+
+  private companion object {
+    private const val TAG = "ViewPrewarmer"
+  }
+}
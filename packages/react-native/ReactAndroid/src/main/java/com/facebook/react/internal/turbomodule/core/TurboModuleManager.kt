@@ -21,6 +21,7 @@ import com.facebook.react.turbomodule.core.interfaces.CallInvokerHolder
 import com.facebook.react.turbomodule.core.interfaces.NativeMethodCallInvokerHolder
 import com.facebook.react.turbomodule.core.interfaces.TurboModule
 import com.facebook.soloader.SoLoader
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.concurrent.Volatile
 
 /**
@@ -43,11 +44,15 @@ public class TurboModuleManager(
   // Prevents the creation of new TurboModules once cleanup as been initiated.
   private val moduleCleanupLock = Object()
 
-  @GuardedBy("moduleCleanupLock") private var moduleCleanupStarted = false
+  // Written under moduleCleanupLock, read without it by the lookup fast path
+  @Volatile private var moduleCleanupStarted = false
 
   // List of TurboModules that have been, or are currently being, instantiated
   @GuardedBy("moduleCleanupLock") private val moduleHolders = mutableMapOf<String, ModuleHolder>()
 
+  // ModuleHolders done creating their module, looked up without locking once a module is created
+  private val createdModuleHolders = ConcurrentHashMap<String, ModuleHolder>()
+
   @Suppress("NoHungarianNotation")
   @DoNotStrip
   private val mHybridData: HybridData = initHybrid(
@@ -130,6 +135,15 @@ public class TurboModuleManager(
    * after TurboModuleManager has been torn down.
    */
   override fun getModule(moduleName: String): NativeModule? {
+    // Fast path for modules already created. Reading moduleCleanupStarted before the map means
+    // no module is returned once invalidate() has started.
+    if (!moduleCleanupStarted) {
+      val createdModuleHolder = createdModuleHolders[moduleName]
+      if (createdModuleHolder != null) {
+        return getCreatedModule(moduleName, createdModuleHolder)
+      }
+    }
+
     val moduleHolder: ModuleHolder?
 
     synchronized(moduleCleanupLock) {
@@ -173,6 +187,18 @@ public class TurboModuleManager(
     return module
   }
 
+  private fun getCreatedModule(moduleName: String, moduleHolder: ModuleHolder): NativeModule? {
+    val module = moduleHolder.module
+    TurboModulePerfLogger.moduleCreateStart(moduleName, moduleHolder.moduleId)
+    TurboModulePerfLogger.moduleCreateCacheHit(moduleName, moduleHolder.moduleId)
+    if (module != null) {
+      TurboModulePerfLogger.moduleCreateEnd(moduleName, moduleHolder.moduleId)
+    } else {
+      TurboModulePerfLogger.moduleCreateFail(moduleName, moduleHolder.moduleId)
+    }
+    return module
+  }
+
   /**
    * Given a ModuleHolder, and the TurboModule's moduleName, return the TurboModule instance.
    *
@@ -234,6 +260,8 @@ public class TurboModuleManager(
       TurboModulePerfLogger.moduleCreateSetUpEnd(moduleName, moduleHolder.moduleId)
       synchronized(moduleHolder) {
         moduleHolder.endCreatingModule()
+        // Published before waking up invalidate(), which clears createdModuleHolders after
+        createdModuleHolders[moduleName] = moduleHolder
         (moduleHolder as Object).notifyAll()
       }
 
@@ -271,6 +299,9 @@ public class TurboModuleManager(
     }
 
   override fun hasModule(moduleName: String): Boolean {
+    createdModuleHolders[moduleName]?.let {
+      return it.module != null
+    }
     val moduleHolder = synchronized(moduleCleanupLock) { moduleHolders[moduleName] ?: return false }
     return synchronized(moduleHolder) { moduleHolder.module != null }
   }
@@ -307,6 +338,7 @@ public class TurboModuleManager(
     }
 
     moduleHolders.clear()
+    createdModuleHolders.clear()
 
     // Delete the native part of this hybrid class.
     mHybridData.resetNative()
@@ -20,31 +20,33 @@ import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.WritableMap
 import com.facebook.react.bridge.buildReadableMap
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.module.annotations.ReactModule
 import com.facebook.react.modules.network.NetworkingModule
 import com.facebook.react.modules.websocket.WebSocketModule
 import com.facebook.react.turbomodule.core.interfaces.BindingsInstallerHolder
 import com.facebook.react.turbomodule.core.interfaces.TurboModuleWithJSIBindings
 import com.facebook.soloader.SoLoader
-import java.io.ByteArrayOutputStream
 import java.io.File
 import java.io.FileNotFoundException
 import java.io.IOException
+import java.io.InputStream
 import java.nio.ByteBuffer
 import java.nio.charset.Charset
 import java.util.ArrayList
-import java.util.Arrays
-import java.util.HashMap
 import java.util.UUID
 import okhttp3.MediaType
 import okhttp3.RequestBody
+import okhttp3.ResponseBody
+import okio.BufferedSink
 import okio.ByteString
+import okio.Okio
 
 @ReactModule(name = NativeBlobModuleSpec.NAME)
 public class BlobModule(reactContext: ReactApplicationContext) :
     NativeBlobModuleSpec(reactContext), TurboModuleWithJSIBindings {
 
-  private val blobs = HashMap<String, ByteArray>()
+  private val blobStore: BlobStore = createBlobStore(reactContext)
 
   private val webSocketContentHandler =
       object : WebSocketModule.ContentHandler {
@@ -53,17 +55,24 @@ public class BlobModule(reactContext: ReactApplicationContext) :
         }
 
         override fun onMessage(byteString: ByteString, params: WritableMap) {
-          val data = byteString.toByteArray()
+          val blobId = UUID.randomUUID().toString()
+          blobStore.put(blobId, listOf(byteString.asByteBuffer()))
 
           val blob = buildReadableMap {
-            put("blobId", store(data))
+            put("blobId", blobId)
             put("offset", 0)
-            put("size", data.size)
+            put("size", byteString.size)
           }
 
           params.putMap("data", blob)
           params.putString("type", "blob")
         }
+
+        override fun onMessageDropped(params: WritableMap) {
+          if (params.getString("type") == "blob") {
+            params.getMap("data")?.getString("blobId")?.let { remove(it) }
+          }
+        }
       }
 
   internal val networkingUriHandler =
@@ -74,20 +83,22 @@ public class BlobModule(reactContext: ReactApplicationContext) :
           return !isRemote && responseType == "blob"
         }
 
-        override fun fetch(uri: Uri): Pair<WritableMap, ByteArray> {
-          val data = getBytesFromUri(uri)
+        override fun fetch(uri: Uri): Pair<WritableMap, ByteArray?> {
+          val blobId = UUID.randomUUID().toString()
+          val size = storeFromUri(uri, blobId)
 
           val blob = Arguments.createMap()
-          blob.putString("blobId", store(data))
+          blob.putString("blobId", blobId)
           blob.putInt("offset", 0)
-          blob.putInt("size", data.size)
+          blob.putInt("size", size.toInt())
           blob.putString("type", getMimeTypeFromUri(uri))
 
           // Needed for files
           blob.putString("name", getNameFromUri(uri))
           blob.putDouble("lastModified", getLastModifiedFromUri(uri))
 
-          return blob to data
+          // The contents were streamed into the store, they are not available as a byte array
+          return blob to null
         }
       }
 
@@ -107,11 +118,19 @@ public class BlobModule(reactContext: ReactApplicationContext) :
           }
 
           val blob = checkNotNull(map.getMap("blob"))
-          val bytes = checkNotNull(
-              resolve(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size")),
-          )
+          val buffer = checkNotNull(resolveBuffer(blob))
+          val mediaType = MediaType.parse(type)
+
+          // Written straight from the store, without copying the blob to the heap first
+          return object : RequestBody() {
+            override fun contentType(): MediaType? = mediaType
 
-          return RequestBody.create(MediaType.parse(type), bytes)
+            override fun contentLength(): Long = buffer.remaining().toLong()
+
+            override fun writeTo(sink: BufferedSink) {
+              Okio.source(ByteBufferInputStream(buffer.duplicate())).use { sink.writeAll(it) }
+            }
+          }
         }
       }
 
@@ -128,6 +147,16 @@ public class BlobModule(reactContext: ReactApplicationContext) :
           blob.putInt("size", data.size)
           return blob
         }
+
+        override fun toResponseData(body: ResponseBody): WritableMap {
+          val blobId = UUID.randomUUID().toString()
+          val size = body.byteStream().use { blobStore.put(blobId, it) }
+          val blob = Arguments.createMap()
+          blob.putString("blobId", blobId)
+          blob.putInt("offset", 0)
+          blob.putInt("size", size.toInt())
+          return blob
+        }
       }
 
   public override fun getTypedExportedConstants(): Map<String, Any> {
@@ -141,6 +170,7 @@ public class BlobModule(reactContext: ReactApplicationContext) :
     return mapOf("BLOB_URI_SCHEME" to "content", "BLOB_URI_HOST" to resources.getString(resourceId))
   }
 
+  @DoNotStrip
   public fun store(data: ByteArray): String {
     val blobId = UUID.randomUUID().toString()
     store(data, blobId)
@@ -148,23 +178,29 @@ public class BlobModule(reactContext: ReactApplicationContext) :
   }
 
   public fun store(data: ByteArray, blobId: String) {
-    synchronized(blobs) { blobs[blobId] = data }
+    blobStore.put(blobId, listOf(ByteBuffer.wrap(data)))
   }
 
   @DoNotStrip
-  public fun getLengthOfBlob(blobId: String): Long {
-    synchronized(blobs) {
-      val data = blobs[blobId]
-      return data?.size?.toLong() ?: 0
-    }
-  }
+  public fun getLengthOfBlob(blobId: String): Long = blobStore.getSize(blobId).coerceAtLeast(0)
 
   @DoNotStrip
   public fun remove(blobId: String) {
-    synchronized(blobs) { blobs.remove(blobId) }
+    blobStore.remove(blobId)
   }
 
   public fun resolve(uri: Uri): ByteArray? {
+    val (blobId, offset, size) = parseBlobUri(uri)
+    return resolve(blobId, offset, size)
+  }
+
+  /** Same as [resolve], but returns a read-only buffer over the blob instead of a copy. */
+  public fun resolveBuffer(uri: Uri): ByteBuffer? {
+    val (blobId, offset, size) = parseBlobUri(uri)
+    return resolveBuffer(blobId, offset, size)
+  }
+
+  private fun parseBlobUri(uri: Uri): Triple<String?, Int, Int> {
     val blobId = uri.lastPathSegment
     var offset = 0
     var size = -1
@@ -176,62 +212,59 @@ public class BlobModule(reactContext: ReactApplicationContext) :
     if (sizeParam != null) {
       size = sizeParam.toInt()
     }
-    return resolve(blobId, offset, size)
+    return Triple(blobId, offset, size)
   }
 
   public fun resolve(blobId: String?, offset: Int, size: Int): ByteArray? {
-    synchronized(blobs) {
-      val data = blobs[blobId]
-      if (data == null) {
-        return null
-      }
-      var newSize = size
-      if (newSize == -1) {
-        newSize = data.size - offset
-      }
-      if (offset > 0 || newSize != data.size) {
-        return Arrays.copyOfRange(data, offset, offset + newSize)
+    if (blobId != null && offset == 0) {
+      // The byte array of a whole blob is returned as is, without copying it
+      val data = (blobStore as? HeapBlobStore)?.getArray(blobId)
+      if (data != null && (size == -1 || size == data.size)) {
+        return data
       }
-      return data
     }
+    val buffer = resolveBuffer(blobId, offset, size) ?: return null
+    val data = ByteArray(buffer.remaining())
+    buffer.get(data)
+    return data
   }
 
   public fun resolve(blob: ReadableMap): ByteArray? {
     return resolve(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"))
   }
 
+  /**
+   * Returns a read-only buffer over a range of a blob, or null if there is no such blob. Unlike
+   * [resolve], this doesn't copy the blob. A [size] of -1 stands for the rest of the blob. The
+   * range starts at index 0 of the buffer, which lets native code read direct buffers by address.
+   */
+  @DoNotStrip
+  public fun resolveBuffer(blobId: String?, offset: Int, size: Int): ByteBuffer? {
+    blobId ?: return null
+    val blobSize = blobStore.getSize(blobId)
+    if (blobSize < 0) {
+      return null
+    }
+    val newSize = if (size == -1) blobSize.toInt() - offset else size
+    val buffer = blobStore.getBuffer(blobId, offset, newSize) ?: return null
+    return if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) buffer
+    else buffer.slice()
+  }
+
+  public fun resolveBuffer(blob: ReadableMap): ByteBuffer? {
+    return resolveBuffer(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"))
+  }
+
+  /** Opens a stream over a range of a blob, or returns null if there is no such blob. */
+  public fun openStream(blobId: String?, offset: Int, size: Int): InputStream? =
+      resolveBuffer(blobId, offset, size)?.let { ByteBufferInputStream(it) }
+
   @Throws(IOException::class)
-  private fun getBytesFromUri(contentUri: Uri): ByteArray {
+  private fun storeFromUri(contentUri: Uri, blobId: String): Long {
     val inputStream =
         reactApplicationContext.contentResolver.openInputStream(contentUri)
             ?: throw FileNotFoundException("File not found for $contentUri")
-
-    try {
-      var buffer = ByteArray(maxOf(1024, inputStream.available()))
-      var len: Int
-      var prevBuffer = ByteArray(1024)
-      var prevLen = 0
-
-      val byteBuffer = ByteArrayOutputStream()
-      while (inputStream.read(buffer).also { len = it } != -1) {
-        byteBuffer.write(prevBuffer, 0, prevLen)
-        // swap buffers
-        val temp = prevBuffer
-        prevBuffer = buffer
-        buffer = temp
-        // set prevLen = length of data in prevBuffer
-        prevLen = len
-      }
-
-      if (byteBuffer.size() == 0 && prevBuffer.size == prevLen) {
-        // If EOF AND prevBuffer contains entire stream avoid using ByteArrayOutputStream
-        return prevBuffer
-      }
-      byteBuffer.write(prevBuffer, 0, prevLen)
-      return byteBuffer.toByteArray()
-    } finally {
-      inputStream.close()
-    }
+    return inputStream.use { blobStore.put(blobId, it) }
   }
 
   private fun getNameFromUri(contentUri: Uri): String? {
@@ -290,14 +323,13 @@ public class BlobModule(reactContext: ReactApplicationContext) :
   public override fun sendOverSocket(blob: ReadableMap, idDouble: Double) {
     val id = idDouble.toInt()
     webSocketModule?.let {
-      val data = resolve(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"))
-      data?.let { bytes -> it.sendBinary(ByteString.of(ByteBuffer.wrap(bytes)), id) }
+      val data = resolveBuffer(blob)
+      data?.let { buffer -> it.sendBinary(ByteString.of(buffer), id) }
     }
   }
 
   public override fun createFromParts(parts: ReadableArray, blobId: String) {
-    var totalBlobSize = 0
-    val partList = ArrayList<ByteArray>(parts.size())
+    val partList = ArrayList<ByteBuffer>(parts.size())
 
     for (i in 0 until parts.size()) {
       val part = checkNotNull(parts.getMap(i))
@@ -305,30 +337,28 @@ public class BlobModule(reactContext: ReactApplicationContext) :
       when (type) {
         "blob" -> {
           val blob = checkNotNull(part.getMap("data"))
-          totalBlobSize += blob.getInt("size")
-          partList.add(i, checkNotNull(resolve(blob)))
+          partList.add(i, checkNotNull(resolveBuffer(blob)))
         }
         "string" -> {
           val data = checkNotNull(part.getString("data"))
-          val bytes = data.toByteArray(Charset.forName("UTF-8"))
-          totalBlobSize += bytes.size
-          partList.add(i, bytes)
+          partList.add(i, ByteBuffer.wrap(data.toByteArray(Charset.forName("UTF-8"))))
         }
         else -> throw IllegalArgumentException("Invalid type for blob: ${part.getString("type")}")
       }
     }
 
-    val buffer = ByteBuffer.allocate(totalBlobSize)
-    for (bytes in partList) {
-      buffer.put(bytes)
-    }
-    store(buffer.array(), blobId)
+    blobStore.put(blobId, partList)
   }
 
   public override fun release(blobId: String) {
     remove(blobId)
   }
 
+  override fun invalidate() {
+    blobStore.clear()
+    super.invalidate()
+  }
+
   @DoNotStrip external override fun getBindingsInstaller(): BindingsInstallerHolder
 
   public companion object {
@@ -337,5 +367,32 @@ public class BlobModule(reactContext: ReactApplicationContext) :
     }
 
     public const val NAME: String = NativeBlobModuleSpec.NAME
+
+    private const val SPILLED_BLOBS_DIRECTORY = "react-native-blobs"
+
+    private var customBlobStoreFactory: BlobStore.Factory? = null
+
+    /** Replaces the [BlobStore] used by the BlobModules created from now on. */
+    @JvmStatic
+    public fun setCustomBlobStoreFactory(factory: BlobStore.Factory?) {
+      customBlobStoreFactory = factory
+    }
+
+    private fun createBlobStore(context: ReactApplicationContext): BlobStore {
+      customBlobStoreFactory?.let {
+        return it.create(context)
+      }
+      val maxMemoryBytes = ReactFeatureFlags.blobStoreMaxMemoryBytes
+      return if (maxMemoryBytes > 0) {
+        // Not the cache directory, which the system may purge while blobs are still referenced
+        SpillingBlobStore(
+            File(context.noBackupFilesDir, SPILLED_BLOBS_DIRECTORY),
+            maxMemoryBytes,
+            ReactFeatureFlags.blobStoreMaxDiskBytes,
+        )
+      } else {
+        HeapBlobStore()
+      }
+    }
   }
 }
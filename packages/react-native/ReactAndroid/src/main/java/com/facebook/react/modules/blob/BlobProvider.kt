@@ -14,7 +14,9 @@ import android.net.Uri
 import android.os.ParcelFileDescriptor
 import com.facebook.react.ReactApplication
 import java.io.FileNotFoundException
+import java.io.FileOutputStream
 import java.io.IOException
+import java.nio.ByteBuffer
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 
@@ -64,7 +66,8 @@ public class BlobProvider : ContentProvider() {
     }
 
     val data =
-        blobModule.resolve(uri) ?: throw FileNotFoundException("Cannot open $uri, blob not found.")
+        blobModule.resolveBuffer(uri)
+            ?: throw FileNotFoundException("Cannot open $uri, blob not found.")
 
     val pipe: Array<ParcelFileDescriptor>
     try {
@@ -75,12 +78,12 @@ public class BlobProvider : ContentProvider() {
     val readSide = pipe[0]
     val writeSide = pipe[1]
 
-    if (data.size <= PIPE_CAPACITY) {
+    if (data.remaining() <= PIPE_CAPACITY) {
       // If the blob length is less than or equal to pipe capacity (64 KB),
       // we can write the data synchronously to the pipe buffer.
       try {
         ParcelFileDescriptor.AutoCloseOutputStream(writeSide).use { outputStream ->
-          outputStream.write(data)
+          writeFully(outputStream, data)
         }
       } catch (exception: IOException) {
         return null
@@ -94,7 +97,7 @@ public class BlobProvider : ContentProvider() {
       val writer = Runnable {
         try {
           ParcelFileDescriptor.AutoCloseOutputStream(writeSide).use { outputStream ->
-            outputStream.write(data)
+            writeFully(outputStream, data)
           }
         } catch (exception: IOException) {
           // no-op
@@ -106,6 +109,15 @@ public class BlobProvider : ContentProvider() {
     return readSide
   }
 
+  // Writes straight from the stored buffer, which may be off the Java heap
+  @Throws(IOException::class)
+  private fun writeFully(outputStream: FileOutputStream, data: ByteBuffer) {
+    val channel = outputStream.channel
+    while (data.hasRemaining()) {
+      channel.write(data)
+    }
+  }
+
   private companion object {
     private const val PIPE_CAPACITY = 65536
   }
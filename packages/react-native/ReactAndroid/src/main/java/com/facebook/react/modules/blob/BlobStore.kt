@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob
+
+import android.content.Context
+import java.io.IOException
+import java.io.InputStream
+import java.nio.ByteBuffer
+
+/**
+ * Holds the contents of the blobs created through [BlobModule]. Implementations must be thread
+ * safe: blobs are stored and read from the networking, WebSocket and JS threads.
+ *
+ * Use [BlobModule.setCustomBlobStoreFactory] to replace the default store.
+ */
+public interface BlobStore {
+
+  /** Stores the concatenation of the remaining bytes of [parts] as [blobId]. */
+  public fun put(blobId: String, parts: List<ByteBuffer>)
+
+  /** Stores everything read from [source] as [blobId], and returns the number of bytes read. */
+  @Throws(IOException::class) public fun put(blobId: String, source: InputStream): Long
+
+  /** Returns the size of the blob in bytes, or -1 if there is no such blob. */
+  public fun getSize(blobId: String): Long
+
+  /**
+   * Returns a read-only buffer over [size] bytes of the blob starting at [offset], or null if
+   * there is no such blob, the range is out of its bounds or it can't be read anymore. The buffer
+   * shares the stored bytes whenever possible, instead of copying them.
+   */
+  public fun getBuffer(blobId: String, offset: Int, size: Int): ByteBuffer?
+
+  /** Removes a blob. Buffers previously returned for it stay valid. */
+  public fun remove(blobId: String)
+
+  /** Removes every blob. */
+  public fun clear()
+
+  public fun interface Factory {
+    public fun create(context: Context): BlobStore
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob
+
+import java.io.InputStream
+import java.nio.ByteBuffer
+
+/** Reads the remaining bytes of a [ByteBuffer], advancing its position. */
+internal class ByteBufferInputStream(private val buffer: ByteBuffer) : InputStream() {
+
+  override fun read(): Int = if (buffer.hasRemaining()) buffer.get().toInt() and 0xFF else -1
+
+  override fun read(b: ByteArray, off: Int, len: Int): Int {
+    if (len == 0) {
+      return 0
+    }
+    if (!buffer.hasRemaining()) {
+      return -1
+    }
+    val count = minOf(len, buffer.remaining())
+    buffer.get(b, off, count)
+    return count
+  }
+
+  override fun skip(n: Long): Long {
+    val count = minOf(n.coerceAtLeast(0), buffer.remaining().toLong()).toInt()
+    buffer.position(buffer.position() + count)
+    return count.toLong()
+  }
+
+  override fun available(): Int = buffer.remaining()
+}
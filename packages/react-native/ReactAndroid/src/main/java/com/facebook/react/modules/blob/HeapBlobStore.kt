@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob
+
+import java.io.InputStream
+import java.nio.ByteBuffer
+
+/** The default [BlobStore], which keeps every blob in a byte array on the Java heap. */
+internal class HeapBlobStore : BlobStore {
+
+  private val blobs = HashMap<String, ByteArray>()
+
+  override fun put(blobId: String, parts: List<ByteBuffer>) {
+    val single = parts.singleOrNull()
+    val data =
+        if (
+            single != null &&
+                single.hasArray() &&
+                single.arrayOffset() == 0 &&
+                single.position() == 0 &&
+                single.remaining() == single.array().size
+        ) {
+          // Keep a byte array wrapped by the caller as is, as BlobModule.store always did
+          single.array()
+        } else {
+          val bytes = ByteArray(parts.sumOf { it.remaining() })
+          val target = ByteBuffer.wrap(bytes)
+          for (part in parts) {
+            target.put(part.duplicate())
+          }
+          bytes
+        }
+    synchronized(blobs) { blobs[blobId] = data }
+  }
+
+  override fun put(blobId: String, source: InputStream): Long {
+    val data = source.readBytes()
+    synchronized(blobs) { blobs[blobId] = data }
+    return data.size.toLong()
+  }
+
+  override fun getSize(blobId: String): Long =
+      synchronized(blobs) { blobs[blobId]?.size?.toLong() ?: -1L }
+
+  /** Returns the byte array holding a blob, which callers must not modify, or null. */
+  fun getArray(blobId: String): ByteArray? = synchronized(blobs) { blobs[blobId] }
+
+  override fun getBuffer(blobId: String, offset: Int, size: Int): ByteBuffer? {
+    val data = getArray(blobId) ?: return null
+    if (offset < 0 || size < 0 || offset > data.size - size) {
+      return null
+    }
+    return ByteBuffer.wrap(data, offset, size).slice().asReadOnlyBuffer()
+  }
+
+  override fun remove(blobId: String) {
+    synchronized(blobs) { blobs.remove(blobId) }
+  }
+
+  override fun clear() {
+    synchronized(blobs) { blobs.clear() }
+  }
+}
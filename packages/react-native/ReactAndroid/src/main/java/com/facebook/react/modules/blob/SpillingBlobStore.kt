@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob
+
+import com.facebook.common.logging.FLog
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.channels.FileLock
+import java.nio.channels.OverlappingFileLockException
+import java.util.UUID
+
+/**
+ * A [BlobStore] that keeps blobs off the Java heap: in direct buffers while they fit within
+ * [maxMemoryBytes] in total, and otherwise in files, which are memory mapped to be read. When the
+ * memory budget is exceeded, the least recently used blobs are spilled to files. Spilling writes
+ * the files outside of the store's lock, so readers aren't blocked by it.
+ *
+ * Files take at most [maxDiskBytes] in total: the least recently used blobs stored in files are
+ * removed to make room for new ones, and a blob larger than the whole budget can't be stored.
+ *
+ * Each store keeps its files in its own subdirectory of [directory], locked for as long as the
+ * store is alive, so that several stores can share [directory]. The subdirectories of stores that
+ * are gone, e.g. with a previous process, are deleted when a store is created. [directory] must
+ * not be one the system may purge, like the cache directory: a blob whose file can't be read
+ * anymore is reported as missing by [getBuffer].
+ *
+ * Buffers returned by [getBuffer] are slices of the stored buffer, so reading a range of a blob
+ * doesn't copy it.
+ */
+public class SpillingBlobStore(
+    directory: File,
+    private val maxMemoryBytes: Long,
+    private val maxDiskBytes: Long,
+) : BlobStore {
+
+  private class Entry(val size: Int) {
+    var memory: ByteBuffer? = null
+    var file: File? = null
+    var mapped: ByteBuffer? = null
+    var isSpilling: Boolean = false
+  }
+
+  private class Spill(val blobId: String, val entry: Entry, val memory: ByteBuffer) {
+    var file: File? = null
+  }
+
+  // Access ordered, so iteration starts with the least recently used blob
+  private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+  private var memoryBytes = 0L
+  // Bytes of the blobs being written to files, still counted in memoryBytes until they are written
+  private var spillingBytes = 0L
+  // Bytes of the files of the blobs, and of the files being written
+  private var diskBytes = 0L
+  private var nextFileId = 0
+
+  private val storeDirectory: File
+  // Held for the lifetime of the store, so other stores don't delete its files
+  private val storeLock: FileLock
+
+  init {
+    deleteAbandonedStores(directory)
+    val (lockedDirectory, lock) = lockNewStoreDirectory(directory)
+    storeDirectory = lockedDirectory
+    storeLock = lock
+  }
+
+  override fun put(blobId: String, parts: List<ByteBuffer>) {
+    var size = 0L
+    for (part in parts) {
+      size += part.remaining()
+    }
+    require(size <= Int.MAX_VALUE) { "Blob of $size bytes is too large" }
+    val entry = Entry(size.toInt())
+    if (size > maxMemoryBytes) {
+      check(reserveDiskBytes(size)) { "Blob $blobId of $size bytes exceeds the disk budget" }
+      val file = newFile()
+      try {
+        FileOutputStream(file).channel.use { channel ->
+          for (part in parts) {
+            val source = part.duplicate()
+            while (source.hasRemaining()) {
+              channel.write(source)
+            }
+          }
+        }
+      } catch (e: IOException) {
+        file.delete()
+        releaseDiskBytes(size)
+        throw IllegalStateException("Unable to store blob $blobId", e)
+      }
+      entry.file = file
+    } else {
+      val memory = ByteBuffer.allocateDirect(entry.size)
+      for (part in parts) {
+        memory.put(part.duplicate())
+      }
+      memory.flip()
+      entry.memory = memory
+    }
+    install(blobId, entry)
+  }
+
+  override fun put(blobId: String, source: InputStream): Long {
+    val chunk = ByteArray(CHUNK_SIZE)
+    var memory = ByteBuffer.allocateDirect(minOf(CHUNK_SIZE.toLong(), maxMemoryBytes).toInt())
+    var file: File? = null
+    var output: FileOutputStream? = null
+    var size = 0L
+    // Bytes of the file reserved in the disk budget so far
+    var reservedBytes = 0L
+    try {
+      while (true) {
+        val read = source.read(chunk)
+        if (read == -1) {
+          break
+        }
+        size += read
+        if (size > Int.MAX_VALUE) {
+          throw IOException("Blob of $size bytes is too large")
+        }
+        val fileOutput = output
+        if (fileOutput != null) {
+          reserveStreamedBytes(blobId, read.toLong())
+          reservedBytes += read
+          fileOutput.write(chunk, 0, read)
+        } else if (size > maxMemoryBytes) {
+          // Too large to be kept in memory: move what was read so far to a file
+          reserveStreamedBytes(blobId, size)
+          reservedBytes = size
+          val newFile = newFile()
+          file = newFile
+          val newOutput = FileOutputStream(newFile)
+          output = newOutput
+          memory.flip()
+          while (memory.hasRemaining()) {
+            newOutput.channel.write(memory)
+          }
+          newOutput.write(chunk, 0, read)
+        } else {
+          if (memory.remaining() < read) {
+            val grown =
+                ByteBuffer.allocateDirect(
+                    minOf(maxOf(memory.capacity() * 2L, size), maxMemoryBytes).toInt(),
+                )
+            memory.flip()
+            grown.put(memory)
+            memory = grown
+          }
+          memory.put(chunk, 0, read)
+        }
+      }
+      output?.close()
+    } catch (e: IOException) {
+      output?.close()
+      file?.delete()
+      releaseDiskBytes(reservedBytes)
+      throw e
+    }
+
+    val entry = Entry(size.toInt())
+    if (file != null) {
+      entry.file = file
+    } else {
+      memory.flip()
+      if (memory.capacity() - entry.size > entry.size / 4) {
+        // Don't let the slack left by growing the buffer eat into the memory budget
+        memory = ByteBuffer.allocateDirect(entry.size).put(memory)
+        memory.flip()
+      }
+      entry.memory = memory
+    }
+    install(blobId, entry)
+    return size
+  }
+
+  override fun getSize(blobId: String): Long =
+      synchronized(this) { entries[blobId]?.size?.toLong() ?: -1L }
+
+  override fun getBuffer(blobId: String, offset: Int, size: Int): ByteBuffer? {
+    val buffer =
+        synchronized(this) {
+          val entry = entries[blobId] ?: return null
+          if (offset < 0 || size < 0 || offset > entry.size - size) {
+            return null
+          }
+          entry.memory ?: mapFile(blobId, entry) ?: return null
+        }
+    val slice = buffer.duplicate()
+    slice.limit(offset + size)
+    slice.position(offset)
+    return slice.slice().asReadOnlyBuffer()
+  }
+
+  override fun remove(blobId: String) {
+    synchronized(this) { entries.remove(blobId)?.let { release(it) } }
+  }
+
+  override fun clear() {
+    synchronized(this) {
+      for (entry in entries.values) {
+        release(entry)
+      }
+      entries.clear()
+    }
+  }
+
+  private fun install(blobId: String, entry: Entry) {
+    val spills =
+        synchronized(this) {
+          entries.put(blobId, entry)?.let { release(it) }
+          if (entry.memory == null) {
+            return
+          }
+          memoryBytes += entry.size
+          selectSpills(entry)
+        }
+    if (spills.isEmpty()) {
+      return
+    }
+    for (spill in spills) {
+      spill.file = writeSpill(spill)
+    }
+    synchronized(this) {
+      for (spill in spills) {
+        finishSpill(spill)
+      }
+    }
+  }
+
+  /** Picks the least recently used blobs to write to files, until the others fit the budget. */
+  private fun selectSpills(keep: Entry): List<Spill> {
+    var candidates: ArrayList<Spill>? = null
+    var candidateBytes = 0L
+    for ((blobId, entry) in entries) {
+      if (memoryBytes - spillingBytes - candidateBytes <= maxMemoryBytes) {
+        break
+      }
+      val memory = entry.memory
+      if (entry === keep || memory == null || entry.isSpilling) {
+        continue
+      }
+      if (candidates == null) {
+        candidates = ArrayList()
+      }
+      candidates.add(Spill(blobId, entry, memory))
+      candidateBytes += entry.size
+    }
+    if (candidates == null) {
+      return emptyList()
+    }
+    // Making room on disk removes blobs, so it waits until they aren't iterated over anymore
+    val spills = ArrayList<Spill>(candidates.size)
+    for (spill in candidates) {
+      if (!reserveDiskBytes(spill.entry.size.toLong())) {
+        // Kept in memory over the budget rather than lost
+        FLog.w(TAG, "No room on disk to spill blob ${spill.blobId}")
+        continue
+      }
+      spill.entry.isSpilling = true
+      spillingBytes += spill.entry.size
+      spills.add(spill)
+    }
+    return spills
+  }
+
+  /**
+   * Counts [bytes] of a new file in the disk budget, and returns false if they don't fit. The least
+   * recently used blobs stored in files are removed to make room.
+   */
+  private fun reserveDiskBytes(bytes: Long): Boolean {
+    synchronized(this) {
+      if (diskBytes + bytes > maxDiskBytes) {
+        val iterator = entries.values.iterator()
+        while (diskBytes + bytes > maxDiskBytes && bytes <= maxDiskBytes && iterator.hasNext()) {
+          val entry = iterator.next()
+          if (entry.file != null) {
+            iterator.remove()
+            release(entry)
+          }
+        }
+        if (diskBytes + bytes > maxDiskBytes) {
+          return false
+        }
+      }
+      diskBytes += bytes
+      return true
+    }
+  }
+
+  @Throws(IOException::class)
+  private fun reserveStreamedBytes(blobId: String, bytes: Long) {
+    if (!reserveDiskBytes(bytes)) {
+      throw IOException("Blob $blobId exceeds the disk budget")
+    }
+  }
+
+  private fun releaseDiskBytes(bytes: Long) {
+    synchronized(this) { diskBytes -= bytes }
+  }
+
+  private fun writeSpill(spill: Spill): File? {
+    val file = newFile()
+    try {
+      FileOutputStream(file).channel.use { channel ->
+        val source = spill.memory.duplicate()
+        while (source.hasRemaining()) {
+          channel.write(source)
+        }
+      }
+    } catch (e: IOException) {
+      // Keep the blob in memory rather than losing it
+      FLog.w(TAG, "Unable to spill blob ${spill.blobId} to disk", e)
+      file.delete()
+      return null
+    }
+    return file
+  }
+
+  private fun finishSpill(spill: Spill) {
+    val entry = spill.entry
+    entry.isSpilling = false
+    spillingBytes -= entry.size
+    val file = spill.file
+    if (entry.memory == null) {
+      // Removed or replaced while it was being written
+      file?.delete()
+      diskBytes -= entry.size
+      return
+    }
+    if (file != null) {
+      entry.file = file
+      entry.memory = null
+      memoryBytes -= entry.size
+    } else {
+      diskBytes -= entry.size
+    }
+  }
+
+  private fun mapFile(blobId: String, entry: Entry): ByteBuffer? {
+    entry.mapped?.let {
+      return it
+    }
+    val file = entry.file ?: return null
+    val mapped =
+        try {
+          RandomAccessFile(file, "r").use { raf ->
+            raf.channel.map(FileChannel.MapMode.READ_ONLY, 0, entry.size.toLong())
+          }
+        } catch (e: IOException) {
+          FLog.w(TAG, "Unable to read blob $blobId", e)
+          return null
+        }
+    entry.mapped = mapped
+    return mapped
+  }
+
+  private fun release(entry: Entry) {
+    if (entry.memory != null) {
+      memoryBytes -= entry.size
+      entry.memory = null
+    }
+    // A mapping outlives its file, so buffers handed out before stay readable
+    entry.file?.let {
+      it.delete()
+      diskBytes -= entry.size
+    }
+    entry.file = null
+    entry.mapped = null
+  }
+
+  private fun newFile(): File {
+    storeDirectory.mkdirs()
+    val id = synchronized(this) { nextFileId++ }
+    return File(storeDirectory, "blob-$id")
+  }
+
+  private companion object {
+    private const val TAG = "SpillingBlobStore"
+    private const val CHUNK_SIZE = 64 * 1024
+    private const val LOCK_SUFFIX = ".lock"
+
+    /**
+     * Creates the subdirectory of a new store in [directory], and returns it with the lock of the
+     * lock file next to it.
+     */
+    private fun lockNewStoreDirectory(directory: File): Pair<File, FileLock> {
+      directory.mkdirs()
+      while (true) {
+        val name = UUID.randomUUID().toString()
+        val lockFile = File(directory, name + LOCK_SUFFIX)
+        val channel = RandomAccessFile(lockFile, "rw").channel
+        val lock =
+            try {
+              channel.lock()
+            } catch (e: OverlappingFileLockException) {
+              null
+            }
+        if (lock == null || !lockFile.exists()) {
+          // Taken for the lock of an abandoned store, and deleted, by another store being created
+          channel.close()
+          continue
+        }
+        val storeDirectory = File(directory, name)
+        storeDirectory.mkdirs()
+        return storeDirectory to lock
+      }
+    }
+
+    /** Deletes the subdirectories of the stores in [directory] that aren't alive anymore. */
+    private fun deleteAbandonedStores(directory: File) {
+      val files = directory.listFiles() ?: return
+      for (file in files) {
+        if (file.name.endsWith(LOCK_SUFFIX)) {
+          deleteIfAbandoned(file)
+        } else if (!File(directory, file.name + LOCK_SUFFIX).exists()) {
+          // Left over by a store deleted half way, or by a version that didn't lock its files
+          file.deleteRecursively()
+        }
+      }
+    }
+
+    private fun deleteIfAbandoned(lockFile: File) {
+      try {
+        RandomAccessFile(lockFile, "rw").channel.use { channel ->
+          // Held by a live store, in this process or another one
+          val lock = channel.tryLock() ?: return
+          File(lockFile.parentFile, lockFile.name.removeSuffix(LOCK_SUFFIX)).deleteRecursively()
+          // While still locked, so a store being created with this lock file sees it's gone
+          lockFile.delete()
+          lock.release()
+        }
+      } catch (e: OverlappingFileLockException) {
+        // Held by a live store in this process
+      } catch (e: IOException) {
+        FLog.w(TAG, "Unable to delete abandoned blobs in ${lockFile.parent}", e)
+      }
+    }
+  }
+}
@@ -7,6 +7,8 @@
 
 package com.facebook.react.modules.core
 
+import android.os.Handler
+import android.os.Looper
 import android.util.SparseArray
 import android.view.Choreographer
 import com.facebook.proguard.annotations.DoNotStrip
@@ -22,17 +24,19 @@ import com.facebook.react.common.annotations.internal.LegacyArchitecture
 import com.facebook.react.devsupport.interfaces.DevSupportManager
 import com.facebook.react.jstasks.HeadlessJsTaskContext
 import com.facebook.react.jstasks.HeadlessJsTaskEventListener
-import java.util.PriorityQueue
 import java.util.concurrent.atomic.AtomicBoolean
 import kotlin.concurrent.Volatile
 import kotlin.math.abs
 import kotlin.math.max
-import kotlin.math.sign
 
 /**
  * This class is the native implementation for JS timer execution on Android. It schedules JS timers
  * to be invoked on frame boundaries using [ReactChoreographer].
  *
+ * The frame callback only stays posted while a timer is due within the next couple of frames.
+ * Otherwise it stops, and a [Handler] message posts it again shortly before the next timer is due,
+ * so long timeouts don't keep the frame pipeline awake.
+ *
  * This is used by the NativeModule [TimingModule].
  */
 public open class JavaTimerManager(
@@ -41,16 +45,9 @@ public open class JavaTimerManager(
     private val reactChoreographer: ReactChoreographer,
     private val devSupportManager: DevSupportManager,
 ) : LifecycleEventListener, HeadlessJsTaskEventListener {
-  private class Timer(
-      val timerId: Int,
-      var targetTime: Long,
-      val interval: Int,
-      val repeat: Boolean,
-  )
-
   private val timerGuard = Any()
   private val idleCallbackGuard = Any()
-  private val timerIdsToTimers: SparseArray<Timer> = SparseArray()
+  private val timerIdsToTimers: SparseArray<TimerQueue.Timer> = SparseArray()
   private val isPaused = AtomicBoolean(true)
   private val isRunningTasks = AtomicBoolean(false)
   private val timerFrameCallback = TimerFrameCallback()
@@ -61,8 +58,18 @@ public open class JavaTimerManager(
   private var sendIdleEvents = false
 
   // We store timers sorted by finish time.
-  private val timers: PriorityQueue<Timer> =
-      PriorityQueue(TIMER_QUEUE_CAPACITY) { lhs, rhs -> (lhs.targetTime - rhs.targetTime).sign }
+  private val timers = TimerQueue(TIMER_QUEUE_CAPACITY)
+
+  private val wakeUpHandler = Handler(Looper.getMainLooper())
+  private val wakeUpRunnable = Runnable {
+    if (!isPaused.get() || isRunningTasks.get()) {
+      setChoreographerCallback()
+    }
+  }
+
+  // Target time of the timer the wake up message is posted for, while the frame callback is not
+  // posted because no timer is due soon. Guarded by timerGuard.
+  private var sleepingUntil = AWAKE
 
   init {
     reactApplicationContext.addLifecycleEventListener(this)
@@ -109,6 +116,7 @@ public open class JavaTimerManager(
     reactApplicationContext.removeLifecycleEventListener(this)
     clearFrameCallback()
     clearChoreographerIdleCallback()
+    wakeUpHandler.removeCallbacks(wakeUpRunnable)
   }
 
   @LegacyArchitecture
@@ -128,6 +136,10 @@ public open class JavaTimerManager(
   }
 
   private fun setChoreographerCallback() {
+    synchronized(timerGuard) {
+      sleepingUntil = AWAKE
+      wakeUpHandler.removeCallbacks(wakeUpRunnable)
+    }
     if (!frameCallbackPosted) {
       reactChoreographer.postFrameCallback(
           ReactChoreographer.CallbackType.TIMERS_EVENTS,
@@ -181,10 +193,14 @@ public open class JavaTimerManager(
   @DoNotStrip
   public open fun createTimer(timerId: Int, delay: Long, repeat: Boolean) {
     val initialTargetTime = nanoTime() / 1000000 + delay
-    val timer = Timer(timerId, initialTargetTime, delay.toInt(), repeat)
+    val timer = TimerQueue.Timer(timerId, initialTargetTime, delay.toInt(), repeat)
     synchronized(timerGuard) {
       timers.add(timer)
       timerIdsToTimers.put(timerId, timer)
+      if (sleepingUntil != AWAKE && initialTargetTime < sleepingUntil) {
+        // The frame callback is stopped until a later timer, wake up earlier for this one
+        scheduleWakeUp(initialTargetTime)
+      }
     }
   }
 
@@ -273,13 +289,18 @@ public open class JavaTimerManager(
         // already within range.
         return true
       }
-      for (timer in timers) {
-        if (isTimerInRange(timer, rangeMs)) {
-          return true
-        }
-      }
+      return timers.any { timer -> isTimerInRange(timer, rangeMs) }
     }
-    return false
+  }
+
+  /** Must be called with timerGuard held. */
+  private fun scheduleWakeUp(targetTime: Long) {
+    sleepingUntil = targetTime
+    wakeUpHandler.removeCallbacks(wakeUpRunnable)
+    // Post the frame callback a little early, so the timer is called on the first frame after
+    // its target time as it would be if the callback had stayed posted
+    val delay = targetTime - nanoTime() / 1000000 - WAKE_UP_LEAD_TIME_MS
+    wakeUpHandler.postDelayed(wakeUpRunnable, max(0, delay))
   }
 
   private inner class TimerFrameCallback : Choreographer.FrameCallback {
@@ -292,6 +313,7 @@ public open class JavaTimerManager(
         return
       }
       val frameTimeMillis = frameTimeNanos / 1000000
+      val keepPosted: Boolean
       synchronized(timerGuard) {
         while (!timers.isEmpty() && timers.peek()!!.targetTime < frameTimeMillis) {
           var timer = timers.poll()
@@ -309,12 +331,26 @@ public open class JavaTimerManager(
             timerIdsToTimers.remove(timer.timerId)
           }
         }
+        val nextTimer = timers.peek()
+        keepPosted =
+            nextTimer != null && nextTimer.targetTime - frameTimeMillis <= WAKE_UP_LEAD_TIME_MS
+        if (!keepPosted) {
+          // Nothing to do for the next frames: sleep until the next timer, if any
+          frameCallbackPosted = false
+          if (nextTimer != null) {
+            scheduleWakeUp(nextTimer.targetTime)
+          } else {
+            sleepingUntil = Long.MAX_VALUE
+          }
+        }
       }
       timersToCall?.let { timers ->
         javaScriptTimerExecutor.callTimers(timers)
         timersToCall = null
       }
-      reactChoreographer.postFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, this)
+      if (keepPosted) {
+        reactChoreographer.postFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, this)
+      }
     }
   }
 
@@ -377,7 +413,12 @@ public open class JavaTimerManager(
 
     private const val TIMER_QUEUE_CAPACITY = 11
 
-    private fun isTimerInRange(timer: Timer, rangeMs: Long): Boolean =
+    // How long before the next timer is due the frame callback gets posted again, about two frames
+    private const val WAKE_UP_LEAD_TIME_MS = 34L
+
+    private const val AWAKE = -1L
+
+    private fun isTimerInRange(timer: TimerQueue.Timer, rangeMs: Long): Boolean =
         !timer.repeat && timer.interval < rangeMs
   }
 }
@@ -7,96 +7,100 @@
 
 package com.facebook.react.modules.core;
 
+import android.util.SparseArray;
 import android.view.KeyEvent;
 import android.view.View;
 
+import androidx.annotation.Nullable;
+
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeMap;
-import com.facebook.react.common.MapBuilder;
 import com.facebook.react.common.SystemClock;
 import com.facebook.react.config.ReactFeatureFlags;
-
-import java.util.Map;
+import com.facebook.react.uimanager.UIManagerHelper;
+import com.facebook.react.uimanager.events.EventDispatcher;
+import com.facebook.react.uimanager.events.HWKeyEvent;
+import com.facebook.react.uimanager.events.KeyRepeatCoalescer;
 
 /** Responsible for dispatching events specific for hardware inputs. */
 public class ReactAndroidHWInputDeviceHelper {
 
   /**
    * Contains a mapping between handled KeyEvents and the corresponding navigation event that should
-   * be fired when the KeyEvent is received.
+   * be fired when the KeyEvent is received. Keyed by key code so lookups don't box.
    */
-  private static final Map<Integer, String> KEY_EVENTS_ACTIONS =
-      MapBuilder.<Integer, String>builder()
-          .put(KeyEvent.KEYCODE_DPAD_CENTER, "select")
-          .put(KeyEvent.KEYCODE_ENTER, "select")
-          .put(KeyEvent.KEYCODE_NUMPAD_ENTER, "select")
-          .put(KeyEvent.KEYCODE_BUTTON_SELECT, "select")
-          .put(KeyEvent.KEYCODE_SPACE, "select")
-          .put(KeyEvent.KEYCODE_MEDIA_PLAY_PAUSE, "playPause")
-          .put(KeyEvent.KEYCODE_MEDIA_PLAY, "play")
-          .put(KeyEvent.KEYCODE_MEDIA_PAUSE, "pause")
-          .put(KeyEvent.KEYCODE_MEDIA_NEXT, "next")
-          .put(KeyEvent.KEYCODE_MEDIA_PREVIOUS, "previous")
-          .put(KeyEvent.KEYCODE_MEDIA_REWIND, "rewind")
-          .put(KeyEvent.KEYCODE_MEDIA_FAST_FORWARD, "fastForward")
-          .put(KeyEvent.KEYCODE_MEDIA_RECORD, "record")
-          .put(KeyEvent.KEYCODE_MEDIA_STOP, "stop")
-          .put(KeyEvent.KEYCODE_MEDIA_NEXT, "next")
-          .put(KeyEvent.KEYCODE_MEDIA_PREVIOUS, "previous")
-          .put(KeyEvent.KEYCODE_DPAD_UP, "up")
-          .put(KeyEvent.KEYCODE_DPAD_RIGHT, "right")
-          .put(KeyEvent.KEYCODE_DPAD_DOWN, "down")
-          .put(KeyEvent.KEYCODE_DPAD_LEFT, "left")
-          .put(KeyEvent.KEYCODE_INFO, "info")
-          .put(KeyEvent.KEYCODE_CAPTIONS, "captions")
-          .put(KeyEvent.KEYCODE_MENU, "menu")
-          .put(KeyEvent.KEYCODE_0, "0")
-          .put(KeyEvent.KEYCODE_1, "1")
-          .put(KeyEvent.KEYCODE_2, "2")
-          .put(KeyEvent.KEYCODE_3, "3")
-          .put(KeyEvent.KEYCODE_4, "4")
-          .put(KeyEvent.KEYCODE_5, "5")
-          .put(KeyEvent.KEYCODE_6, "6")
-          .put(KeyEvent.KEYCODE_7, "7")
-          .put(KeyEvent.KEYCODE_8, "8")
-          .put(KeyEvent.KEYCODE_9, "9")
-          .put(KeyEvent.KEYCODE_CHANNEL_DOWN, "channelDown")
-          .put(KeyEvent.KEYCODE_CHANNEL_UP, "channelUp")
-          .put(KeyEvent.KEYCODE_DEL, "delete")
-          .put(KeyEvent.KEYCODE_BOOKMARK, "bookmark")
-          .put(KeyEvent.KEYCODE_AVR_INPUT, "avrInput")
-          .put(KeyEvent.KEYCODE_AVR_POWER, "avrPower")
-          .put(KeyEvent.KEYCODE_DVR, "dvr")
-          .put(KeyEvent.KEYCODE_GUIDE, "guide")
-          .put(KeyEvent.KEYCODE_PROG_RED, "red")
-          .put(KeyEvent.KEYCODE_PROG_GREEN, "green")
-          .put(KeyEvent.KEYCODE_PROG_BLUE, "blue")
-          .put(KeyEvent.KEYCODE_PROG_YELLOW, "yellow")
-          .put(KeyEvent.KEYCODE_STB_INPUT, "stbInput")
-          .put(KeyEvent.KEYCODE_STB_POWER, "stbPower")
-          .put(KeyEvent.KEYCODE_TV, "tv")
-          .put(KeyEvent.KEYCODE_TV_INPUT, "tvInput")
-          .put(KeyEvent.KEYCODE_WINDOW, "window")
-          .put(KeyEvent.KEYCODE_TV_TELETEXT, "teletext")
-          .build();
-
-  private static final Map<Integer, String> KEY_EVENTS_LONG_PRESS_ACTIONS =
-      MapBuilder.<Integer, String>builder()
-          .put(KeyEvent.KEYCODE_DPAD_CENTER, "longSelect")
-          .put(KeyEvent.KEYCODE_ENTER, "longSelect")
-          .put(KeyEvent.KEYCODE_NUMPAD_ENTER, "longSelect")
-          .put(KeyEvent.KEYCODE_BUTTON_SELECT, "longSelect")
-          .put(KeyEvent.KEYCODE_DPAD_UP, "longUp")
-          .put(KeyEvent.KEYCODE_DPAD_RIGHT, "longRight")
-          .put(KeyEvent.KEYCODE_DPAD_DOWN, "longDown")
-          .put(KeyEvent.KEYCODE_DPAD_LEFT, "longLeft")
-          .put(KeyEvent.KEYCODE_MEDIA_PLAY_PAUSE, "longPlayPause")
-          .put(KeyEvent.KEYCODE_MEDIA_REWIND, "longRewind")
-          .put(KeyEvent.KEYCODE_MEDIA_FAST_FORWARD, "longFastForward")
-          .put(KeyEvent.KEYCODE_CHANNEL_DOWN, "longChannelDown")
-          .put(KeyEvent.KEYCODE_CHANNEL_UP, "longChannelUp")
-          .build();
+  private static final SparseArray<String> KEY_EVENTS_ACTIONS = new SparseArray<>();
+
+  private static final SparseArray<String> KEY_EVENTS_LONG_PRESS_ACTIONS = new SparseArray<>();
+
+  static {
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_CENTER, "select");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_ENTER, "select");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_NUMPAD_ENTER, "select");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_BUTTON_SELECT, "select");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_SPACE, "select");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PLAY_PAUSE, "playPause");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PLAY, "play");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PAUSE, "pause");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_NEXT, "next");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PREVIOUS, "previous");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_REWIND, "rewind");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_FAST_FORWARD, "fastForward");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_RECORD, "record");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_STOP, "stop");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_NEXT, "next");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PREVIOUS, "previous");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_UP, "up");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_RIGHT, "right");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_DOWN, "down");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_LEFT, "left");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_INFO, "info");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_CAPTIONS, "captions");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_MENU, "menu");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_0, "0");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_1, "1");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_2, "2");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_3, "3");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_4, "4");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_5, "5");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_6, "6");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_7, "7");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_8, "8");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_9, "9");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_CHANNEL_DOWN, "channelDown");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_CHANNEL_UP, "channelUp");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DEL, "delete");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_BOOKMARK, "bookmark");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_AVR_INPUT, "avrInput");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_AVR_POWER, "avrPower");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_DVR, "dvr");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_GUIDE, "guide");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_PROG_RED, "red");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_PROG_GREEN, "green");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_PROG_BLUE, "blue");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_PROG_YELLOW, "yellow");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_STB_INPUT, "stbInput");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_STB_POWER, "stbPower");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_TV, "tv");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_TV_INPUT, "tvInput");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_WINDOW, "window");
+    KEY_EVENTS_ACTIONS.put(KeyEvent.KEYCODE_TV_TELETEXT, "teletext");
+
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_CENTER, "longSelect");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_ENTER, "longSelect");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_NUMPAD_ENTER, "longSelect");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_BUTTON_SELECT, "longSelect");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_UP, "longUp");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_RIGHT, "longRight");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_DOWN, "longDown");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_DPAD_LEFT, "longLeft");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_PLAY_PAUSE, "longPlayPause");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_REWIND, "longRewind");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_MEDIA_FAST_FORWARD, "longFastForward");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_CHANNEL_DOWN, "longChannelDown");
+    KEY_EVENTS_LONG_PRESS_ACTIONS.put(KeyEvent.KEYCODE_CHANNEL_UP, "longChannelUp");
+  }
 
   /**
    * We keep a reference to the last focused view id so that we can send it as a target for key
@@ -114,6 +118,11 @@ public class ReactAndroidHWInputDeviceHelper {
   private boolean longPressEventActive = false;
   private boolean longPressEventStarted = false;
 
+  // Android TV: collapses key down repeats to at most one event per key per frame, see
+  // ReactFeatureFlags.enableKeyRepeatCoalescing
+  private @Nullable KeyRepeatCoalescer<View> mKeyRepeatCoalescer;
+  private @Nullable ReactContext mKeyRepeatContext;
+
   public ReactAndroidHWInputDeviceHelper() {}
 
   private boolean isSelectEvent(int eventKeyCode) {
@@ -139,10 +148,25 @@ public class ReactAndroidHWInputDeviceHelper {
 
   /** Called from {@link com.facebook.react.ReactRootView}. This is the main place the key events are handled. */
   public void handleKeyEvent(KeyEvent ev, ReactContext context) {
+    handleKeyEvent(ev, context, null);
+  }
+
+  /**
+   * Same as {@link #handleKeyEvent(KeyEvent, ReactContext)}, but with the view that currently has
+   * focus, so that the event can be dispatched to it as a typed {@link HWKeyEvent} when {@link
+   * ReactFeatureFlags#enableTypedHWKeyEvents} is set.
+   */
+  public void handleKeyEvent(KeyEvent ev, ReactContext context, @Nullable View focusedView) {
     int eventKeyCode = ev.getKeyCode();
     int eventKeyAction = ev.getAction();
     long time = SystemClock.uptimeMillis();
     boolean isSelectOrDPadEvent = isDPadEvent(eventKeyCode) || isSelectEvent(eventKeyCode);
+    KeyRepeatCoalescer<View> keyRepeatCoalescer = getKeyRepeatCoalescer(context);
+
+    // Deliver repeats still waiting for the next frame before the key up that ends them
+    if (keyRepeatCoalescer != null && eventKeyAction == KeyEvent.ACTION_UP) {
+      keyRepeatCoalescer.onKeyUp(eventKeyCode);
+    }
 
     // Simple implementation of long press detection for key down events
     if ((eventKeyAction == KeyEvent.ACTION_DOWN) && isSelectOrDPadEvent) {
@@ -160,18 +184,35 @@ public class ReactAndroidHWInputDeviceHelper {
       if(longPressEventActive) {
         // For long presses, only send the first key down event (aligns with Apple TV gesture detection behavior)
         if(!longPressEventStarted || eventKeyAction == KeyEvent.ACTION_UP) {
+          if (keyRepeatCoalescer != null) {
+            // Repeats of the regular action that haven't been delivered yet are superseded
+            keyRepeatCoalescer.cancel(eventKeyCode);
+          }
           dispatchEvent(
             KEY_EVENTS_LONG_PRESS_ACTIONS.get(eventKeyCode),
-            mLastFocusedViewId,
+            eventKeyCode,
             eventKeyAction,
+            0,
+            ev.getEventTime(),
+            focusedView,
             context
           );
           longPressEventStarted = true;
         }
         // Update the start time for detecting the next long press event
         mLastKeyDownTime = time;
-      } else {
-        dispatchEvent(KEY_EVENTS_ACTIONS.get(eventKeyCode), mLastFocusedViewId, eventKeyAction, context);
+      } else if (keyRepeatCoalescer == null
+          || eventKeyAction != KeyEvent.ACTION_DOWN
+          || keyRepeatCoalescer.onKeyDown(eventKeyCode, ev.getRepeatCount(), focusedView)) {
+        dispatchEvent(
+          KEY_EVENTS_ACTIONS.get(eventKeyCode),
+          eventKeyCode,
+          eventKeyAction,
+          ev.getRepeatCount(),
+          ev.getEventTime(),
+          focusedView,
+          context
+        );
       }
     }
 
@@ -186,7 +227,7 @@ public class ReactAndroidHWInputDeviceHelper {
 
   // Android TV: Only send key up actions, unless key down events are enabled or we need to send a long press event
   private boolean shouldDispatchEvent(int eventKeyCode, int eventKeyAction, long time) {
-    return KEY_EVENTS_ACTIONS.containsKey(eventKeyCode) && (
+    return KEY_EVENTS_ACTIONS.indexOfKey(eventKeyCode) >= 0 && (
       (eventKeyAction == KeyEvent.ACTION_UP) ||
       (eventKeyAction == KeyEvent.ACTION_DOWN && !longPressEventActive && ReactFeatureFlags.enableKeyDownEvents) ||
       (eventKeyAction == KeyEvent.ACTION_DOWN && longPressEventActive && isLongPressEventTime(time))
@@ -194,13 +235,84 @@ public class ReactAndroidHWInputDeviceHelper {
   }
 
   private void dispatchEvent(String eventType, int targetViewId, ReactContext context) {
-    dispatchEvent(eventType, targetViewId, -1, context);
+    dispatchEvent(eventType, targetViewId, -1, 0, context);
+  }
+
+  private @Nullable KeyRepeatCoalescer<View> getKeyRepeatCoalescer(ReactContext context) {
+    if (!ReactFeatureFlags.enableKeyRepeatCoalescing) {
+      return null;
+    }
+    mKeyRepeatContext = context;
+    if (mKeyRepeatCoalescer == null) {
+      mKeyRepeatCoalescer =
+        new KeyRepeatCoalescer<>(
+          ReactFeatureFlags.keyRepeatMaxEventsPerSecond,
+          (keyCode, repeatCount, focusedView) -> {
+            ReactContext repeatContext = mKeyRepeatContext;
+            if (repeatContext != null) {
+              dispatchEvent(
+                KEY_EVENTS_ACTIONS.get(keyCode),
+                keyCode,
+                KeyEvent.ACTION_DOWN,
+                repeatCount,
+                SystemClock.uptimeMillis(),
+                focusedView,
+                repeatContext);
+            }
+          });
+    }
+    return mKeyRepeatCoalescer;
+  }
+
+  private void dispatchEvent(
+    @Nullable String eventType,
+    int eventKeyCode,
+    int eventKeyAction,
+    int repeatCount,
+    long eventTime,
+    @Nullable View focusedView,
+    ReactContext context) {
+    // Android TV: also dispatch a pooled, typed event to the focused view, which can be coalesced
+    // with the pending key downs of the same press. The device event keeps being emitted for
+    // TVEventHandler, unless the app opted out of it.
+    if (ReactFeatureFlags.enableTypedHWKeyEvents
+        && eventType != null
+        && focusedView != null
+        && focusedView.getId() != View.NO_ID) {
+      int surfaceId = UIManagerHelper.getSurfaceId(focusedView);
+      EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcher(context);
+      if (surfaceId != -1 && eventDispatcher != null) {
+        eventDispatcher.dispatchEvent(
+          HWKeyEvent.obtain(
+            surfaceId,
+            focusedView.getId(),
+            eventType,
+            eventKeyCode,
+            eventKeyAction,
+            repeatCount,
+            getCoalescingKey(eventKeyCode),
+            eventTime));
+        if (!ReactFeatureFlags.emitHWKeyDeviceEventsWithTypedEvents) {
+          return;
+        }
+      }
+    }
+    dispatchEvent(eventType, mLastFocusedViewId, eventKeyAction, repeatCount, context);
+  }
+
+  // Repeats of separate presses of the same key must never be coalesced together
+  private short getCoalescingKey(int eventKeyCode) {
+    int pressCount =
+      mKeyRepeatCoalescer != null ? mKeyRepeatCoalescer.getPressCount(eventKeyCode) : 0;
+    return (short) (((pressCount & 0xff) << 8) | (eventKeyCode & 0xff));
   }
 
-  private void dispatchEvent(String eventType, int targetViewId, int eventKeyAction, ReactContext context) {
+  private void dispatchEvent(
+    String eventType, int targetViewId, int eventKeyAction, int repeatCount, ReactContext context) {
     WritableMap event = new WritableNativeMap();
     event.putString("eventType", eventType);
     event.putInt("eventKeyAction", eventKeyAction);
+    event.putInt("repeatCount", repeatCount);
     if (targetViewId != View.NO_ID) {
       event.putInt("tag", targetViewId);
       event.putInt("target", targetViewId);
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.core
+
+/**
+ * A binary min-heap of [Timer]s ordered by [Timer.targetTime]. Each timer remembers its position in
+ * the heap, so [remove] takes O(log n) instead of the O(n) lookup of
+ * [java.util.PriorityQueue.remove].
+ *
+ * Not thread safe.
+ */
+internal class TimerQueue(initialCapacity: Int = 16) {
+
+  internal class Timer(
+      val timerId: Int,
+      /** Must not be changed while the timer is queued. */
+      var targetTime: Long,
+      val interval: Int,
+      val repeat: Boolean,
+  ) {
+    /** Position in [TimerQueue.heap], or -1 if the timer is not queued. */
+    internal var index = -1
+  }
+
+  private var heap = arrayOfNulls<Timer>(maxOf(initialCapacity, 1))
+
+  var size: Int = 0
+    private set
+
+  fun isEmpty(): Boolean = size == 0
+
+  /** Returns the timer with the earliest target time, without removing it. */
+  fun peek(): Timer? = heap[0]
+
+  fun add(timer: Timer) {
+    check(timer.index == -1) { "Timer ${timer.timerId} is already queued" }
+    if (size == heap.size) {
+      heap = heap.copyOf(size * 2)
+    }
+    timer.index = size
+    heap[size] = timer
+    size++
+    siftUp(timer.index)
+  }
+
+  /** Removes and returns the timer with the earliest target time. */
+  fun poll(): Timer? {
+    val first = heap[0] ?: return null
+    removeAt(0)
+    return first
+  }
+
+  /** Removes [timer] from the queue, and returns whether it was queued. */
+  fun remove(timer: Timer): Boolean {
+    val index = timer.index
+    if (index < 0 || index >= size || heap[index] !== timer) {
+      return false
+    }
+    removeAt(index)
+    return true
+  }
+
+  /** Returns whether any queued timer matches [predicate], in no particular order. */
+  fun any(predicate: (Timer) -> Boolean): Boolean {
+    for (i in 0..<size) {
+      if (predicate(checkNotNull(heap[i]))) {
+        return true
+      }
+    }
+    return false
+  }
+
+  private fun removeAt(index: Int) {
+    val removed = checkNotNull(heap[index])
+    removed.index = -1
+    size--
+    val last = checkNotNull(heap[size])
+    heap[size] = null
+    if (index == size) {
+      return
+    }
+    heap[index] = last
+    last.index = index
+    siftDown(index)
+    if (heap[index] === last) {
+      siftUp(index)
+    }
+  }
+
+  private fun siftUp(startIndex: Int) {
+    var index = startIndex
+    val timer = checkNotNull(heap[index])
+    while (index > 0) {
+      val parentIndex = (index - 1) ushr 1
+      val parent = checkNotNull(heap[parentIndex])
+      if (parent.targetTime <= timer.targetTime) {
+        break
+      }
+      heap[index] = parent
+      parent.index = index
+      index = parentIndex
+    }
+    heap[index] = timer
+    timer.index = index
+  }
+
+  private fun siftDown(startIndex: Int) {
+    var index = startIndex
+    val timer = checkNotNull(heap[index])
+    val half = size ushr 1
+    while (index < half) {
+      var childIndex = 2 * index + 1
+      var child = checkNotNull(heap[childIndex])
+      val rightIndex = childIndex + 1
+      if (rightIndex < size) {
+        val right = checkNotNull(heap[rightIndex])
+        if (right.targetTime < child.targetTime) {
+          childIndex = rightIndex
+          child = right
+        }
+      }
+      if (timer.targetTime <= child.targetTime) {
+        break
+      }
+      heap[index] = child
+      child.index = index
+      index = childIndex
+    }
+    heap[index] = timer
+    timer.index = index
+  }
+}
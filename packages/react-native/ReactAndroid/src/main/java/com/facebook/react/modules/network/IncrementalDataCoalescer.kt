@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import com.facebook.common.logging.FLog
+import com.facebook.react.common.ReactConstants
+import java.io.IOException
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * Collects the data of a response read incrementally and sends it with [flush] following an
+ * [IncrementalFlushPolicy]. When the minimum interval hasn't elapsed yet, a flush is scheduled for
+ * when it does, so data doesn't wait for the next read of a slow response.
+ *
+ * [flush] is called without holding the lock that guards the collected data, and with `mayWait`
+ * set to false from the scheduler, which is shared by every response: it must then return false
+ * instead of blocking, e.g. on backpressure, and the data is retried later or sent by the reading
+ * thread. It returns whether the data was sent.
+ */
+internal class IncrementalDataCoalescer(
+    private val policy: IncrementalFlushPolicy,
+    private val scheduler: ScheduledExecutorService = sharedScheduler,
+    private val flush: (data: String, mayWait: Boolean) -> Boolean,
+) {
+  private val lock = Any()
+  // Held while sending, so chunks taken from pending reach JS in order
+  private val sendLock = ReentrantLock()
+  private val pending = StringBuilder()
+  private val startNs = System.nanoTime()
+  private var lastFlushNs = startNs - TimeUnit.MILLISECONDS.toNanos(policy.minFlushIntervalMs)
+  private var scheduledFlush: ScheduledFuture<*>? = null
+  private var flushCount = 0
+  private var byteCount = 0L
+  private var finished = false
+
+  /** Adds [data], decoded from [byteCount] bytes of the response body. */
+  @Throws(IOException::class)
+  fun append(data: String, byteCount: Int) {
+    synchronized(lock) {
+      this.byteCount += byteCount
+      pending.append(data)
+      if (pending.isEmpty()) {
+        return
+      }
+      val now = System.nanoTime()
+      val waitNs = lastFlushNs + TimeUnit.MILLISECONDS.toNanos(policy.minFlushIntervalMs) - now
+      if (waitNs > 0 && pending.length < policy.maxCharsPerFlush) {
+        if (scheduledFlush == null) {
+          scheduleFlush(waitNs)
+        }
+        return
+      }
+    }
+    sendPending(mayWait = true)
+  }
+
+  /** Sends the remaining data, and returns the counts of events sent. */
+  @Throws(IOException::class)
+  fun finish(): IncrementalFlushStats {
+    synchronized(lock) {
+      finished = true
+      cancelScheduledFlush()
+    }
+    sendPending(mayWait = true)
+    synchronized(lock) {
+      return IncrementalFlushStats(
+          flushCount,
+          byteCount,
+          TimeUnit.NANOSECONDS.toMillis(lastFlushNs - startNs).coerceAtLeast(0),
+      )
+    }
+  }
+
+  /** Drops the remaining data, e.g. when reading the response failed. */
+  fun cancel() {
+    synchronized(lock) {
+      finished = true
+      cancelScheduledFlush()
+      pending.setLength(0)
+    }
+  }
+
+  private fun onScheduledFlush() {
+    synchronized(lock) {
+      scheduledFlush = null
+      if (finished || pending.isEmpty()) {
+        return
+      }
+    }
+    val sent =
+        try {
+          sendPending(mayWait = false)
+        } catch (e: IOException) {
+          // The reading thread sends what's left when it finishes
+          FLog.w(ReactConstants.TAG, "Failed to send network data", e)
+          true
+        }
+    if (!sent) {
+      synchronized(lock) {
+        if (!finished && scheduledFlush == null) {
+          val retryMs = maxOf(policy.minFlushIntervalMs, MIN_RETRY_DELAY_MS)
+          scheduleFlush(TimeUnit.MILLISECONDS.toNanos(retryMs))
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends the pending data, and returns false if it couldn't be sent without waiting: another
+   * thread is sending, or [flush] declined. The data then stays pending.
+   */
+  @Throws(IOException::class)
+  private fun sendPending(mayWait: Boolean): Boolean {
+    if (mayWait) {
+      sendLock.lock()
+    } else if (!sendLock.tryLock()) {
+      return false
+    }
+    try {
+      val data =
+          synchronized(lock) {
+            cancelScheduledFlush()
+            if (pending.isEmpty()) {
+              return true
+            }
+            val data = pending.toString()
+            pending.setLength(0)
+            data
+          }
+      var sent = false
+      try {
+        sent = flush(data, mayWait)
+      } finally {
+        synchronized(lock) {
+          if (sent) {
+            flushCount++
+            lastFlushNs = System.nanoTime()
+          } else {
+            // Ahead of anything appended meanwhile
+            pending.insert(0, data)
+          }
+        }
+      }
+      return sent
+    } finally {
+      sendLock.unlock()
+    }
+  }
+
+  private fun scheduleFlush(delayNs: Long) {
+    scheduledFlush = scheduler.schedule({ onScheduledFlush() }, delayNs, TimeUnit.NANOSECONDS)
+  }
+
+  private fun cancelScheduledFlush() {
+    scheduledFlush?.cancel(false)
+    scheduledFlush = null
+  }
+
+  private companion object {
+    private const val MIN_RETRY_DELAY_MS = 16L
+
+    private val sharedScheduler: ScheduledExecutorService by lazy {
+      Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "NetworkingIncrementalFlush").apply { isDaemon = true }
+      }
+    }
+  }
+}
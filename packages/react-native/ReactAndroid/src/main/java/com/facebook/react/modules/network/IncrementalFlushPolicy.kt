@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import okhttp3.Request
+
+/**
+ * How the data of a response read incrementally is coalesced into
+ * `didReceiveNetworkIncrementalData` events. Data is sent to JS at most once every
+ * [minFlushIntervalMs], unless more than [maxCharsPerFlush] characters are waiting to be sent.
+ *
+ * Use [NetworkingModule.setIncrementalFlushPolicyProvider] to choose the policy of each request.
+ */
+public data class IncrementalFlushPolicy(
+    /** Minimum time between two events of a response. 0 sends the data as soon as it's read. */
+    val minFlushIntervalMs: Long = DEFAULT_MIN_FLUSH_INTERVAL_MS,
+    /** Number of characters waiting to be sent above which they're sent without waiting. */
+    val maxCharsPerFlush: Int = DEFAULT_MAX_CHARS_PER_FLUSH,
+    /** Size of the buffer the response body is read into. */
+    val readBufferSize: Int = DEFAULT_READ_BUFFER_SIZE,
+) {
+
+  init {
+    require(minFlushIntervalMs >= 0) { "minFlushIntervalMs must not be negative" }
+    require(maxCharsPerFlush > 0) { "maxCharsPerFlush must be positive" }
+    require(readBufferSize > 0) { "readBufferSize must be positive" }
+  }
+
+  public fun interface Provider {
+    public fun getPolicy(request: Request): IncrementalFlushPolicy
+  }
+
+  public companion object {
+    // About once per frame
+    private const val DEFAULT_MIN_FLUSH_INTERVAL_MS = 16L
+    private const val DEFAULT_MAX_CHARS_PER_FLUSH = 256 * 1_024
+    private const val DEFAULT_READ_BUFFER_SIZE = 64 * 1_024
+
+    @JvmField public val DEFAULT: IncrementalFlushPolicy = IncrementalFlushPolicy()
+  }
+}
+
+/** Counts of the events sent to JS for a response read incrementally. */
+public data class IncrementalFlushStats(
+    /** Number of `didReceiveNetworkIncrementalData` events sent. */
+    val flushCount: Int,
+    /** Number of bytes of the response body read. */
+    val byteCount: Long,
+    /** Time between the start of the read and the last event, in milliseconds. */
+    val durationMs: Long,
+) {
+  val bytesPerFlush: Long
+    get() = if (flushCount == 0) 0 else byteCount / flushCount
+
+  val flushesPerSecond: Double
+    get() = if (durationMs == 0L) 0.0 else flushCount * 1000.0 / durationMs
+
+  public fun interface Listener {
+    public fun onResponseRead(request: Request, stats: IncrementalFlushStats)
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import com.facebook.common.logging.FLog
+import com.facebook.react.bridge.ReactApplicationContext
+import com.facebook.react.common.ReactConstants
+import java.io.InterruptedIOException
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+
+/**
+ * Bounds how much data network threads may have emitted to JS ahead of the JS thread. Each emitted
+ * chunk is followed by a marker posted to the JS queue, which returns the chunk's bytes to the
+ * budget once the JS thread gets to it. When the budget is spent, [send] blocks the network
+ * thread, so fast downloads can't queue up more events than JS can process. The budget is shared
+ * by every thread using the same instance.
+ */
+internal class JSQueueBackpressure(
+    private val reactContext: ReactApplicationContext?,
+    private val maxPendingBytes: Int,
+) {
+  private val permits = Semaphore(maxPendingBytes)
+
+  /**
+   * Waits until [bytes] more can be sent to JS, then runs [emit]. Gives up waiting after
+   * [TIMEOUT_MS], so a JS thread that stopped processing its queue doesn't stall the network
+   * thread forever.
+   */
+  @Throws(InterruptedIOException::class)
+  fun send(bytes: Int, emit: () -> Unit) {
+    val count = bytes.coerceIn(0, maxPendingBytes)
+    val acquired =
+        try {
+          permits.tryAcquire(count, TIMEOUT_MS, TimeUnit.MILLISECONDS)
+        } catch (e: InterruptedException) {
+          Thread.currentThread().interrupt()
+          throw InterruptedIOException("Interrupted while waiting for the JS thread")
+        }
+    if (!acquired) {
+      FLog.w(ReactConstants.TAG, "JS thread is not keeping up with network data, sending anyway")
+    }
+    emitAndRelease(count, acquired, emit)
+  }
+
+  /**
+   * Runs [emit] if [bytes] more can be sent to JS right away, and returns whether it did. Used by
+   * threads shared between requests, which must not wait for the JS thread.
+   */
+  fun trySend(bytes: Int, emit: () -> Unit): Boolean {
+    val count = bytes.coerceIn(0, maxPendingBytes)
+    if (!permits.tryAcquire(count)) {
+      return false
+    }
+    emitAndRelease(count, true, emit)
+    return true
+  }
+
+  private fun emitAndRelease(count: Int, acquired: Boolean, emit: () -> Unit) {
+    try {
+      emit()
+    } finally {
+      if (acquired) {
+        release(count)
+      }
+    }
+  }
+
+  private fun release(count: Int) {
+    val posted =
+        try {
+          reactContext?.runOnJSQueueThread { permits.release(count) } == true
+        } catch (e: RuntimeException) {
+          // The JS queue is gone, e.g. the instance was torn down
+          false
+        }
+    if (!posted) {
+      permits.release(count)
+    }
+  }
+
+  private companion object {
+    private const val TIMEOUT_MS = 5_000L
+  }
+}
@@ -135,13 +135,16 @@ internal object NetworkEventUtil {
       requestId: Int,
       devToolsRequestId: String,
       data: WritableMap,
-      rawData: ByteArray,
+      rawData: ByteArray?,
   ) {
-    InspectorNetworkReporter.maybeStoreResponseBody(
-        devToolsRequestId,
-        Base64.encodeToString(rawData, Base64.NO_WRAP),
-        true,
-    )
+    // Only encode the body when the inspector will store it
+    if (rawData != null && InspectorNetworkReporter.isDebuggingEnabled()) {
+      InspectorNetworkReporter.maybeStoreResponseBody(
+          devToolsRequestId,
+          Base64.encodeToString(rawData, Base64.NO_WRAP),
+          true,
+      )
+    }
     reactContext?.emitDeviceEvent(
         "didReceiveNetworkData",
         Arguments.createArray().apply {
@@ -22,6 +22,7 @@ import com.facebook.react.bridge.ReadableType
 import com.facebook.react.bridge.WritableMap
 import com.facebook.react.common.build.ReactBuildConfig
 import com.facebook.react.common.network.OkHttpCallUtil
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.module.annotations.ReactModule
 import java.io.IOException
 import java.nio.charset.StandardCharsets
@@ -63,9 +64,10 @@ public class NetworkingModule(
     public fun supports(uri: Uri, responseType: String): Boolean
 
     /**
-     * Fetch the URI and return a tuple containing the JS body payload and the raw response body.
+     * Fetch the URI and return a tuple containing the JS body payload and the raw response body,
+     * if the handler has it in memory.
      */
-    @Throws(IOException::class) public fun fetch(uri: Uri): Pair<WritableMap, ByteArray>
+    @Throws(IOException::class) public fun fetch(uri: Uri): Pair<WritableMap, ByteArray?>
   }
 
   /** Allows adding custom handling to build the [RequestBody] from the JS body payload. */
@@ -84,6 +86,14 @@ public class NetworkingModule(
 
     /** Returns the JS body payload for the [ResponseBody]. */
     @Throws(IOException::class) public fun toResponseData(data: ByteArray): WritableMap
+
+    /**
+     * Returns the JS body payload for the [ResponseBody] by streaming it, without reading it into a
+     * byte array first, or null if the handler can't stream it. Not used while the inspector
+     * collects response bodies, which needs the raw bytes.
+     */
+    @Throws(IOException::class)
+    public fun toResponseData(body: ResponseBody): WritableMap? = null
   }
 
   private val client: OkHttpClient
@@ -95,6 +105,8 @@ public class NetworkingModule(
   private val uriHandlers: MutableList<UriHandler> = ArrayList()
   private val responseHandlers: MutableList<ResponseHandler> = ArrayList()
   private var shuttingDown = false
+  // Shared by every response, so the bound covers the JS queue as a whole
+  private val jsQueueBackpressure = JSQueueBackpressure(reactContext, MAX_PENDING_BYTES)
 
   init {
     var resolvedClient: OkHttpClient = client
@@ -693,8 +705,12 @@ public class NetworkingModule(
                   // Check if a handler is registered
                   for (responseHandler in responseHandlers) {
                     if (responseHandler.supports(responseType)) {
-                      val responseData = responseBody.bytes()
-                      val res = responseHandler.toResponseData(responseData)
+                      val streamed =
+                          if (InspectorNetworkReporter.isDebuggingEnabled()) null
+                          else responseHandler.toResponseData(responseBody)
+                      val responseData = if (streamed == null) responseBody.bytes() else null
+                      val res =
+                          streamed ?: responseHandler.toResponseData(checkNotNull(responseData))
                       NetworkEventUtil.onDataReceived(
                           reactApplicationContext,
                           requestId,
@@ -716,7 +732,47 @@ public class NetworkingModule(
                   // response,
                   // periodically send response data updates to JS.
                   if (useIncrementalUpdates && responseType == "text") {
-                    readWithProgress(requestId, devToolsRequestId, responseBody)
+                    readWithProgress(
+                        requestId,
+                        devToolsRequestId,
+                        response.request(),
+                        responseBody,
+                        responseType,
+                    )
+                    NetworkEventUtil.onRequestSuccess(
+                        reactApplicationContext,
+                        requestId,
+                        devToolsRequestId,
+                        responseBody.contentLength(),
+                    )
+                    return
+                  }
+
+                  // When streaming responses, send text and base64 responses to JS in chunks as
+                  // they are read, rather than reading and encoding the whole body first. The
+                  // inspector needs the whole body, so this only applies when it isn't attached.
+                  @Suppress("DEPRECATION")
+                  val streamResponses = ReactFeatureFlags.enableStreamingNetworkResponses
+                  if (
+                      streamResponses &&
+                          (responseType == "text" || responseType == "base64") &&
+                          !InspectorNetworkReporter.isDebuggingEnabled()
+                  ) {
+                    try {
+                      readWithProgress(
+                          requestId,
+                          devToolsRequestId,
+                          response.request(),
+                          responseBody,
+                          responseType,
+                      )
+                    } catch (e: IOException) {
+                      // As in the one-shot text path below, OkHttp throws on the empty body of a
+                      // `HEAD` request, which must not fail the request in JS (issue #7463).
+                      if (!response.request().method().equals("HEAD", ignoreCase = true)) {
+                        throw e
+                      }
+                    }
                     NetworkEventUtil.onRequestSuccess(
                         reactApplicationContext,
                         requestId,
@@ -815,21 +871,21 @@ public class NetworkingModule(
     )
   }
 
+  /**
+   * Sends the response body to JS in chunks, as text or Base64 depending on [responseType]. JS
+   * appends the chunks to the response. The chunks are coalesced following the
+   * [IncrementalFlushPolicy] of the request.
+   */
   @Throws(IOException::class)
   private fun readWithProgress(
       requestId: Int,
       devToolsRequestId: String,
+      request: Request,
       responseBody: ResponseBody,
+      responseType: String,
   ) {
-    var totalBytesRead: Long = -1
-    var contentLength: Long = -1
-    try {
-      val progressResponseBody = responseBody as ProgressResponseBody
-      totalBytesRead = progressResponseBody.totalBytesRead()
-      contentLength = progressResponseBody.contentLength()
-    } catch (e: ClassCastException) {
-      // Ignore
-    }
+    val progressResponseBody = responseBody as? ProgressResponseBody
+    val contentLength = progressResponseBody?.contentLength() ?: -1
 
     val charset =
         if (responseBody.contentType() == null) {
@@ -839,24 +895,50 @@ public class NetworkingModule(
             "Null character set for Content-Type: ${responseBody.contentType()}"
           }
         }
-    val streamDecoder = ProgressiveStringDecoder(charset)
-    val inputStream = responseBody.byteStream()
+    val base64Encoder = if (responseType == "base64") ProgressiveBase64Encoder() else null
+    val streamDecoder = if (base64Encoder == null) ProgressiveStringDecoder(charset) else null
+    val policy =
+        incrementalFlushPolicyProvider?.getPolicy(request) ?: IncrementalFlushPolicy.DEFAULT
+    val reactApplicationContext = getReactApplicationContextIfActiveOrWarn()
+    val coalescer =
+        IncrementalDataCoalescer(policy) { data, mayWait ->
+          val emit = {
+            NetworkEventUtil.onIncrementalDataReceived(
+                reactApplicationContext,
+                requestId,
+                devToolsRequestId,
+                data,
+                progressResponseBody?.totalBytesRead() ?: -1,
+                contentLength,
+            )
+          }
+          // JS strings take 2 bytes per character
+          val bytes = data.length * Char.SIZE_BYTES
+          if (mayWait) {
+            jsQueueBackpressure.send(bytes, emit)
+            true
+          } else {
+            jsQueueBackpressure.trySend(bytes, emit)
+          }
+        }
+    val source = responseBody.source()
     try {
-      val buffer = ByteArray(MAX_CHUNK_SIZE_BETWEEN_FLUSHES)
+      val buffer = ByteArray(policy.readBufferSize)
       var read: Int
-      val reactApplicationContext = getReactApplicationContextIfActiveOrWarn()
-      while ((inputStream.read(buffer).also { read = it }) != -1) {
-        NetworkEventUtil.onIncrementalDataReceived(
-            reactApplicationContext,
-            requestId,
-            devToolsRequestId,
-            streamDecoder.decodeNext(buffer, read),
-            totalBytesRead,
-            contentLength,
+      while ((source.read(buffer, 0, buffer.size).also { read = it }) != -1) {
+        coalescer.append(
+            base64Encoder?.encodeNext(buffer, read)
+                ?: checkNotNull(streamDecoder).decodeNext(buffer, read),
+            read,
         )
       }
+      base64Encoder?.finish()?.let { coalescer.append(it, 0) }
+      val stats = coalescer.finish()
+      incrementalFlushMetricsListener?.onResponseRead(request, stats)
     } finally {
-      inputStream.close()
+      // No-op once finished, otherwise drops the data of a failed read
+      coalescer.cancel()
+      source.close()
     }
   }
 
@@ -1058,7 +1140,9 @@ public class NetworkingModule(
     private const val REQUEST_DATA_KEY_DEVTOOLS_REQUEST_ID = "devToolsRequestId"
     private const val USER_AGENT_HEADER_NAME = "user-agent"
     private const val CHUNK_TIMEOUT_NS = 100 * 1_000_000 // 100ms
-    private const val MAX_CHUNK_SIZE_BETWEEN_FLUSHES = 8 * 1_024 // 8K
+    // Bytes of response strings sent to JS that the JS thread has yet to get to, across all
+    // responses
+    private const val MAX_PENDING_BYTES = 1_024 * 1_024 // 1M
 
     private var customClientBuilder: com.facebook.react.modules.network.CustomClientBuilder? = null
 
@@ -1069,6 +1153,24 @@ public class NetworkingModule(
       customClientBuilder = ccb
     }
 
+    private var incrementalFlushPolicyProvider: IncrementalFlushPolicy.Provider? = null
+    private var incrementalFlushMetricsListener: IncrementalFlushStats.Listener? = null
+
+    /**
+     * Chooses how the data of each response read incrementally is coalesced into events. Requests
+     * use [IncrementalFlushPolicy.DEFAULT] when no provider is set.
+     */
+    @JvmStatic
+    public fun setIncrementalFlushPolicyProvider(provider: IncrementalFlushPolicy.Provider?) {
+      incrementalFlushPolicyProvider = provider
+    }
+
+    /** Receives the counts of events sent for each response read incrementally, for tuning. */
+    @JvmStatic
+    public fun setIncrementalFlushMetricsListener(listener: IncrementalFlushStats.Listener?) {
+      incrementalFlushMetricsListener = listener
+    }
+
     private fun applyCustomBuilder(builder: OkHttpClient.Builder) {
       customClientBuilder?.apply(builder)
     }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import android.util.Base64
+
+/**
+ * Class to Base64 encode a byte stream from byte array chunks. Base64 encodes groups of 3 bytes, so
+ * the bytes at the end of a chunk that don't fill a group are saved and encoded with the next
+ * chunk. That way the encoded chunks can be concatenated into the encoding of the whole stream.
+ */
+internal class ProgressiveBase64Encoder {
+  private val remainder = ByteArray(GROUP_SIZE - 1)
+  private var remainderLength = 0
+
+  /**
+   * Encodes the bytes of [data] up to [length], along with the bytes left over by the previous
+   * call, except for the bytes that don't fill a group of 3.
+   */
+  fun encodeNext(data: ByteArray, length: Int): String {
+    val total = remainderLength + length
+    val encodedLength = total - total % GROUP_SIZE
+    if (encodedLength == 0) {
+      System.arraycopy(data, 0, remainder, remainderLength, length)
+      remainderLength = total
+      return EMPTY_STRING
+    }
+
+    val input: ByteArray
+    if (remainderLength == 0) {
+      input = data
+    } else {
+      input = ByteArray(encodedLength)
+      System.arraycopy(remainder, 0, input, 0, remainderLength)
+      System.arraycopy(data, 0, input, remainderLength, encodedLength - remainderLength)
+    }
+    val consumed = encodedLength - remainderLength
+    remainderLength = length - consumed
+    System.arraycopy(data, consumed, remainder, 0, remainderLength)
+    return Base64.encodeToString(input, 0, encodedLength, Base64.NO_WRAP)
+  }
+
+  /** Encodes the bytes left over at the end of the stream, with padding. */
+  fun finish(): String {
+    val length = remainderLength
+    remainderLength = 0
+    return if (length == 0) EMPTY_STRING
+    else Base64.encodeToString(remainder, 0, length, Base64.NO_WRAP)
+  }
+
+  private companion object {
+    private const val GROUP_SIZE = 3
+    private const val EMPTY_STRING = ""
+  }
+}
@@ -25,6 +25,8 @@ import java.nio.charset.CharsetDecoder
 internal class ProgressiveStringDecoder(charset: Charset) {
   private val decoder: CharsetDecoder = charset.newDecoder()
   private var remainder: ByteArray? = null
+  // Reused between calls, only grown when a larger chunk comes in
+  private var output: CharBuffer = CharBuffer.allocate(0)
 
   /**
    * Parses data to String If there is a partial multi-byte symbol on the edge of the String it get
@@ -46,37 +48,31 @@ internal class ProgressiveStringDecoder(charset: Charset) {
       length += r.size
     }
 
-    var decodeBuffer = ByteBuffer.wrap(decodeData, 0, length)
-    var result: CharBuffer? = null
-    var decoded = false
-    var remainderLength = 0
-
-    while (!decoded && (remainderLength < 4)) {
-      try {
-        result = decoder.decode(decodeBuffer)
-        decoded = true
-      } catch (e: CharacterCodingException) {
-        remainderLength++
-        decodeBuffer = ByteBuffer.wrap(decodeData, 0, length - remainderLength)
-      }
+    val decodeBuffer = ByteBuffer.wrap(decodeData, 0, length)
+    val maxChars = (length * decoder.maxCharsPerByte().toDouble()).toInt() + 1
+    if (output.capacity() < maxChars) {
+      output = CharBuffer.allocate(maxChars)
     }
+    output.clear()
+    decoder.reset()
+    // Not the end of the input: a partial symbol at the end is left in the buffer
+    val result = decoder.decode(decodeBuffer, output, false)
 
-    val hasRemainder = decoded && remainderLength > 0
+    val remainderLength = decodeBuffer.remaining()
+    if (result.isError || remainderLength >= 4) {
+      remainder = null
+      FLog.w(ReactConstants.TAG, "failed to decode string from byte array")
+      return EMPTY_STRING
+    }
     remainder =
-        if (hasRemainder) {
-          ByteArray(remainderLength).apply {
-            System.arraycopy(decodeData, length - remainderLength, this, 0, remainderLength)
-          }
+        if (remainderLength > 0) {
+          ByteArray(remainderLength).apply { decodeBuffer.get(this) }
         } else {
           null
         }
 
-    if (!decoded) {
-      FLog.w(ReactConstants.TAG, "failed to decode string from byte array")
-      return EMPTY_STRING
-    } else {
-      return result?.let { String(it.array(), 0, it.length) } ?: EMPTY_STRING
-    }
+    output.flip()
+    return output.toString()
   }
 
   companion object {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.websocket
+
+import com.facebook.react.bridge.WritableMap
+import com.facebook.react.modules.websocket.WebSocketMessageBatching.OverflowPolicy
+import java.util.ArrayDeque
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Queues the messages of each socket and sends them in batches with [emit], following
+ * [WebSocketMessageBatching]. Batches are sent from the scheduler thread, or from the socket's
+ * thread when its queue overflows or when it [flush]es before another event of the socket.
+ *
+ * Messages dropped by [OverflowPolicy.DROP_OLDEST] and [OverflowPolicy.DROP_NEWEST] are passed to
+ * [onDropped], to release what they hold, e.g. the blob a binary message was stored in.
+ */
+internal class WebSocketMessageBatcher(
+    private val batching: WebSocketMessageBatching,
+    private val listener: WebSocketMessageBatching.Listener?,
+    /** Waits until JS has processed the previous batch, for [OverflowPolicy.BLOCK]. */
+    private val awaitJS: (messageCount: Int, emit: () -> Unit) -> Unit,
+    private val onDropped: (socketId: Int, message: WritableMap) -> Unit,
+    private val scheduler: ScheduledExecutorService = sharedScheduler,
+    private val emit: (socketId: Int, messages: List<WritableMap>) -> Unit,
+) {
+
+  private class SocketQueue {
+    val messages = ArrayDeque<WritableMap>()
+    var scheduledFlush: ScheduledFuture<*>? = null
+    var queueDepth = 0
+    var droppedMessages = 0
+  }
+
+  private val queues = HashMap<Int, SocketQueue>()
+
+  /** Queues a message of a socket. May block for [OverflowPolicy.BLOCK]. */
+  fun add(socketId: Int, message: WritableMap) {
+    var dropped: WritableMap? = null
+    synchronized(this) {
+      val queue = queues.getOrPut(socketId) { SocketQueue() }
+      if (queue.messages.size < batching.maxQueuedMessages) {
+        queue.messages.addLast(message)
+        queue.queueDepth = maxOf(queue.queueDepth, queue.messages.size)
+        if (queue.scheduledFlush == null) {
+          queue.scheduledFlush =
+              scheduler.schedule(
+                  { flush(socketId) },
+                  batching.intervalMs,
+                  TimeUnit.MILLISECONDS,
+              )
+        }
+        return
+      }
+      when (batching.overflowPolicy) {
+        OverflowPolicy.DROP_OLDEST -> {
+          dropped = queue.messages.removeFirst()
+          queue.messages.addLast(message)
+          queue.droppedMessages++
+        }
+        OverflowPolicy.DROP_NEWEST -> {
+          dropped = message
+          queue.droppedMessages++
+        }
+        OverflowPolicy.BLOCK -> {
+          queue.messages.addLast(message)
+          queue.queueDepth = maxOf(queue.queueDepth, queue.messages.size)
+        }
+      }
+    }
+    if (dropped != null) {
+      onDropped(socketId, dropped)
+      return
+    }
+    // Only reached for OverflowPolicy.BLOCK. Waiting happens outside of the lock, so the other
+    // sockets keep going.
+    awaitJS(batching.maxQueuedMessages) { flush(socketId) }
+  }
+
+  /** Sends the queued messages of a socket right away, e.g. before it's reported closed. */
+  @Synchronized
+  fun flush(socketId: Int) {
+    val queue = queues[socketId] ?: return
+    queue.scheduledFlush?.cancel(false)
+    queue.scheduledFlush = null
+    if (queue.messages.isEmpty()) {
+      return
+    }
+    val messages = ArrayList(queue.messages)
+    queue.messages.clear()
+    emit(socketId, messages)
+    listener?.onBatchSent(socketId, messages.size, queue.queueDepth, queue.droppedMessages)
+    queue.queueDepth = 0
+    queue.droppedMessages = 0
+  }
+
+  /** Sends the queued messages of a socket, and forgets it. */
+  @Synchronized
+  fun remove(socketId: Int) {
+    flush(socketId)
+    queues.remove(socketId)
+  }
+
+  private companion object {
+    private val sharedScheduler: ScheduledExecutorService by lazy {
+      Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "WebSocketMessageBatcher").apply { isDaemon = true }
+      }
+    }
+  }
+}
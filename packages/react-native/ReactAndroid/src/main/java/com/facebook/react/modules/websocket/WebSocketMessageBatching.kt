@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.websocket
+
+/**
+ * Opt-in batching of incoming WebSocket messages. The messages of each socket are queued and sent to
+ * JS as a single `websocketMessageBatch` event at most once every [intervalMs], instead of one
+ * `websocketMessage` event per message.
+ *
+ * Use [WebSocketModule.setMessageBatching] to enable it.
+ */
+public data class WebSocketMessageBatching(
+    /** Time a message may wait for others before its batch is sent. About a frame by default. */
+    val intervalMs: Long = DEFAULT_INTERVAL_MS,
+    /** Number of messages a socket may have queued, see [overflowPolicy]. */
+    val maxQueuedMessages: Int = DEFAULT_MAX_QUEUED_MESSAGES,
+    /** What happens to a message that arrives when the queue of its socket is full. */
+    val overflowPolicy: OverflowPolicy = OverflowPolicy.BLOCK,
+) {
+
+  init {
+    require(intervalMs > 0) { "intervalMs must be positive" }
+    require(maxQueuedMessages > 0) { "maxQueuedMessages must be positive" }
+  }
+
+  public enum class OverflowPolicy {
+    /**
+     * Sends the queue right away, then stops reading from the socket until JS has processed it, so
+     * the server is slowed down by TCP flow control rather than messages being lost.
+     */
+    BLOCK,
+    /** Drops the oldest queued message to make room. */
+    DROP_OLDEST,
+    /** Drops the message that arrived. */
+    DROP_NEWEST,
+  }
+
+  /** Receives counters for each batch sent, to tune the batching. */
+  public fun interface Listener {
+    /**
+     * @param batchSize Number of messages in the batch.
+     * @param queueDepth Largest number of messages queued for the socket since its previous batch.
+     * @param droppedMessages Number of messages dropped since the previous batch.
+     */
+    public fun onBatchSent(socketId: Int, batchSize: Int, queueDepth: Int, droppedMessages: Int)
+  }
+
+  public companion object {
+    private const val DEFAULT_INTERVAL_MS = 16L
+    private const val DEFAULT_MAX_QUEUED_MESSAGES = 256
+  }
+}
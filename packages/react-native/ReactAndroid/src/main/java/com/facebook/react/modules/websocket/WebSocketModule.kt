@@ -24,6 +24,7 @@ import com.facebook.react.module.annotations.ReactModule
 import com.facebook.react.modules.network.CustomClientBuilder
 import com.facebook.react.modules.network.ForwardingCookieHandler
 import com.facebook.react.modules.network.InspectorNetworkReporter
+import com.facebook.react.modules.network.JSQueueBackpressure
 import com.facebook.react.modules.network.NetworkEventUtil
 import com.facebook.react.modules.network.OkHttpClientProvider
 import java.io.IOException
@@ -49,6 +50,12 @@ public class WebSocketModule(context: ReactApplicationContext) :
     public fun onMessage(text: String, params: WritableMap)
 
     public fun onMessage(byteString: ByteString, params: WritableMap)
+
+    /**
+     * Called when a message this handler filled in is dropped before reaching JS, e.g. by the
+     * overflow policy of [WebSocketMessageBatching], to release what it refers to.
+     */
+    public fun onMessageDropped(params: WritableMap) {}
   }
 
   private val webSocketConnections: MutableMap<Int, WebSocket> = ConcurrentHashMap()
@@ -58,6 +65,26 @@ public class WebSocketModule(context: ReactApplicationContext) :
   /** CDP request IDs used to report each connection's events to the modern debugger server. */
   private val inspectorRequestIds: MutableMap<Int, String> = ConcurrentHashMap()
 
+  private val messageBatcher: WebSocketMessageBatcher? =
+      messageBatching?.let { batching ->
+        val backpressure = JSQueueBackpressure(context, batching.maxQueuedMessages)
+        WebSocketMessageBatcher(
+            batching,
+            messageBatchingListener,
+            { messageCount, emit -> backpressure.send(messageCount, emit) },
+            { id, message -> contentHandlers[id]?.onMessageDropped(message) },
+        ) { id, messages ->
+          val params = Arguments.createMap()
+          params.putInt("id", id)
+          val messagesArray = Arguments.createArray()
+          for (message in messages) {
+            messagesArray.pushMap(message)
+          }
+          params.putArray("messages", messagesArray)
+          sendEvent("websocketMessageBatch", params)
+        }
+      }
+
   override fun invalidate() {
     for (socket in webSocketConnections.values) {
       socket.close(1_001 /* endpoint is going away */, null)
@@ -88,6 +115,15 @@ public class WebSocketModule(context: ReactApplicationContext) :
     }
   }
 
+  private fun sendMessageEvent(id: Int, params: WritableMap) {
+    val batcher = messageBatcher
+    if (batcher != null) {
+      batcher.add(id, params)
+    } else {
+      sendEvent("websocketMessage", params)
+    }
+  }
+
   public fun setContentHandler(id: Int, contentHandler: ContentHandler?) {
     if (contentHandler != null) {
       contentHandlers[id] = contentHandler
@@ -211,6 +247,8 @@ public class WebSocketModule(context: ReactApplicationContext) :
           }
 
           override fun onClosed(webSocket: WebSocket, code: Int, reason: String) {
+            // Deliver the messages received before the socket closed first
+            messageBatcher?.remove(id)
             reportToInspector(id) { requestId ->
               InspectorNetworkReporter.reportWebSocketClosed(requestId)
             }
@@ -224,6 +262,7 @@ public class WebSocketModule(context: ReactApplicationContext) :
           }
 
           override fun onFailure(webSocket: WebSocket, t: Throwable, response: Response?) {
+            messageBatcher?.remove(id)
             reportToInspector(id) { requestId ->
               InspectorNetworkReporter.reportWebSocketClosed(requestId)
             }
@@ -245,7 +284,7 @@ public class WebSocketModule(context: ReactApplicationContext) :
             } else {
               params.putString("data", text)
             }
-            sendEvent("websocketMessage", params)
+            sendMessageEvent(id, params)
           }
 
           override fun onMessage(webSocket: WebSocket, bytes: ByteString) {
@@ -265,7 +304,7 @@ public class WebSocketModule(context: ReactApplicationContext) :
               params.putString("data", text)
             }
 
-            sendEvent("websocketMessage", params)
+            sendMessageEvent(id, params)
           }
         },
     )
@@ -453,6 +492,23 @@ public class WebSocketModule(context: ReactApplicationContext) :
       customClientBuilder = ccb
     }
 
+    private var messageBatching: WebSocketMessageBatching? = null
+    private var messageBatchingListener: WebSocketMessageBatching.Listener? = null
+
+    /**
+     * Enables batching of incoming messages for the WebSocketModules created from now on, or
+     * disables it when [batching] is null. [listener] receives counters for each batch sent.
+     */
+    @JvmStatic
+    @JvmOverloads
+    public fun setMessageBatching(
+        batching: WebSocketMessageBatching?,
+        listener: WebSocketMessageBatching.Listener? = null,
+    ) {
+      messageBatching = batching
+      messageBatchingListener = listener
+    }
+
     private fun applyCustomBuilder(builder: OkHttpClient.Builder) {
       customClientBuilder?.apply(builder)
     }
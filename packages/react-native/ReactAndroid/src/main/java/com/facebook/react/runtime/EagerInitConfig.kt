@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.runtime
+
+import com.facebook.react.common.annotations.UnstableReactNativeAPI
+
+/**
+ * Describes how the Native Modules that need eager initialization, and the View Managers of
+ * packages that don't create them on demand, are created when React Native starts.
+ *
+ * By default, modules are created one after the other on the native modules thread, and View
+ * Managers when they're first needed. With a [maxParallelism] above 1, both are created on a pool
+ * of that many threads (at most one per core), which can shorten the time to the first frame on
+ * devices with several cores.
+ *
+ * @param maxParallelism Maximum number of threads creating modules and View Managers at once
+ * @param moduleDependencies Names of the modules that must be created before a module, by module
+ *   name. Only dependencies that also need eager initialization are waited for; the others are
+ *   created when the module asks for them, as usual.
+ * @param uiThreadModules Names of the modules that must be created on the UI thread
+ */
+@UnstableReactNativeAPI
+public class EagerInitConfig(
+    public val maxParallelism: Int = 1,
+    public val moduleDependencies: Map<String, Collection<String>> = emptyMap(),
+    public val uiThreadModules: Set<String> = emptySet(),
+)
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.runtime
+
+import com.facebook.common.logging.FLog
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs the tasks that create eager Native Modules and View Managers, each one once all the tasks
+ * it depends on are done, on [backgroundExecutor] or, for tasks that must run there, on
+ * [uiThreadExecutor]. The degree of parallelism is the one of [backgroundExecutor].
+ *
+ * Dependencies on tasks that aren't part of the run are ignored. Tasks in a dependency cycle don't
+ * wait for each other, but still wait for their other dependencies, and the tasks depending on them
+ * wait for them as usual.
+ */
+internal class EagerInitializer(
+    private val backgroundExecutor: Executor,
+    private val uiThreadExecutor: Executor,
+    private val onError: (Exception) -> Unit,
+) {
+
+  class Task(
+      val name: String,
+      val dependencies: Collection<String>,
+      val runOnUiThread: Boolean,
+      val run: () -> Unit,
+  )
+
+  private class State(val task: Task) {
+    val remainingDependencies = AtomicInteger()
+    val dependents = ArrayList<State>()
+    // Used by findCycles
+    var index = -1
+    var lowLink = 0
+    var isOnStack = false
+  }
+
+  private val remainingTasks = AtomicInteger()
+  private var onFinished: () -> Unit = {}
+
+  /** Starts running [tasks], and calls [onFinished] on the thread that ran the last one. */
+  fun start(tasks: List<Task>, onFinished: () -> Unit = {}) {
+    this.onFinished = onFinished
+    if (tasks.isEmpty()) {
+      onFinished()
+      return
+    }
+    val states = LinkedHashMap<String, State>()
+    for (task in tasks) {
+      states[task.name] = State(task)
+    }
+    for (state in states.values) {
+      for (dependency in state.task.dependencies) {
+        val dependencyState = states[dependency]
+        if (dependencyState != null && dependencyState !== state) {
+          dependencyState.dependents.add(state)
+          state.remainingDependencies.incrementAndGet()
+        }
+      }
+    }
+    breakCycles(states.values)
+
+    remainingTasks.set(states.size)
+    for (state in states.values) {
+      if (state.remainingDependencies.get() == 0) {
+        dispatch(state)
+      }
+    }
+  }
+
+  /** Removes the dependencies between the tasks of each cycle, which would never become ready. */
+  private fun breakCycles(states: Collection<State>) {
+    for (cycle in findCycles(states)) {
+      FLog.w(
+          TAG,
+          "Dependency cycle between ${cycle.joinToString { "\"${it.task.name}\"" }}, " +
+              "not waiting for each other",
+      )
+      for (state in cycle) {
+        val iterator = state.dependents.iterator()
+        while (iterator.hasNext()) {
+          val dependent = iterator.next()
+          if (cycle.any { it === dependent }) {
+            iterator.remove()
+            dependent.remainingDependencies.decrementAndGet()
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the strongly connected components of more than one task, found with Tarjan's
+   * algorithm: the tasks of each of them depend on each other through a cycle.
+   */
+  private fun findCycles(states: Collection<State>): List<List<State>> {
+    val stack = ArrayList<State>()
+    val cycles = ArrayList<List<State>>()
+    var nextIndex = 0
+
+    fun visit(state: State) {
+      state.index = nextIndex
+      state.lowLink = nextIndex
+      nextIndex++
+      stack.add(state)
+      state.isOnStack = true
+      for (dependent in state.dependents) {
+        if (dependent.index == -1) {
+          visit(dependent)
+          state.lowLink = minOf(state.lowLink, dependent.lowLink)
+        } else if (dependent.isOnStack) {
+          state.lowLink = minOf(state.lowLink, dependent.index)
+        }
+      }
+      if (state.lowLink == state.index) {
+        val component = ArrayList<State>()
+        do {
+          val member = stack.removeAt(stack.size - 1)
+          member.isOnStack = false
+          component.add(member)
+        } while (member !== state)
+        if (component.size > 1) {
+          cycles.add(component)
+        }
+      }
+    }
+
+    for (state in states) {
+      if (state.index == -1) {
+        visit(state)
+      }
+    }
+    return cycles
+  }
+
+  private fun dispatch(state: State) {
+    val executor = if (state.task.runOnUiThread) uiThreadExecutor else backgroundExecutor
+    executor.execute { run(state) }
+  }
+
+  private fun run(state: State) {
+    try {
+      state.task.run()
+    } catch (e: Exception) {
+      onError(e)
+    }
+    for (dependent in state.dependents) {
+      if (dependent.remainingDependencies.decrementAndGet() == 0) {
+        dispatch(dependent)
+      }
+    }
+    if (remainingTasks.decrementAndGet() == 0) {
+      onFinished()
+    }
+  }
+
+  private companion object {
+    private const val TAG = "EagerInitializer"
+  }
+}
@@ -48,6 +48,13 @@ public interface ReactHostDelegate {
   /** TODO: combine getTurboModuleManagerDelegate inside [ReactPackage] */
   public val turboModuleManagerDelegateBuilder: ReactPackageTurboModuleManagerDelegate.Builder
 
+  /**
+   * How the Native Modules that need eager initialization and the View Managers are created at
+   * startup. Defaults to creating them one after the other.
+   */
+  public val eagerInitConfig: EagerInitConfig
+    get() = EagerInitConfig()
+
   /**
    * Callback that can be used by React Native host applications to react to exceptions thrown by
    * the internals of React Native.
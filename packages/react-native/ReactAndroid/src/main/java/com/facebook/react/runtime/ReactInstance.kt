@@ -33,6 +33,7 @@ import com.facebook.react.bridge.ReactNoCrashSoftException
 import com.facebook.react.bridge.ReactSoftExceptionLogger
 import com.facebook.react.bridge.RuntimeExecutor
 import com.facebook.react.bridge.RuntimeScheduler
+import com.facebook.react.bridge.UiThreadUtil
 import com.facebook.react.bridge.queue.MessageQueueThread
 import com.facebook.react.bridge.queue.MessageQueueThreadSpec
 import com.facebook.react.bridge.queue.QueueThreadExceptionHandler
@@ -76,6 +77,14 @@ import com.facebook.systrace.SystraceMessage
 import java.util.ArrayList
 import java.util.HashMap
 import java.util.HashSet
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.FutureTask
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 import kotlin.collections.Collection
 
 /**
@@ -91,7 +100,7 @@ internal class ReactInstance(
     delegate: ReactHostDelegate,
     componentFactory: ComponentFactory,
     devSupportManager: DevSupportManager,
-    exceptionHandler: QueueThreadExceptionHandler,
+    private val exceptionHandler: QueueThreadExceptionHandler,
     useDevSupport: Boolean,
     reactHostInspectorTarget: ReactHostInspectorTarget?,
 ) {
@@ -100,6 +109,7 @@ internal class ReactInstance(
   private val turboModuleManager: TurboModuleManager
   private val javaTimerManager: JavaTimerManager
   private val viewManagerResolver: BridgelessViewManagerResolver
+  private val eagerInitConfig: EagerInitConfig = delegate.eagerInitConfig
 
   val reactQueueConfiguration: ReactQueueConfiguration
   val fabricUIManager: FabricUIManager
@@ -273,15 +283,64 @@ internal class ReactInstance(
     Systrace.endSection(Systrace.TRACE_TAG_REACT)
   }
 
+  /**
+   * Creates the TurboModules that need eager initialization, as described by [EagerInitConfig]: one
+   * after the other on the native modules thread by default, or on a pool of worker threads, along
+   * with the View Managers, once the modules each one depends on are created.
+   */
   fun initializeEagerTurboModules() {
-    reactQueueConfiguration.getNativeModulesQueueThread().runOnQueue {
-      Systrace.beginSection(Systrace.TRACE_TAG_REACT, "initializeEagerTurboModules")
-      // Eagerly initialize TurboModules
-      for (moduleName in turboModuleManager.eagerInitModuleNames) {
-        turboModuleManager.getModule(moduleName)
-      }
-      Systrace.endSection(Systrace.TRACE_TAG_REACT)
+    val maxParallelism =
+        eagerInitConfig.maxParallelism.coerceIn(1, Runtime.getRuntime().availableProcessors())
+    val tasks = ArrayList<EagerInitializer.Task>()
+    for (moduleName in turboModuleManager.eagerInitModuleNames) {
+      tasks.add(
+          EagerInitializer.Task(
+              moduleName,
+              eagerInitConfig.moduleDependencies[moduleName].orEmpty(),
+              moduleName in eagerInitConfig.uiThreadModules,
+          ) {
+            val instanceKey = markerInstanceKeys.getAndIncrement()
+            ReactMarker.logMarker(ReactMarkerConstants.CREATE_MODULE_START, moduleName, instanceKey)
+            turboModuleManager.getModule(moduleName)
+            ReactMarker.logMarker(ReactMarkerConstants.CREATE_MODULE_END, moduleName, instanceKey)
+          }
+      )
     }
+
+    val backgroundExecutor: Executor
+    var onFinished: () -> Unit = {}
+    if (maxParallelism > 1) {
+      tasks.addAll(viewManagerResolver.eagerViewManagerTasks)
+      val threadCount = AtomicInteger()
+      val pool =
+          ThreadPoolExecutor(
+              maxParallelism,
+              maxParallelism,
+              EAGER_INIT_KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              LinkedBlockingQueue(),
+          ) { runnable ->
+            Thread(runnable, "v_eager_init_${threadCount.incrementAndGet()}")
+          }
+      pool.allowCoreThreadTimeOut(true)
+      backgroundExecutor = pool
+      onFinished = { pool.shutdown() }
+    } else {
+      val nativeModulesQueueThread = reactQueueConfiguration.getNativeModulesQueueThread()
+      backgroundExecutor = Executor { nativeModulesQueueThread.runOnQueue(it) }
+    }
+
+    val cookie = System.identityHashCode(this)
+    Systrace.beginAsyncSection(Systrace.TRACE_TAG_REACT, "initializeEagerTurboModules", cookie)
+    EagerInitializer(
+            backgroundExecutor,
+            { UiThreadUtil.runOnUiThread(it) },
+            { exceptionHandler.handleException(it) },
+        )
+        .start(tasks) {
+          Systrace.endAsyncSection(Systrace.TRACE_TAG_REACT, "initializeEagerTurboModules", cookie)
+          onFinished()
+        }
   }
 
   private inner class ReactJsExceptionHandlerImpl(
@@ -507,6 +566,59 @@ internal class ReactInstance(
 
     private lateinit var _eagerViewManagerMap: Map<String, ViewManager<*, *>>
 
+    private val viewManagersByPackage =
+        ConcurrentHashMap<ReactPackage, FutureTask<List<ViewManager<*, *>>>>()
+
+    /** Tasks creating the View Managers of each package ahead of [eagerViewManagerMap]. */
+    val eagerViewManagerTasks: List<EagerInitializer.Task>
+      get() =
+          reactPackages
+              .filter { it !is ViewManagerOnDemandReactPackage }
+              .map { reactPackage ->
+                EagerInitializer.Task(
+                    "ViewManagers:${reactPackage.javaClass.name}",
+                    emptyList(),
+                    false,
+                ) {
+                  createViewManagers(reactPackage)
+                }
+              }
+
+    /**
+     * Creates the View Managers of a package once, waiting for them when another thread is already
+     * creating them.
+     */
+    private fun createViewManagers(reactPackage: ReactPackage): List<ViewManager<*, *>> {
+      val task =
+          viewManagersByPackage.computeIfAbsent(reactPackage) {
+            FutureTask {
+              val packageName = reactPackage.javaClass.name
+              val instanceKey = markerInstanceKeys.getAndIncrement()
+              ReactMarker.logMarker(
+                  ReactMarkerConstants.CREATE_VIEW_MANAGERS_START,
+                  packageName,
+                  instanceKey,
+              )
+              try {
+                reactPackage.createViewManagers(context)
+              } finally {
+                ReactMarker.logMarker(
+                    ReactMarkerConstants.CREATE_VIEW_MANAGERS_END,
+                    packageName,
+                    instanceKey,
+                )
+              }
+            }
+          }
+      // A no-op when another thread already ran or is running it
+      task.run()
+      try {
+        return task.get()
+      } catch (e: ExecutionException) {
+        throw e.cause ?: e
+      }
+    }
+
     @get:Synchronized
     val eagerViewManagerMap: Map<String, ViewManager<*, *>>
       get() {
@@ -520,7 +632,7 @@ internal class ReactInstance(
             continue
           }
 
-          val viewManagersInPackage = reactPackage.createViewManagers(context)
+          val viewManagersInPackage = createViewManagers(reactPackage)
           for (viewManager in viewManagersInPackage) {
             // TODO(T173624687): Should we throw/warn when the same view manager name is registered
             // twice?
@@ -582,6 +694,16 @@ internal class ReactInstance(
   companion object {
     private val TAG: String = ReactInstance::class.java.simpleName
 
+    /** How long the threads creating modules and View Managers at startup wait for more work. */
+    private const val EAGER_INIT_KEEP_ALIVE_SECONDS = 1L
+
+    /**
+     * Keys of the markers logged while creating modules and View Managers concurrently, so that
+     * each END marker can be matched with its START, like [com.facebook.react.bridge.ModuleHolder]
+     * does.
+     */
+    private val markerInstanceKeys = AtomicInteger(1)
+
     init {
       SoLoader.loadLibrary("rninstance")
     }
@@ -804,6 +804,11 @@ public abstract class BaseViewManager<T extends View, C extends LayoutShadowNode
                 MapBuilder.of(
                     "phasedRegistrationNames",
                     MapBuilder.of("bubbled", "onKeyUp", "captured", "onKeyUpCapture")))
+            .put(
+                "topHWKeyEvent",
+                MapBuilder.of(
+                    "phasedRegistrationNames",
+                    MapBuilder.of("bubbled", "onHWKeyEvent", "captured", "onHWKeyEventCapture")))
             .build());
     return eventTypeConstants;
   }
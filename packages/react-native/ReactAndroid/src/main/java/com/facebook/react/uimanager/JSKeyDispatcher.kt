@@ -9,8 +9,10 @@ package com.facebook.react.uimanager
 
 import android.view.KeyEvent as AndroidKeyEvent
 import android.view.View
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.uimanager.events.EventDispatcher
 import com.facebook.react.uimanager.events.KeyDownEvent
+import com.facebook.react.uimanager.events.KeyRepeatCoalescer
 import com.facebook.react.uimanager.events.KeyUpEvent
 
 /**
@@ -20,9 +22,15 @@ import com.facebook.react.uimanager.events.KeyUpEvent
  *
  * The keydown and keyup events provide a code indicating which key is pressed. The event target is
  * derived from the currently focused Android view.
+ *
+ * When [ReactFeatureFlags.enableKeyRepeatCoalescing] is set, the keydown repeats of a held key are
+ * collapsed to at most one event per frame.
  */
 internal class JSKeyDispatcher {
   private var focusedViewTag: Int = View.NO_ID
+  private var keyRepeatCoalescer: KeyRepeatCoalescer<AndroidKeyEvent>? = null
+  private var repeatEventDispatcher: EventDispatcher? = null
+  private var repeatSurfaceId: Int = View.NO_ID
 
   fun handleKeyEvent(
       keyEvent: AndroidKeyEvent,
@@ -33,8 +41,22 @@ internal class JSKeyDispatcher {
       return
     }
 
+    val coalescer = getKeyRepeatCoalescer()
+    if (coalescer != null) {
+      repeatEventDispatcher = eventDispatcher
+      repeatSurfaceId = surfaceId
+    }
+
     when (keyEvent.action) {
       AndroidKeyEvent.ACTION_DOWN -> {
+        if (coalescer != null) {
+          // The framework recycles keyEvent once it is dispatched, so a repeat that waits for a
+          // later frame keeps a copy of it. The first key down of a press is never kept.
+          val payload = if (keyEvent.repeatCount > 0) AndroidKeyEvent(keyEvent) else keyEvent
+          if (!coalescer.onKeyDown(keyEvent.keyCode, keyEvent.repeatCount, payload)) {
+            return
+          }
+        }
         eventDispatcher.dispatchEvent(
             KeyDownEvent(
                 surfaceId,
@@ -44,6 +66,7 @@ internal class JSKeyDispatcher {
         )
       }
       AndroidKeyEvent.ACTION_UP -> {
+        coalescer?.onKeyUp(keyEvent.keyCode)
         eventDispatcher.dispatchEvent(
             KeyUpEvent(
                 surfaceId,
@@ -61,5 +84,37 @@ internal class JSKeyDispatcher {
 
   fun clearFocus() {
     focusedViewTag = View.NO_ID
+    keyRepeatCoalescer?.reset()
+  }
+
+  private fun getKeyRepeatCoalescer(): KeyRepeatCoalescer<AndroidKeyEvent>? {
+    if (!ReactFeatureFlags.enableKeyRepeatCoalescing) {
+      return null
+    }
+    var coalescer = keyRepeatCoalescer
+    if (coalescer == null) {
+      val maxEventsPerSecond = ReactFeatureFlags.keyRepeatMaxEventsPerSecond
+      coalescer =
+          KeyRepeatCoalescer<AndroidKeyEvent>(maxEventsPerSecond) { _, repeatCount, event ->
+            dispatchCoalescedRepeat(event, repeatCount)
+          }
+      keyRepeatCoalescer = coalescer
+    }
+    return coalescer
+  }
+
+  private fun dispatchCoalescedRepeat(keyEvent: AndroidKeyEvent, repeatCount: Int) {
+    val eventDispatcher = repeatEventDispatcher
+    if (eventDispatcher == null || focusedViewTag == View.NO_ID) {
+      return
+    }
+    eventDispatcher.dispatchEvent(
+        KeyDownEvent(
+            repeatSurfaceId,
+            focusedViewTag,
+            keyEvent,
+            repeatCount,
+        ),
+    )
   }
 }
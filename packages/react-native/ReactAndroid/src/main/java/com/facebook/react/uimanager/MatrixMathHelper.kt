@@ -7,6 +7,7 @@
 
 package com.facebook.react.uimanager
 
+import androidx.annotation.VisibleForTesting
 import com.facebook.infer.annotation.Assertions
 import kotlin.math.abs
 import kotlin.math.atan2
@@ -21,6 +22,8 @@ import kotlin.math.tan
  */
 public object MatrixMathHelper {
   private const val EPSILON = .00001
+  private const val MIN_EXACT_SCALE = 1e-100
+  private const val MAX_EXACT_SCALE = 1e100
 
   private fun isZero(d: Double): Boolean {
     return if (java.lang.Double.isNaN(d)) {
@@ -85,6 +88,16 @@ public object MatrixMathHelper {
   public fun decomposeMatrix(transformMatrix: DoubleArray, ctx: MatrixDecompositionContext) {
     Assertions.assertCondition(transformMatrix.size == 16)
 
+    if (!decomposeTranslateScaleMatrix(transformMatrix, ctx)) {
+      decomposeGeneralMatrix(transformMatrix, ctx)
+    }
+  }
+
+  @VisibleForTesting
+  internal fun decomposeGeneralMatrix(
+      transformMatrix: DoubleArray,
+      ctx: MatrixDecompositionContext,
+  ) {
     // output values
     val perspective = ctx.perspective
     val scale = ctx.scale
@@ -195,6 +208,67 @@ public object MatrixMathHelper {
     rotationDegrees[2] = roundTo3Places(-atan2(row[1][0], row[0][0]) * conv)
   }
 
+  /**
+   * Decomposes matrices that only translate and scale by positive factors (the most common
+   * transforms, e.g. focus effects) without the general algorithm, which allocates and
+   * orthogonalizes rows. For those matrices, every step of the general algorithm is exact: the
+   * translation and scale are read as-is (sqrt(x * x) == x in binary floating point, as long as it
+   * doesn't overflow or underflow) and all rotations round to 0, so the results are identical.
+   *
+   * @return whether the matrix was decomposed
+   */
+  private fun decomposeTranslateScaleMatrix(
+      m: DoubleArray,
+      ctx: MatrixDecompositionContext,
+  ): Boolean {
+    if (
+        m[1] != 0.0 ||
+            m[2] != 0.0 ||
+            m[3] != 0.0 ||
+            m[4] != 0.0 ||
+            m[6] != 0.0 ||
+            m[7] != 0.0 ||
+            m[8] != 0.0 ||
+            m[9] != 0.0 ||
+            m[11] != 0.0 ||
+            m[15] != 1.0
+    ) {
+      return false
+    }
+    val scaleX = m[0]
+    val scaleY = m[5]
+    val scaleZ = m[10]
+    if (
+        !isExactScale(scaleX) ||
+            !isExactScale(scaleY) ||
+            !isExactScale(scaleZ) ||
+            !m[12].isFinite() ||
+            !m[13].isFinite() ||
+            !m[14].isFinite() ||
+            // Singular matrices are left undecomposed, as determinant() would find
+            isZero(scaleX * scaleY * scaleZ)
+    ) {
+      return false
+    }
+    ctx.perspective[0] = 0.0
+    ctx.perspective[1] = 0.0
+    ctx.perspective[2] = 0.0
+    ctx.perspective[3] = 1.0
+    ctx.translation[0] = m[12]
+    ctx.translation[1] = m[13]
+    ctx.translation[2] = m[14]
+    ctx.scale[0] = scaleX
+    ctx.scale[1] = scaleY
+    ctx.scale[2] = scaleZ
+    ctx.skew.fill(0.0)
+    ctx.rotationDegrees.fill(0.0)
+    return true
+  }
+
+  /** Whether a scale factor is positive and its square neither overflows nor underflows. */
+  internal fun isExactScale(scale: Double): Boolean =
+      scale >= MIN_EXACT_SCALE && scale <= MAX_EXACT_SCALE
+
   @JvmStatic
   public fun determinant(matrix: DoubleArray): Double {
     val m00 = matrix[0]
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import com.facebook.infer.annotation.Nullsafe;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Calls a reflective prop setter with an argument array owned by the caller. Kotlin copies an array
+ * spread into a varargs parameter, so {@link ViewManagersPropertyCache} goes through this class to
+ * reuse its argument arrays across updates.
+ */
+@Nullsafe(Nullsafe.Mode.LOCAL)
+/* package */ final class PropSetterInvoker {
+
+  private PropSetterInvoker() {}
+
+  /* package */ static void invoke(Method setter, Object target, Object[] args)
+      throws IllegalAccessException, InvocationTargetException {
+    setter.invoke(target, args);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager
+
+import android.content.ComponentCallbacks2
+import android.view.View
+
+/**
+ * The unused views a [ViewManager] keeps for reuse. Views are handed back out to the surface they
+ * were created for, since their [ThemedReactContext] is bound to it, but all surfaces share a
+ * single budget of [maxViews]: when it's exceeded, the least recently released views are evicted
+ * first, whichever surface they belong to.
+ *
+ * Only used on the UI thread.
+ */
+internal class RecyclableViewPool<T : View>(private val maxViews: Int) {
+
+  private class Entry<T>(val view: T, val sequence: Long)
+
+  // Views of each running surface, least recently released first
+  private val surfaces = HashMap<Int, ArrayDeque<Entry<T>>>()
+  private var nextSequence = 0L
+
+  /** Number of views in the pool. */
+  var size: Int = 0
+    private set
+
+  /** Number of views taken from the pool. */
+  var hitCount: Long = 0
+    private set
+
+  /** Number of times the pool had no view to hand out. */
+  var missCount: Long = 0
+    private set
+
+  /** Number of views dropped to stay within budget or because of memory pressure. */
+  var evictedCount: Long = 0
+    private set
+
+  /**
+   * Takes the most recently released view of a surface, or returns null if there is none. Starts
+   * accepting views of the surface in [release].
+   */
+  fun acquire(surfaceId: Int): T? {
+    addSurface(surfaceId)
+    val entry = surfaces.getValue(surfaceId).removeLastOrNull()
+    if (entry == null) {
+      missCount++
+      return null
+    }
+    size--
+    hitCount++
+    return entry.view
+  }
+
+  /** Number of views in the pool for a surface. */
+  fun size(surfaceId: Int): Int = surfaces[surfaceId]?.size ?: 0
+
+  /** Starts accepting views of a surface in [release], if not already. */
+  fun addSurface(surfaceId: Int) {
+    surfaces.getOrPut(surfaceId) { ArrayDeque() }
+  }
+
+  /** Whether [release] would keep a view of the surface, which must then be prepared for reuse. */
+  fun accepts(surfaceId: Int): Boolean = maxViews > 0 && surfaces.containsKey(surfaceId)
+
+  /** Puts a view back in the pool, evicting the least recently released view if it's full. */
+  fun release(surfaceId: Int, view: T) {
+    val views = surfaces[surfaceId] ?: return
+    if (maxViews <= 0) {
+      return
+    }
+    if (size >= maxViews) {
+      evictLeastRecentlyReleased()
+    }
+    views.addLast(Entry(view, nextSequence++))
+    size++
+  }
+
+  /** Drops the views of a stopped surface, and stops accepting new ones. */
+  fun removeSurface(surfaceId: Int) {
+    surfaces.remove(surfaceId)?.let { size -= it.size }
+  }
+
+  /**
+   * Evicts the least recently released views in proportion to the memory pressure reported by
+   * [ComponentCallbacks2.onTrimMemory]: a quarter of the pool for
+   * [ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE], half for
+   * [ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW] and everything from
+   * [ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL] on.
+   */
+  @Suppress("DEPRECATION") // The TRIM_MEMORY_RUNNING_* levels are still reported on older devices
+  fun trim(level: Int) {
+    val targetSize =
+        when {
+          level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> 0
+          level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW -> size / 2
+          level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE -> size * 3 / 4
+          else -> size
+        }
+    while (size > targetSize) {
+      evictLeastRecentlyReleased()
+    }
+  }
+
+  private fun evictLeastRecentlyReleased() {
+    var oldest: ArrayDeque<Entry<T>>? = null
+    var oldestSequence = Long.MAX_VALUE
+    for (views in surfaces.values) {
+      val first = views.firstOrNull() ?: continue
+      if (first.sequence < oldestSequence) {
+        oldest = views
+        oldestSequence = first.sequence
+      }
+    }
+    if (oldest != null) {
+      oldest.removeFirst()
+      size--
+      evictedCount++
+    }
+  }
+}
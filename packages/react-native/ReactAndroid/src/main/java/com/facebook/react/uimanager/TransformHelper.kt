@@ -7,6 +7,7 @@
 
 package com.facebook.react.uimanager
 
+import androidx.annotation.VisibleForTesting
 import com.facebook.common.logging.FLog
 import com.facebook.react.bridge.NativeArray
 import com.facebook.react.bridge.ReactNativeJNISoLoader
@@ -81,13 +82,26 @@ public object TransformHelper {
       return
     }
 
-    val helperMatrix = helperMatrix.get()!!
-    MatrixMathHelper.resetIdentityMatrix(result)
     val offsets = getTranslateForTransformOrigin(
         viewWidth,
         viewHeight,
         transformOrigin,
     )
+    if (!processTranslateScaleTransform(transforms, result, viewWidth, viewHeight, offsets)) {
+      processGeneralTransform(transforms, result, viewWidth, viewHeight, offsets)
+    }
+  }
+
+  @VisibleForTesting
+  internal fun processGeneralTransform(
+      transforms: ReadableArray,
+      result: DoubleArray,
+      viewWidth: Float,
+      viewHeight: Float,
+      offsets: DoubleArray?,
+  ) {
+    val helperMatrix = helperMatrix.get()!!
+    MatrixMathHelper.resetIdentityMatrix(result)
 
     if (offsets != null) {
       MatrixMathHelper.resetIdentityMatrix(helperMatrix)
@@ -188,6 +202,121 @@ public object TransformHelper {
     }
   }
 
+  /**
+   * Composes transforms made only of translations and positive scales without multiplying 4x4
+   * matrices. Such matrices only have a diagonal and a translation, so only the products that
+   * involve them are computed; in the same order as [MatrixMathHelper.multiplyInto] and with the
+   * same zero terms, so the result is identical to the general path.
+   *
+   * @return whether the transforms were composed into [result]
+   */
+  private fun processTranslateScaleTransform(
+      transforms: ReadableArray,
+      result: DoubleArray,
+      viewWidth: Float,
+      viewHeight: Float,
+      offsets: DoubleArray?,
+  ): Boolean {
+    if (transforms.size() == 0 || transforms.getType(0) != ReadableType.Map) {
+      return false
+    }
+    var scaleX = 1.0
+    var scaleY = 1.0
+    var translateX = 0.0
+    var translateY = 0.0
+    var translateZ = 0.0
+
+    // The general path applies the new matrix as the left operand of the multiplication
+    fun translate(x: Double, y: Double, z: Double) {
+      translateX = x * scaleX + y * 0.0 + z * 0.0 + translateX
+      translateY = x * 0.0 + y * scaleY + z * 0.0 + translateY
+      translateZ = x * 0.0 + y * 0.0 + z * 1.0 + translateZ
+    }
+
+    fun scale(x: Double, y: Double) {
+      scaleX *= x
+      scaleY *= y
+      translateX += 0.0
+      translateY += 0.0
+      translateZ += 0.0
+    }
+
+    if (offsets != null) {
+      translate(offsets[0], offsets[1], offsets[2])
+    }
+    for (transformIdx in 0 until transforms.size()) {
+      val transform = transforms.getMap(transformIdx) ?: return false
+      val transformType = transform.keySetIterator().nextKey()
+      when (transformType) {
+        "scale",
+        "scaleX",
+        "scaleY" -> {
+          if (transform.getType(transformType) != ReadableType.Number) {
+            return false
+          }
+          val factor = transform.getDouble(transformType)
+          if (!MatrixMathHelper.isExactScale(factor)) {
+            return false
+          }
+          scale(
+              if (transformType == "scaleY") 1.0 else factor,
+              if (transformType == "scaleX") 1.0 else factor,
+          )
+        }
+        "translate" -> {
+          val value = transform.getArray(transformType) ?: return false
+          val x =
+              if (value.getType(0) == ReadableType.String)
+                  parseTranslateValue(value.getString(0)!!, viewWidth.toDouble())
+              else value.getDouble(0)
+          val y =
+              if (value.getType(1) == ReadableType.String)
+                  parseTranslateValue(value.getString(1)!!, viewHeight.toDouble())
+              else value.getDouble(1)
+          val z = if (value.size() > 2) value.getDouble(2) else 0.0
+          translate(x, y, z)
+        }
+        "translateX" -> {
+          val translateValue =
+              if (transform.getType(transformType) == ReadableType.String)
+                  parseTranslateValue(transform.getString(transformType)!!, viewWidth.toDouble())
+              else transform.getDouble(transformType)
+          translate(translateValue, 0.0, 0.0)
+        }
+        "translateY" -> {
+          val translateValue =
+              if (transform.getType(transformType) == ReadableType.String)
+                  parseTranslateValue(transform.getString(transformType)!!, viewHeight.toDouble())
+              else transform.getDouble(transformType)
+          translate(0.0, translateValue, 0.0)
+        }
+        else -> return false
+      }
+      // Products with non-finite values or scales out of range don't have the zero terms the
+      // shortcut relies on
+      if (
+          !translateX.isFinite() ||
+              !translateY.isFinite() ||
+              !translateZ.isFinite() ||
+              !MatrixMathHelper.isExactScale(scaleX) ||
+              !MatrixMathHelper.isExactScale(scaleY)
+      ) {
+        return false
+      }
+    }
+    if (offsets != null) {
+      translate(-offsets[0], -offsets[1], -offsets[2])
+    }
+
+    MatrixMathHelper.resetIdentityMatrix(result)
+    result[0] = scaleX
+    result[5] = scaleY
+    result[12] = translateX
+    result[13] = translateY
+    result[14] = translateZ
+    return true
+  }
+
   internal fun parseTranslateValue(stringValue: String, dimension: Double): Double {
     return try {
       if (stringValue.endsWith("%")) {
@@ -202,7 +331,8 @@ public object TransformHelper {
     }
   }
 
-  private fun getTranslateForTransformOrigin(
+  @VisibleForTesting
+  internal fun getTranslateForTransformOrigin(
       viewWidth: Float,
       viewHeight: Float,
       transformOrigin: ReadableArray?,
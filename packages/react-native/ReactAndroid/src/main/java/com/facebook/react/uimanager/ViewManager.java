@@ -12,6 +12,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
 import com.facebook.common.logging.FLog;
 import com.facebook.react.bridge.BaseJavaModule;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -30,10 +31,8 @@ import com.facebook.react.uimanager.annotations.ReactProp;
 import com.facebook.react.uimanager.annotations.ReactPropGroup;
 import com.facebook.react.uimanager.annotations.ReactPropertyHolder;
 import com.facebook.yoga.YogaMeasureMode;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Stack;
 
 /**
  * Class responsible for knowing how to create and update catalyst Views of a given type. It is also
@@ -49,11 +48,20 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
   private @Nullable ViewManagerDelegate<T> mDelegate = null;
 
   /**
-   * For View recycling: we store a Stack of unused, dead Views. This is null by default, and when
+   * Views recycled by default by each ViewManager, across all surfaces. Keeps scrolling through a
+   * large list from growing the pool without bounds.
+   */
+  private static final int DEFAULT_MAX_RECYCLABLE_VIEWS = 512;
+
+  /**
+   * For View recycling: we store a pool of unused, dead Views. This is null by default, and when
    * null signals that View Recycling is disabled. `enableViewRecycling` must be explicitly called
    * in a concrete constructor to enable View Recycling per ViewManager.
    */
-  @Nullable private Map<Integer, Stack<T>> mRecyclableViews = null;
+  @Nullable private RecyclableViewPool<T> mRecyclableViews = null;
+
+  /** Views created ahead of time by {@link #prewarmView}, not used yet. Created lazily. */
+  @Nullable private RecyclableViewPool<T> mWarmViews = null;
 
   public ViewManager() {
     super(null);
@@ -65,25 +73,18 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
 
   /** Call in constructor of concrete ViewManager class to enable. */
   protected void setupViewRecycling() {
-    if (ReactNativeFeatureFlags.enableViewRecycling()) {
-      mRecyclableViews = new HashMap<>();
-    }
+    setupViewRecycling(DEFAULT_MAX_RECYCLABLE_VIEWS);
   }
 
   /**
-   * Returns the stack of recycled views for the surface, if enabled
-   *
-   * @param create Whether to create a new stack if not found for the {@code surfaceId}. Should be
-   *     {@code false} if it's possible the surface has been stopped.
+   * Call in constructor of concrete ViewManager class to enable, keeping at most {@code
+   * maxRecyclableViews} unused Views across all surfaces. The least recently dropped Views are
+   * evicted beyond that.
    */
-  private @Nullable Stack<T> getRecyclableViewStack(int surfaceId, boolean create) {
-    if (mRecyclableViews == null) {
-      return null;
-    }
-    if (create && !mRecyclableViews.containsKey(surfaceId)) {
-      mRecyclableViews.put(surfaceId, new Stack<T>());
+  protected void setupViewRecycling(int maxRecyclableViews) {
+    if (ReactNativeFeatureFlags.enableViewRecycling()) {
+      mRecyclableViews = new RecyclableViewPool<>(maxRecyclableViews);
     }
-    return mRecyclableViews.get(surfaceId);
   }
 
   /**
@@ -208,10 +209,15 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
       @Nullable ReactStylesDiffMap initialProps,
       @Nullable StateWrapper stateWrapper) {
     T view = null;
-    @Nullable Stack<T> recyclableViews = getRecyclableViewStack(reactContext.getSurfaceId(), true);
-    if (recyclableViews != null && !recyclableViews.empty()) {
-      T recyclableView = recyclableViews.pop();
-
+    @Nullable
+    T warmView = mWarmViews != null ? mWarmViews.acquire(reactContext.getSurfaceId()) : null;
+    @Nullable T recyclableView =
+        warmView == null && mRecyclableViews != null
+            ? mRecyclableViews.acquire(reactContext.getSurfaceId())
+            : null;
+    if (warmView != null) {
+      view = warmView;
+    } else if (recyclableView != null) {
       // When view recycling isn't enabled for all components, a recyclable view could still be
       // attached to a non-recyclable view. This guarantees that recycled view have been removed
       // from their parent.
@@ -238,6 +244,35 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
     return view;
   }
 
+  /**
+   * Creates a View ahead of time for the surface of {@code reactContext}, to be used by the next
+   * {@link #createView} for that surface instead of creating one then. {@code baseProps} are
+   * applied to the View right away: they should be props every instance gets, since props that the
+   * new instance doesn't set are not reset.
+   */
+  @UiThread
+  public void prewarmView(
+      @NonNull ThemedReactContext reactContext, @Nullable ReactStylesDiffMap baseProps) {
+    @Nullable RecyclableViewPool<T> warmViews = mWarmViews;
+    if (warmViews == null) {
+      warmViews = new RecyclableViewPool<>(Integer.MAX_VALUE);
+      mWarmViews = warmViews;
+    }
+    T view = createViewInstance(reactContext);
+    if (baseProps != null) {
+      updateProperties(view, baseProps);
+    }
+    int surfaceId = reactContext.getSurfaceId();
+    warmViews.addSurface(surfaceId);
+    warmViews.release(surfaceId, view);
+  }
+
+  /** Returns the number of Views created by {@link #prewarmView} for a surface, not used yet. */
+  @UiThread
+  public int getWarmViewCount(int surfaceId) {
+    return mWarmViews != null ? mWarmViews.size(surfaceId) : 0;
+  }
+
   /**
    * Called when view is detached from view hierarchy and allows for some additional cleanup by the
    * {@link ViewManager} subclass.
@@ -264,11 +299,11 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
     // View recycling
     ThemedReactContext themedReactContext = (ThemedReactContext) viewContext;
     int surfaceId = themedReactContext.getSurfaceId();
-    @Nullable Stack<T> recyclableViews = getRecyclableViewStack(surfaceId, false);
-    if (recyclableViews != null) {
+    @Nullable RecyclableViewPool<T> recyclableViews = mRecyclableViews;
+    if (recyclableViews != null && recyclableViews.accepts(surfaceId)) {
       T recyclableView = prepareToRecycleView(themedReactContext, view);
       if (recyclableView != null) {
-        recyclableViews.push(recyclableView);
+        recyclableViews.release(surfaceId, recyclableView);
       }
     }
   }
@@ -453,6 +488,16 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
     return 0;
   }
 
+  /**
+   * Whether the result of {@link #measure} only depends on the configuration of the context, the
+   * maps and the constraints it is given, so that Fabric may reuse it for identical components of
+   * a surface. Subclasses measuring a native control the same way for every instance (e.g. a
+   * switch) can override this method to return true.
+   */
+  public boolean isMeasureCacheable() {
+    return false;
+  }
+
   /**
    * Subclasses can override this method to set padding for the given View in Fabric. Since not all
    * components support setting padding, the default implementation of this method does nothing.
@@ -466,17 +511,30 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
    */
   public void onSurfaceStopped(int surfaceId) {
     if (mRecyclableViews != null) {
-      mRecyclableViews.remove(surfaceId);
+      mRecyclableViews.removeSurface(surfaceId);
+    }
+    if (mWarmViews != null) {
+      mWarmViews.removeSurface(surfaceId);
     }
   }
 
-  /** With even slight memory pressure, we immediately evict all recyclable Views. */
-  /* package */ void trimMemory() {
-    // Wipe out all existing recyclable Views, but do not disable View Recycling entirely.
+  /**
+   * Evicts recyclable Views in proportion to the memory pressure {@code level}, from {@link
+   * android.content.ComponentCallbacks2#onTrimMemory}, least recently dropped first.
+   */
+  /* package */ void trimMemory(int level) {
     // We only take any action if View Recycling is already enabled.
     if (mRecyclableViews != null) {
-      mRecyclableViews = new HashMap<>();
+      mRecyclableViews.trim(level);
     }
+    if (mWarmViews != null) {
+      mWarmViews.trim(level);
+    }
+  }
+
+  /** Returns the pool of recyclable Views, or null if View Recycling is disabled. */
+  /* package */ @Nullable RecyclableViewPool<T> getRecyclableViewPool() {
+    return mRecyclableViews;
   }
 
   /**
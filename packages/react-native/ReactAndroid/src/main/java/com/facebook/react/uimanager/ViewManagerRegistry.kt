@@ -135,6 +135,33 @@ public class ViewManagerRegistry : ComponentCallbacks2 {
     }
   }
 
+  /**
+   * Counters of the View Recycling pools of all ViewManagers: views taken from a pool (hits), views
+   * created because a pool was empty (misses), views currently pooled and views evicted.
+   */
+  @JvmName("getViewRecyclingCounters")
+  internal fun getViewRecyclingCounters(): Map<String, Long> {
+    val viewManagers: List<ViewManager<*, *>> =
+        synchronized(this) { ArrayList(viewManagersMap.values) }
+    var hits = 0L
+    var misses = 0L
+    var pooled = 0L
+    var evicted = 0L
+    for (viewManager in viewManagers) {
+      val pool = viewManager.recyclableViewPool ?: continue
+      hits += pool.hitCount
+      misses += pool.missCount
+      pooled += pool.size
+      evicted += pool.evictedCount
+    }
+    return mapOf(
+        "ViewRecyclingHits" to hits,
+        "ViewRecyclingMisses" to misses,
+        "ViewRecyclingPooledViews" to pooled,
+        "ViewRecyclingEvictedViews" to evicted,
+    )
+  }
+
   /** ComponentCallbacks2 method. */
   public override fun onTrimMemory(level: Int) {
     val viewManagers: List<ViewManager<*, *>> =
@@ -142,7 +169,7 @@ public class ViewManagerRegistry : ComponentCallbacks2 {
 
     val runnable = {
       for (viewManager in viewManagers) {
-        viewManager.trimMemory()
+        viewManager.trimMemory(level)
       }
     }
 
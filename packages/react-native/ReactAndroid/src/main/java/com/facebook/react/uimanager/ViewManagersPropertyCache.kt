@@ -48,6 +48,7 @@ internal object ViewManagersPropertyCache {
       propType = if (ReactProp.USE_DEFAULT_TYPE == prop.customType) defaultType else prop.customType
       this.setter = setter
       this.index = null
+      skipAccessChecks(setter)
     }
 
     protected constructor(prop: ReactPropGroup, defaultType: String, setter: Method, index: Int) {
@@ -56,16 +57,12 @@ internal object ViewManagersPropertyCache {
           if (ReactPropGroup.USE_DEFAULT_TYPE == prop.customType) defaultType else prop.customType
       this.setter = setter
       this.index = index
+      skipAccessChecks(setter)
     }
 
     fun updateViewProp(viewManager: ViewManager<*, *>, viewToUpdate: View, value: Any?) {
       try {
-        val resolved = getValueOrDefault(value, viewToUpdate.context)
-        if (index == null) {
-          setter.invoke(viewManager, viewToUpdate, resolved)
-        } else {
-          setter.invoke(viewManager, viewToUpdate, index, resolved)
-        }
+        invoke(viewManager, viewToUpdate, getValueOrDefault(value, viewToUpdate.context))
       } catch (t: Throwable) {
         FLog.e(ViewManager::class.java, "Error while updating prop $propName", t)
         throw JSApplicationIllegalArgumentException(
@@ -77,12 +74,7 @@ internal object ViewManagersPropertyCache {
 
     fun updateShadowNodeProp(nodeToUpdate: ReactShadowNode<*>, value: Any?) {
       try {
-        val resolved = getValueOrDefault(value, nodeToUpdate.getThemedContext())
-        if (index == null) {
-          setter.invoke(nodeToUpdate, resolved)
-        } else {
-          setter.invoke(nodeToUpdate, index, resolved)
-        }
+        invoke(nodeToUpdate, null, getValueOrDefault(value, nodeToUpdate.getThemedContext()))
       } catch (t: Throwable) {
         FLog.e(ViewManager::class.java, "Error while updating prop $propName", t)
         throw JSApplicationIllegalArgumentException(
@@ -92,7 +84,60 @@ internal object ViewManagersPropertyCache {
       }
     }
 
+    /**
+     * Returns the value to pass to [setter]. Called on every update, so implementations return
+     * values JS already boxed, or boxed once, rather than boxing primitives again.
+     */
     protected abstract fun getValueOrDefault(value: Any?, context: Context): Any?
+
+    /**
+     * Calls [setter] on [target] with [view] if it's not null, [index] for group setters and
+     * [value], in an argument array of the thread rather than a new varargs array.
+     */
+    private fun invoke(target: Any, view: View?, value: Any?) {
+      val size = (if (view != null) 1 else 0) + (if (index != null) 1 else 0) + 1
+      val args = ARGUMENT_ARRAYS.get()!![size - 1]
+      var i = 0
+      if (view != null) {
+        args[i++] = view
+      }
+      if (index != null) {
+        args[i++] = index
+      }
+      args[i] = value
+      try {
+        PropSetterInvoker.invoke(setter, target, args)
+      } finally {
+        // Don't keep views alive. Nested updates made by the setter ran after it read its args.
+        args.fill(null)
+      }
+    }
+
+    private companion object {
+      /** Argument arrays of 1 to 3 elements, reused by the updates made on each thread. */
+      private val ARGUMENT_ARRAYS =
+          object : ThreadLocal<Array<Array<Any?>>>() {
+            override fun initialValue(): Array<Array<Any?>> =
+                arrayOf(arrayOfNulls(1), arrayOfNulls(2), arrayOfNulls(3))
+          }
+
+      /** Spares [Method.invoke] the access checks it otherwise makes on every call. */
+      private fun skipAccessChecks(setter: Method) {
+        try {
+          setter.isAccessible = true
+        } catch (e: SecurityException) {
+          // Checked on every call instead
+        }
+      }
+    }
+  }
+
+  /**
+   * A number from JS and the boxed value a setter converted it to. Setters keep the last one, so
+   * updates repeating a value don't box it again.
+   */
+  private class ConvertedNumber(private val source: Double, val converted: Any) {
+    fun isConversionOf(value: Double): Boolean = source.toRawBits() == value.toRawBits()
   }
 
   private class DynamicPropSetter : PropSetter {
@@ -111,7 +156,7 @@ internal object ViewManagersPropertyCache {
 
   private class IntPropSetter : PropSetter {
 
-    private val defaultValue: Int
+    private val defaultValue: Any
 
     constructor(
         prop: ReactProp,
@@ -130,15 +175,26 @@ internal object ViewManagersPropertyCache {
       this.defaultValue = defaultValue
     }
 
+    @Volatile private var lastConverted: ConvertedNumber? = null
+
     override fun getValueOrDefault(value: Any?, context: Context): Any {
+      if (value == null) {
+        return defaultValue
+      }
       // All numbers from JS are Doubles which can't be simply cast to Integer
-      return if (value == null) defaultValue else (value as Double).toInt()
+      val number = value as Double
+      lastConverted?.let {
+        if (it.isConversionOf(number)) {
+          return it.converted
+        }
+      }
+      return ConvertedNumber(number, number.toInt()).also { lastConverted = it }.converted
     }
   }
 
   private class DoublePropSetter : PropSetter {
 
-    private val defaultValue: Double
+    private val defaultValue: Any
 
     constructor(
         prop: ReactProp,
@@ -158,12 +214,12 @@ internal object ViewManagersPropertyCache {
     }
 
     override fun getValueOrDefault(value: Any?, context: Context): Any =
-        if (value == null) defaultValue else value as Double
+        value as Double? ?: defaultValue
   }
 
   private class ColorPropSetter : PropSetter {
 
-    private val defaultValue: Int
+    private val defaultValue: Any
 
     constructor(prop: ReactProp, setter: Method) : this(prop, setter, 0)
 
@@ -184,11 +240,23 @@ internal object ViewManagersPropertyCache {
       this.defaultValue = defaultValue
     }
 
+    @Volatile private var lastConverted: ConvertedNumber? = null
+
     override fun getValueOrDefault(value: Any?, context: Context): Any? {
       if (value == null) {
         return defaultValue
       }
-      return ColorPropConverter.getColor(value, context)
+      if (value !is Double) {
+        return ColorPropConverter.getColor(value, context)
+      }
+      // ARGB colors, unlike PlatformColors, don't depend on the context
+      lastConverted?.let {
+        if (it.isConversionOf(value)) {
+          return it.converted
+        }
+      }
+      val color = ColorPropConverter.getColor(value, context) ?: return null
+      return ConvertedNumber(value, color).also { lastConverted = it }.converted
     }
   }
 
@@ -206,7 +274,7 @@ internal object ViewManagersPropertyCache {
 
   private class FloatPropSetter : PropSetter {
 
-    private val defaultValue: Float
+    private val defaultValue: Any
 
     constructor(
         prop: ReactProp,
@@ -225,9 +293,20 @@ internal object ViewManagersPropertyCache {
       this.defaultValue = defaultValue
     }
 
+    @Volatile private var lastConverted: ConvertedNumber? = null
+
     override fun getValueOrDefault(value: Any?, context: Context): Any {
+      if (value == null) {
+        return defaultValue
+      }
       // All numbers from JS are Doubles which can't be simply cast to Float
-      return if (value == null) defaultValue else (value as Double).toFloat()
+      val number = value as Double
+      lastConverted?.let {
+        if (it.isConversionOf(number)) {
+          return it.converted
+        }
+      }
+      return ConvertedNumber(number, number.toFloat()).also { lastConverted = it }.converted
     }
   }
 
@@ -141,6 +141,17 @@ public abstract class Event<T : Event<T>> {
       return eventAnimationDriverMatchSpecCached
     }
 
+  /**
+   * Whether [eventAnimationDriverMatchSpec] is the default one, which only matches drivers
+   * registered for [eventName] on [viewTag]. Lets the animated module look those drivers up
+   * directly rather than asking the spec about every registered driver.
+   */
+  internal val hasDefaultEventAnimationDriverMatchSpec: Boolean
+    get() {
+      val matchSpec = eventAnimationDriverMatchSpec
+      return matchSpec != null && matchSpec === eventAnimationDriverMatchSpecCached
+    }
+
   /**
    * Dispatch this event to JS using the given event emitter. Compatible with old and new renderer.
    * Instead of using this or dispatchModern, it is recommended that you simply override
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events
+
+import android.view.KeyEvent
+import androidx.core.util.Pools.SynchronizedPool
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReactSoftExceptionLogger
+import com.facebook.react.bridge.WritableMap
+
+/**
+ * Android TV: typed counterpart of the `onHWKeyEvent` device event, dispatched to the focused view
+ * through the [EventDispatcher] and bubbling up to its ancestors.
+ *
+ * Instances are pooled. The key downs of one press share a coalescing key, so while they wait to
+ * be delivered to JS only the most recent repeat is kept. Its `repeatCount` is the number of
+ * repeats so far, as [KeyEvent.getRepeatCount] reports it, so JS can still tell how many repeats
+ * the delivered event stands for.
+ *
+ * The payload map is built in [getEventData], when the event is handed to JS: the event emitters
+ * consume it across JNI, so it can't be pooled with the event.
+ */
+internal class HWKeyEvent private constructor() : Event<HWKeyEvent>() {
+  private var eventType: String? = null
+  private var keyCode: Int = KeyEvent.KEYCODE_UNKNOWN
+  private var eventKeyAction: Int = -1
+  internal var repeatCount: Int = 0
+    private set
+
+  private var coalescingKey: Short = 0
+
+  private fun init(
+      surfaceId: Int,
+      viewTag: Int,
+      eventType: String,
+      keyCode: Int,
+      eventKeyAction: Int,
+      repeatCount: Int,
+      coalescingKey: Short,
+      timestampMs: Long,
+  ) {
+    super.init(surfaceId, viewTag, timestampMs)
+    this.eventType = eventType
+    this.keyCode = keyCode
+    this.eventKeyAction = eventKeyAction
+    this.repeatCount = repeatCount
+    this.coalescingKey = coalescingKey
+  }
+
+  override fun onDispose() {
+    eventType = null
+    try {
+      EVENTS_POOL.release(this)
+    } catch (e: IllegalStateException) {
+      ReactSoftExceptionLogger.logSoftException(TAG, e)
+    }
+  }
+
+  override fun getEventName(): String = EVENT_NAME
+
+  // Only key downs can be coalesced, every key up must reach JS.
+  override fun canCoalesce(): Boolean = eventKeyAction == KeyEvent.ACTION_DOWN
+
+  override fun getCoalescingKey(): Short = coalescingKey
+
+  override fun getEventCategory(): Int = EventCategoryDef.DISCRETE
+
+  override fun getEventData(): WritableMap {
+    val eventData = Arguments.createMap()
+    eventData.putString("eventType", eventType)
+    eventData.putInt("eventKeyAction", eventKeyAction)
+    eventData.putInt("repeatCount", repeatCount)
+    eventData.putInt("tag", viewTag)
+    eventData.putInt("target", viewTag)
+    return eventData
+  }
+
+  companion object {
+    private val TAG = HWKeyEvent::class.java.simpleName
+    private const val EVENT_NAME: String = "topHWKeyEvent"
+    private const val HW_KEY_EVENTS_POOL_SIZE = 4
+    private val EVENTS_POOL = SynchronizedPool<HWKeyEvent>(HW_KEY_EVENTS_POOL_SIZE)
+
+    @JvmStatic
+    fun obtain(
+        surfaceId: Int,
+        viewTag: Int,
+        eventType: String,
+        keyCode: Int,
+        eventKeyAction: Int,
+        repeatCount: Int,
+        coalescingKey: Short,
+        timestampMs: Long,
+    ): HWKeyEvent {
+      val event = EVENTS_POOL.acquire() ?: HWKeyEvent()
+      event.init(
+          surfaceId,
+          viewTag,
+          eventType,
+          keyCode,
+          eventKeyAction,
+          repeatCount,
+          coalescingKey,
+          timestampMs,
+      )
+      return event
+    }
+  }
+}
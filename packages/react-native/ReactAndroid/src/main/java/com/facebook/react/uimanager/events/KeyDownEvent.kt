@@ -13,7 +13,8 @@ internal class KeyDownEvent(
     surfaceId: Int,
     viewTag: Int,
     keyEvent: AndroidKeyEvent,
-) : KeyEvent(surfaceId, viewTag, keyEvent) {
+    repeatCount: Int = keyEvent.repeatCount,
+) : KeyEvent(surfaceId, viewTag, keyEvent, repeatCount) {
 
   override fun getEventName(): String = EVENT_NAME
 
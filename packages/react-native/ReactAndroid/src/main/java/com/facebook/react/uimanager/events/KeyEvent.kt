@@ -15,6 +15,7 @@ internal abstract class KeyEvent(
     surfaceId: Int,
     viewTag: Int,
     keyEvent: AndroidKeyEvent,
+    private val repeatCount: Int = keyEvent.repeatCount,
 ) : Event<KeyEvent>(surfaceId, viewTag) {
 
   // Extract all needed data from keyEvent immediately to avoid storing the AndroidKeyEvent itself
@@ -43,6 +44,9 @@ internal abstract class KeyEvent(
     eventData.putBoolean("ctrlKey", isCtrlPressed)
     eventData.putBoolean("metaKey", isMetaPressed)
     eventData.putBoolean("shiftKey", isShiftPressed)
+    eventData.putBoolean("repeat", repeatCount > 0)
+    // Android TV: key repeats can be coalesced, see ReactFeatureFlags.enableKeyRepeatCoalescing
+    eventData.putInt("repeatCount", repeatCount)
 
     // Additional properties
     eventData.putDouble("timestamp", timestampMs.toDouble())
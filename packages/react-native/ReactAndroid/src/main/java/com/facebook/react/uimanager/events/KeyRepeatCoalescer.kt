@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events
+
+import android.util.SparseArray
+import android.view.Choreographer
+import com.facebook.react.bridge.UiThreadUtil
+import com.facebook.react.common.SystemClock
+import com.facebook.react.modules.core.ReactChoreographer
+
+/**
+ * Android TV: collapses the burst of `ACTION_DOWN` repeats Android delivers while a key is held
+ * down, so JS sees at most one event per key per frame. Each delivery carries the repeat count of
+ * the most recent repeat, as [android.view.KeyEvent.getRepeatCount] reports it, so the number of
+ * repeats an event stands for is the difference with the previous one.
+ *
+ * The first key down of a press is always delivered immediately. Repeats are accumulated and
+ * handed to the [Listener] from a [ReactChoreographer] frame callback, no more often than
+ * [maxEventsPerSecond] per key (or once per frame when it is 0). A key up flushes any repeats still
+ * pending for that key before it is delivered, so nothing drains after the key is released.
+ *
+ * Payloads are kept until the frame that delivers them, so they must not be objects the framework
+ * recycles after dispatch, like the [android.view.KeyEvent] being handled.
+ *
+ * Must only be used from the UI thread.
+ */
+internal class KeyRepeatCoalescer<T>(
+    private val maxEventsPerSecond: Int,
+    private val listener: Listener<T>,
+) {
+
+  fun interface Listener<T> {
+    /**
+     * Called with the [repeatCount] and the payload passed along with the most recent repeat of
+     * [keyCode].
+     */
+    fun onRepeat(keyCode: Int, repeatCount: Int, payload: T)
+  }
+
+  private class KeyState<T> {
+    var pendingRepeats: Int = 0
+    var repeatCount: Int = 0
+    var payload: T? = null
+    var lastDeliveryNanos: Long = 0
+    var pressCount: Int = 0
+  }
+
+  private val keyStates = SparseArray<KeyState<T>>()
+  private val minIntervalNanos: Long =
+      if (maxEventsPerSecond > 0) NANOS_PER_SECOND / maxEventsPerSecond else 0
+  private var isFrameCallbackPosted = false
+
+  private val frameCallback = Choreographer.FrameCallback { frameTimeNanos ->
+    isFrameCallbackPosted = false
+    var hasPending = false
+    for (i in 0 until keyStates.size()) {
+      val state = keyStates.valueAt(i)
+      if (state.pendingRepeats == 0) {
+        continue
+      }
+      if (frameTimeNanos - state.lastDeliveryNanos >= minIntervalNanos) {
+        deliver(keyStates.keyAt(i), state, frameTimeNanos)
+      } else {
+        hasPending = true
+      }
+    }
+    if (hasPending) {
+      postFrameCallback()
+    }
+  }
+
+  /**
+   * Handles a key down. Returns true if the caller should deliver it right away, or false if it is
+   * a repeat that was absorbed and will be delivered through the [Listener] on a later frame.
+   */
+  fun onKeyDown(keyCode: Int, repeatCount: Int, payload: T): Boolean {
+    UiThreadUtil.assertOnUiThread()
+    val state = getOrCreateKeyState(keyCode)
+    if (repeatCount == 0) {
+      state.pressCount++
+      state.pendingRepeats = 0
+      state.payload = null
+      state.lastDeliveryNanos = SystemClock.nanoTime()
+      return true
+    }
+    state.pendingRepeats++
+    state.repeatCount = repeatCount
+    state.payload = payload
+    postFrameCallback()
+    return false
+  }
+
+  /** Handles a key up, first delivering any repeats still pending for [keyCode]. */
+  fun onKeyUp(keyCode: Int) {
+    UiThreadUtil.assertOnUiThread()
+    val state = keyStates[keyCode] ?: return
+    if (state.pendingRepeats > 0) {
+      deliver(keyCode, state, SystemClock.nanoTime())
+    }
+  }
+
+  /** Drops the repeats pending for [keyCode] without delivering them. */
+  fun cancel(keyCode: Int) {
+    val state = keyStates[keyCode] ?: return
+    state.pendingRepeats = 0
+    state.payload = null
+  }
+
+  /**
+   * Returns a number identifying the current press of [keyCode], which changes every time the key
+   * is pressed again. Useful as part of a coalescing key, so repeats of separate presses of the
+   * same key are never merged.
+   */
+  fun getPressCount(keyCode: Int): Int = keyStates[keyCode]?.pressCount ?: 0
+
+  /** Drops all pending repeats without delivering them. */
+  fun reset() {
+    UiThreadUtil.assertOnUiThread()
+    if (isFrameCallbackPosted) {
+      ReactChoreographer.getInstance()
+          .removeFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, frameCallback)
+      isFrameCallbackPosted = false
+    }
+    keyStates.clear()
+  }
+
+  private fun deliver(keyCode: Int, state: KeyState<T>, nowNanos: Long) {
+    val repeatCount = state.repeatCount
+    @Suppress("UNCHECKED_CAST") val payload = state.payload as T
+    state.pendingRepeats = 0
+    state.payload = null
+    state.lastDeliveryNanos = nowNanos
+    listener.onRepeat(keyCode, repeatCount, payload)
+  }
+
+  private fun getOrCreateKeyState(keyCode: Int): KeyState<T> {
+    var state = keyStates[keyCode]
+    if (state == null) {
+      state = KeyState()
+      keyStates.put(keyCode, state)
+    }
+    return state
+  }
+
+  private fun postFrameCallback() {
+    if (!isFrameCallbackPosted) {
+      isFrameCallbackPosted = true
+      ReactChoreographer.getInstance()
+          .postFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, frameCallback)
+    }
+  }
+
+  private companion object {
+    const val NANOS_PER_SECOND: Long = 1_000_000_000L
+  }
+}
@@ -17,6 +17,7 @@ import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.ReadableType
 import com.facebook.react.common.ReactConstants
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlags
 import com.facebook.react.module.annotations.ReactModule
 import com.facebook.react.uimanager.BackgroundStyleApplicator
 import com.facebook.react.uimanager.LengthPercentage
@@ -45,6 +46,43 @@ public constructor(
   // the constructor.
   private var callerContext: Any? = null
 
+  // View recycling counters, only updated on the UI thread
+  private var createdViewCount = 0L
+  private var recycledViewCount = 0L
+  private var creationTimeNs = 0L
+
+  init {
+    if (ReactNativeFeatureFlags.enableViewRecyclingForImage()) {
+      setupViewRecycling(MAX_RECYCLED_VIEWS)
+    }
+  }
+
+  /**
+   * Counters of the reuse of recycled views, when view recycling is enabled for images. Read on the
+   * UI thread.
+   */
+  public val viewRecyclingStats: ViewRecyclingStats
+    get() = ViewRecyclingStats(createdViewCount, recycledViewCount, creationTimeNs)
+
+  public data class ViewRecyclingStats(
+      /** Views created because no recycled view was available. */
+      val createdViews: Long,
+      /** Views reused from the pool instead of being created. */
+      val recycledViews: Long,
+      /** Total time spent creating views. */
+      val creationTimeNs: Long,
+  ) {
+    /** Fraction of the views that were taken from the pool, between 0 and 1. */
+    val hitRate: Double
+      get() =
+          if (createdViews + recycledViews == 0L) 0.0
+          else recycledViews.toDouble() / (createdViews + recycledViews)
+
+    /** Estimate of the time saved by recycling, based on the average time to create a view. */
+    val creationTimeSavedNs: Long
+      get() = if (createdViews == 0L) 0L else creationTimeNs / createdViews * recycledViews
+  }
+
   /**
    * Alternative constructor which allows to provide a callerContext as an [Object]
    *
@@ -87,17 +125,42 @@ public constructor(
   }
 
   public override fun createViewInstance(context: ThemedReactContext): ReactImageView {
-    val callerContext =
-        this.callerContext
-            ?: callerContextFactory?.getOrCreateCallerContext(context.moduleName, null)
-    return ReactImageView(
-        context,
-        draweeControllerBuilder ?: Fresco.newDraweeControllerBuilder(),
-        globalImageLoadListener,
-        callerContext,
-    )
+    val start = System.nanoTime()
+    val view =
+        ReactImageView(
+            context,
+            draweeControllerBuilder ?: Fresco.newDraweeControllerBuilder(),
+            globalImageLoadListener,
+            getCallerContext(context),
+        )
+    creationTimeNs += System.nanoTime() - start
+    createdViewCount++
+    return view
+  }
+
+  protected override fun prepareToRecycleView(
+      reactContext: ThemedReactContext,
+      view: ReactImageView,
+  ): ReactImageView? {
+    // BaseViewManager
+    val preparedView = super.prepareToRecycleView(reactContext, view)
+    preparedView?.recycleView()
+    return preparedView
   }
 
+  protected override fun recycleView(
+      reactContext: ThemedReactContext,
+      view: ReactImageView,
+  ): ReactImageView {
+    recycledViewCount++
+    // The analytic tag of the previous image may have changed it
+    view.updateCallerContext(getCallerContext(reactContext))
+    return view
+  }
+
+  private fun getCallerContext(context: ThemedReactContext): Any? =
+      this.callerContext ?: callerContextFactory?.getOrCreateCallerContext(context.moduleName, null)
+
   public override fun getName(): String = REACT_CLASS
 
   @ReactProp(name = "accessible")
@@ -291,6 +354,9 @@ public constructor(
   public companion object {
     public const val REACT_CLASS: String = "RCTImageView"
 
+    // Enough for the rows of a poster grid that scrolled out of the screen
+    private const val MAX_RECYCLED_VIEWS: Int = 64
+
     private const val REGISTRATION_NAME: String = "registrationName"
     private const val ON_LOAD_START: String = "onLoadStart"
     private const val ON_PROGRESS: String = "onProgress"
@@ -22,6 +22,7 @@ import android.graphics.Shader.TileMode
 import android.graphics.drawable.Animatable
 import android.graphics.drawable.Drawable
 import android.net.Uri
+import android.view.ViewGroup
 import com.facebook.common.references.CloseableReference
 import com.facebook.common.util.UriUtil
 import com.facebook.drawee.backends.pipeline.Fresco
@@ -533,6 +534,50 @@ public class ReactImageView(
     builder.reset()
   }
 
+  /**
+   * Resets the view to the state of a new one so it can be reused for another image, keeping its
+   * [com.facebook.drawee.generic.GenericDraweeHierarchy] which is the costly part to create.
+   */
+  internal fun recycleView() {
+    // Releases the image held by the current controller and detaches it from the hierarchy
+    controller = null
+
+    // If the view is still attached to a parent, we need to remove it from the parent
+    // before we can recycle it.
+    (parent as? ViewGroup)?.removeView(this)
+
+    // Reset background, borders
+    BackgroundStyleApplicator.reset(this)
+    clearColorFilter()
+
+    val hierarchy = this.hierarchy
+    hierarchy.reset()
+    hierarchy.setPlaceholderImage(null)
+    hierarchy.setProgressBarImage(null)
+    hierarchy.setActualImageScaleType(defaultValue())
+    hierarchy.roundingParams = newRoundingParams()
+
+    sources.clear()
+    imageSource = null
+    cachedImageSource = null
+    defaultImageDrawable = null
+    loadingImageDrawable = null
+    overlayColor = 0
+    scaleType = defaultValue()
+    tileMode = defaultTileMode()
+    tilePostprocessor = null
+    iterativeBoxBlurPostProcessor = null
+    downloadListener = null
+    controllerForTesting = null
+    fadeDurationMs = -1
+    progressiveRenderingEnabled = false
+    headers = null
+    resizeMultiplier = 1.0f
+    resizeMethod = ImageResizeMethod.AUTO
+    isDirty = false
+    isFocusable = false
+  }
+
   @VisibleForTesting
   public fun setControllerListener(controllerListener: ControllerListener<ImageInfo>?) {
     controllerForTesting = controllerListener
@@ -640,9 +685,10 @@ public class ReactImageView(
     // We can't specify rounding in XML, so have to do so here
     private fun buildHierarchy(context: Context) =
         GenericDraweeHierarchyBuilder(context.resources)
-            .setRoundingParams(
-                RoundingParams.fromCornersRadius(0f).apply { setPaintFilterBitmap(true) },
-            )
+            .setRoundingParams(newRoundingParams())
             .build()
+
+    private fun newRoundingParams(): RoundingParams =
+        RoundingParams.fromCornersRadius(0f).apply { setPaintFilterBitmap(true) }
   }
 }
@@ -309,7 +309,8 @@ public class ReactModalHostView(context: ThemedReactContext) :
           override fun onKey(dialog: DialogInterface, keyCode: Int, event: KeyEvent): Boolean {
             // Modal needs to send the key event to its own TV event handler
             // https://github.com/react-native-tvos/react-native-tvos/issues/609
-            dialogRootViewGroup.androidHWInputDeviceHelper.handleKeyEvent(event, dialogRootViewGroup.reactContext)
+            dialogRootViewGroup.androidHWInputDeviceHelper.handleKeyEvent(
+                event, dialogRootViewGroup.reactContext, dialogRootViewGroup.findFocus())
             if (event.action == KeyEvent.ACTION_UP) {
               // We need to stop the BACK button and ESCAPE key from closing the dialog by default
               // so we capture that event and instead inform JS so that it can make the decision as
@@ -98,6 +98,8 @@ internal class ReactProgressBarViewManager :
 
   override fun getDelegate(): ViewManagerDelegate<ProgressBarContainerView> = delegate
 
+  override fun isMeasureCacheable(): Boolean = true
+
   override fun measure(
       context: Context,
       localData: ReadableMap?,
@@ -105,6 +105,8 @@ internal class ReactSwitchManager :
 
   override fun getDelegate(): ViewManagerDelegate<ReactSwitch> = delegate
 
+  override fun isMeasureCacheable(): Boolean = true
+
   override fun measure(
       context: Context,
       localData: ReadableMap?,
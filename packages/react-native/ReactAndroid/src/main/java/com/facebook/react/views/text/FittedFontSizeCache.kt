@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text
+
+import android.text.Layout
+
+/**
+ * Remembers the font sizes [TextLayoutManager.adjustSpannableFontToFit] found for a text, so that
+ * measuring it again (e.g. the same title in many tiles, or the same tile on every layout pass)
+ * starts the search from the size that fit last time.
+ *
+ * Widths and heights are grouped in buckets of [SIZE_BUCKET_PX], and only the text's characters
+ * take part in the key, not its spans: entries are hints, which the search verifies, so a
+ * collision costs a few more measurements but never a wrong size.
+ *
+ * Can be used from any thread.
+ */
+internal class FittedFontSizeCache(private val maxEntries: Int = DEFAULT_MAX_ENTRIES) {
+
+  data class Key(
+      val text: String,
+      val width: Int,
+      val height: Int,
+      val maximumFontSize: Int,
+      val minimumFontSize: Int,
+      val maximumNumberOfLines: Int,
+      val includeFontPadding: Boolean,
+      val textBreakStrategy: Int,
+      val hyphenationFrequency: Int,
+      val alignment: Layout.Alignment,
+      val justificationMode: Int,
+  )
+
+  private val entries =
+      object : LinkedHashMap<Key, Int>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Int>): Boolean =
+            size > maxEntries
+      }
+
+  /** Returns the font size that fit last time, or null if the text wasn't fitted yet. */
+  @Synchronized fun get(key: Key): Int? = entries[key]
+
+  @Synchronized
+  fun put(key: Key, fontSize: Int) {
+    entries[key] = fontSize
+  }
+
+  @Synchronized
+  fun clear() {
+    entries.clear()
+  }
+
+  /**
+   * Returns the key of a text fitted to a container, with a height below 0 for unconstrained
+   * heights.
+   */
+  fun key(
+      text: CharSequence,
+      width: Float,
+      height: Float,
+      maximumFontSize: Int,
+      minimumFontSize: Int,
+      maximumNumberOfLines: Int,
+      includeFontPadding: Boolean,
+      textBreakStrategy: Int,
+      hyphenationFrequency: Int,
+      alignment: Layout.Alignment,
+      justificationMode: Int,
+  ): Key =
+      Key(
+          text.toString(),
+          bucket(width),
+          if (height < 0) -1 else bucket(height),
+          maximumFontSize,
+          minimumFontSize,
+          maximumNumberOfLines,
+          includeFontPadding,
+          textBreakStrategy,
+          hyphenationFrequency,
+          alignment,
+          justificationMode,
+      )
+
+  private companion object {
+    private const val DEFAULT_MAX_ENTRIES = 512
+    private const val SIZE_BUCKET_PX = 4
+
+    private fun bucket(size: Float): Int =
+        if (size.isFinite()) size.toInt() / SIZE_BUCKET_PX else Int.MAX_VALUE
+  }
+}
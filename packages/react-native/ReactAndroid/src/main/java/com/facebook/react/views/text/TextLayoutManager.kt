@@ -112,6 +112,8 @@ internal object TextLayoutManager {
 
   private val tagToSpannableCache = ConcurrentHashMap<Int, Spannable>()
 
+  private val fittedFontSizeCache = FittedFontSizeCache()
+
   // Lazily cached Method for StaticLayout.Builder.setUseBoundsForWidth (API 35+).
   // Reflection is needed because some internal targets compile against an SDK older than 35.
   private val setUseBoundsForWidthMethod: java.lang.reflect.Method? by lazy {
@@ -1157,6 +1159,14 @@ internal object TextLayoutManager {
     )
   }
 
+  /**
+   * Shrinks the font sizes of [text] and [paint] in proportion, to the largest size at which the
+   * text fits the constraints, but not below the minimum font size.
+   *
+   * The search starts from the size that fit the last time the same text was fitted to a similar
+   * container (see [FittedFontSizeCache]), and scales the existing [ReactAbsoluteSizeSpan]s in
+   * place at every step, only replacing them once the size is found.
+   */
   @JvmStatic
   fun adjustSpannableFontToFit(
       text: Spannable,
@@ -1174,49 +1184,37 @@ internal object TextLayoutManager {
       paint: TextPaint,
   ): Unit {
     var boring = isBoring(text, paint)
-    var layout: Layout
 
     // Minimum font size is 4pts to match the iOS implementation.
     val minimumFontSize =
         (if (minimumFontSizeAttr.isNaN()) 4.dpToPx() else minimumFontSizeAttr).toInt()
 
     // Find the largest font size used in the spannable to use as a starting point.
-    var currentFontSize = minimumFontSize
+    var maximumFontSize = minimumFontSize
     val spans = text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java)
     for (span in spans) {
-      currentFontSize = max(currentFontSize, span.size).toInt()
+      maximumFontSize = max(maximumFontSize, span.size).toInt()
+    }
+    val paintTextSize = paint.textSize
+
+    // Sizes are always derived from the original ones, so rounding errors don't accumulate
+    fun applyFontSize(fontSize: Int) {
+      val ratio = fontSize.toFloat() / maximumFontSize.toFloat()
+      paint.textSize = max((paintTextSize * ratio).toInt(), minimumFontSize).toFloat()
+      for (span in spans) {
+        span.effectiveSize = max((span.size * ratio).toInt(), minimumFontSize)
+      }
     }
 
-    var intervalStart = minimumFontSize
-    var intervalEnd = currentFontSize
-    var previousFontSize = currentFontSize
-
-    // `true` instead of `intervalStart != intervalEnd` so that the last iteration where both are at
-    // the same size goes through and updates all relevant objects with the final font size
-    while (true) {
-      // Always use the point closer to the end of the interval, this way at the end when
-      // end - start == 1, we land at current = end instead of current = start. In the first case
-      // one measurement may be enough if intervalEnd is small enough to fit. In the second case
-      // we always end up doing two measurements to check whether intervalEnd would fit.
-      val currentFontSize = (intervalStart + intervalEnd + 1) / 2
-
-      val ratio = currentFontSize.toFloat() / previousFontSize.toFloat()
-      paint.textSize = max((paint.textSize * ratio).toInt(), minimumFontSize).toFloat()
-
-      val sizeSpans = text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java)
-      for (span in sizeSpans) {
-        text.setSpan(
-            ReactAbsoluteSizeSpan(max((span.size * ratio).toInt(), minimumFontSize)),
-            text.getSpanStart(span),
-            text.getSpanEnd(span),
-            text.getSpanFlags(span),
-        )
-        text.removeSpan(span)
+    fun fits(fontSize: Int): Boolean {
+      if (fontSize <= minimumFontSize) {
+        return true
       }
+      applyFontSize(fontSize)
       if (boring != null) {
         boring = isBoring(text, paint)
       }
-      layout =
+      val layout =
           createLayout(
               text,
               boring,
@@ -1231,12 +1229,6 @@ internal object TextLayoutManager {
               ReactConstants.UNSET,
               paint,
           )
-
-      if (intervalStart == intervalEnd) {
-        // everything is updated at this point
-        break
-      }
-
       val singleLineTextExceedsWidth = text.length == 1 && layout.getLineWidth(0) > width
       val exceedsHeight =
           heightYogaMeasureMode != YogaMeasureMode.UNDEFINED && layout.height > height
@@ -1244,21 +1236,67 @@ internal object TextLayoutManager {
           maximumNumberOfLines != ReactConstants.UNSET &&
               maximumNumberOfLines != 0 &&
               layout.lineCount > maximumNumberOfLines
+      return !(exceedsMaximumNumberOfLines || exceedsHeight || singleLineTextExceedsWidth)
+    }
 
-      if (
-          currentFontSize > minimumFontSize &&
-              (exceedsMaximumNumberOfLines || exceedsHeight || singleLineTextExceedsWidth)
-      ) {
-        // Text doesn't fit the constraints. If intervalEnd - intervalStart == 1, it's known that
-        // the correct font size is intervalStart. Set intervalEnd to match intervalStart and do one
-        // more iteration to update layout correctly.
-        intervalEnd = if (intervalEnd - intervalStart == 1) intervalStart else currentFontSize
-      } else {
-        // Text fits the constraints
+    val cacheKey =
+        fittedFontSizeCache.key(
+            text,
+            width,
+            if (heightYogaMeasureMode == YogaMeasureMode.UNDEFINED) -1f else height,
+            maximumFontSize,
+            minimumFontSize,
+            maximumNumberOfLines,
+            includeFontPadding,
+            textBreakStrategy,
+            hyphenationFrequency,
+            alignment,
+            justificationMode,
+        )
+
+    // The largest size that fits is in [intervalStart, intervalEnd], and intervalStart fits. Try
+    // the size that fit last time first (or the original size, which often fits), and the next
+    // one up to confirm it, before falling back to a binary search.
+    var intervalStart = minimumFontSize
+    var intervalEnd = maximumFontSize
+    val hint =
+        (fittedFontSizeCache.get(cacheKey) ?: maximumFontSize).coerceIn(intervalStart, intervalEnd)
+    if (fits(hint)) {
+      intervalStart = hint
+      if (hint < intervalEnd) {
+        if (fits(hint + 1)) {
+          intervalStart = hint + 1
+        } else {
+          intervalEnd = hint
+        }
+      }
+    } else {
+      intervalEnd = hint - 1
+    }
+    while (intervalStart < intervalEnd) {
+      // Use the point closer to the end of the interval, so that when end - start == 1 we check
+      // whether intervalEnd fits rather than measuring intervalStart again.
+      val currentFontSize = (intervalStart + intervalEnd + 1) / 2
+      if (fits(currentFontSize)) {
         intervalStart = currentFontSize
+      } else {
+        intervalEnd = currentFontSize - 1
       }
+    }
+    fittedFontSizeCache.put(cacheKey, intervalStart)
 
-      previousFontSize = currentFontSize
+    // The caller creates the final layout, so only the sizes need to be updated
+    applyFontSize(intervalStart)
+    for (span in spans) {
+      if (span.effectiveSize != span.size) {
+        text.setSpan(
+            ReactAbsoluteSizeSpan(span.effectiveSize),
+            text.getSpanStart(span),
+            text.getSpanEnd(span),
+            text.getSpanFlags(span),
+        )
+        text.removeSpan(span)
+      }
     }
   }
 
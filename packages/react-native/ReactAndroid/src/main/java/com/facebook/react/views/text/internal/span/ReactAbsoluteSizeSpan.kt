@@ -7,7 +7,23 @@
 
 package com.facebook.react.views.text.internal.span
 
+import android.text.TextPaint
 import android.text.style.AbsoluteSizeSpan
 
 /** Wraps [AbsoluteSizeSpan] as a [ReactSpan]. */
-internal class ReactAbsoluteSizeSpan(size: Int) : AbsoluteSizeSpan(size), ReactSpan
+internal class ReactAbsoluteSizeSpan(size: Int) : AbsoluteSizeSpan(size), ReactSpan {
+
+  /**
+   * Size applied to the text, which only differs from [getSize] while searching for a font size
+   * that fits, so every step doesn't have to replace the span.
+   */
+  var effectiveSize: Int = size
+
+  override fun updateDrawState(ds: TextPaint) {
+    ds.textSize = effectiveSize.toFloat()
+  }
+
+  override fun updateMeasureState(ds: TextPaint) {
+    ds.textSize = effectiveSize.toFloat()
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view
+
+import android.view.View
+import java.util.IdentityHashMap
+
+/**
+ * The list of all children of a [ReactViewGroup] with `removeClippedSubviews` enabled, attached or
+ * not, along with whether each of them is currently clipped.
+ *
+ * Children live in a gap buffer, so runs of inserts and removals around the same position (the
+ * usual shape of mounting) don't shift the whole array. A binary indexed tree over the slots of the
+ * buffer counts clipped children, which gives the number of clipped children before a given index,
+ * and therefore the index of a child among the attached ones, in O(log n). Every child keeps track
+ * of its slot as the gap moves, so [indexOf] doesn't search for it.
+ */
+internal class ClippedChildrenList(initialCapacity: Int) {
+
+  private class Entry(val view: View) {
+    var slot: Int = 0
+  }
+
+  private var slots: Array<Entry?> = arrayOfNulls(initialCapacity.coerceAtLeast(MIN_CAPACITY))
+  private val entries = IdentityHashMap<View, Entry>(initialCapacity)
+  private var clipped: BooleanArray = BooleanArray(slots.size)
+  // Fenwick tree over `clipped`, 1-based: tree[i] covers the slots (i - lowbit(i), i]
+  private var tree: IntArray = IntArray(slots.size + 1)
+  private var gapStart: Int = 0
+  private var gapEnd: Int = slots.size
+
+  var size: Int = 0
+    private set
+
+  operator fun get(index: Int): View = checkNotNull(slots[slotOf(checkIndex(index))]).view
+
+  fun isClipped(index: Int): Boolean = clipped[slotOf(checkIndex(index))]
+
+  fun setClipped(index: Int, isClipped: Boolean) {
+    val slot = slotOf(checkIndex(index))
+    if (clipped[slot] != isClipped) {
+      clipped[slot] = isClipped
+      updateTree(slot, if (isClipped) 1 else -1)
+    }
+  }
+
+  /** Number of clipped children among the first [index] children. */
+  fun clippedCountBefore(index: Int): Int {
+    if (index < 0 || index > size) {
+      throw IndexOutOfBoundsException("index=$index size=$size")
+    }
+    // Slots in the gap are never clipped, so they don't affect the prefix sum
+    var i = if (index <= gapStart) index else index + gapEnd - gapStart
+    var sum = 0
+    while (i > 0) {
+      sum += tree[i]
+      i -= i and -i
+    }
+    return sum
+  }
+
+  fun add(index: Int, child: View, isClipped: Boolean) {
+    if (index < 0 || index > size) {
+      throw IndexOutOfBoundsException("index=$index count=$size")
+    }
+    if (gapStart == gapEnd) {
+      grow()
+    }
+    moveGapTo(index)
+    val entry = Entry(child)
+    entry.slot = gapStart
+    slots[gapStart] = entry
+    entries[child] = entry
+    if (isClipped) {
+      clipped[gapStart] = true
+      updateTree(gapStart, 1)
+    }
+    gapStart++
+    size++
+  }
+
+  fun removeAt(index: Int) {
+    checkIndex(index)
+    moveGapTo(index + 1)
+    gapStart--
+    if (clipped[gapStart]) {
+      clipped[gapStart] = false
+      updateTree(gapStart, -1)
+    }
+    slots[gapStart]?.let { entries.remove(it.view) }
+    slots[gapStart] = null
+    size--
+  }
+
+  fun indexOf(child: View): Int {
+    val slot = entries[child]?.slot ?: return -1
+    return if (slot < gapStart) slot else slot - (gapEnd - gapStart)
+  }
+
+  fun clear() {
+    slots.fill(null)
+    entries.clear()
+    clipped.fill(false)
+    tree.fill(0)
+    gapStart = 0
+    gapEnd = slots.size
+    size = 0
+  }
+
+  /** Recomputes every clipped flag, for when they may have changed behind our back. */
+  fun resetClipped(isClipped: (View) -> Boolean) {
+    for (index in 0..<size) {
+      val slot = slotOf(index)
+      clipped[slot] = isClipped(checkNotNull(slots[slot]).view)
+    }
+    rebuildTree()
+  }
+
+  private fun slotOf(index: Int): Int = if (index < gapStart) index else index + gapEnd - gapStart
+
+  private fun checkIndex(index: Int): Int {
+    if (index < 0 || index >= size) {
+      throw IndexOutOfBoundsException("index=$index size=$size")
+    }
+    return index
+  }
+
+  private fun moveGapTo(index: Int) {
+    if (index < gapStart) {
+      // Shift [index, gapStart) to the end of the gap, last one first as the ranges may overlap
+      val count = gapStart - index
+      val newGapEnd = gapEnd - count
+      for (slot in gapStart - 1 downTo index) {
+        moveSlot(slot, slot + newGapEnd - index)
+      }
+      gapStart = index
+      gapEnd = newGapEnd
+    } else if (index > gapStart) {
+      // Shift the first (index - gapStart) items after the gap to its start
+      val count = index - gapStart
+      for (offset in 0..<count) {
+        moveSlot(gapEnd + offset, gapStart + offset)
+      }
+      gapStart += count
+      gapEnd += count
+    }
+  }
+
+  private fun moveSlot(from: Int, to: Int) {
+    val entry = slots[from]
+    entry?.slot = to
+    slots[to] = entry
+    slots[from] = null
+    if (clipped[from]) {
+      clipped[from] = false
+      clipped[to] = true
+      updateTree(from, -1)
+      updateTree(to, 1)
+    }
+  }
+
+  private fun grow() {
+    val oldCapacity = slots.size
+    val newCapacity = oldCapacity * 2
+    val tailCount = oldCapacity - gapEnd
+    val newGapEnd = newCapacity - tailCount
+
+    slots = slots.copyOf(newCapacity)
+    System.arraycopy(slots, gapEnd, slots, newGapEnd, tailCount)
+    slots.fill(null, gapStart, newGapEnd)
+    for (slot in newGapEnd..<newCapacity) {
+      slots[slot]?.slot = slot
+    }
+
+    clipped = clipped.copyOf(newCapacity)
+    System.arraycopy(clipped, gapEnd, clipped, newGapEnd, tailCount)
+    clipped.fill(false, gapStart, newGapEnd)
+
+    gapEnd = newGapEnd
+    tree = IntArray(newCapacity + 1)
+    rebuildTree()
+  }
+
+  private fun updateTree(slot: Int, delta: Int) {
+    var i = slot + 1
+    while (i < tree.size) {
+      tree[i] += delta
+      i += i and -i
+    }
+  }
+
+  private fun rebuildTree() {
+    for (slot in clipped.indices) {
+      tree[slot + 1] = if (clipped[slot]) 1 else 0
+    }
+    for (i in 1..<tree.size) {
+      val parent = i + (i and -i)
+      if (parent < tree.size) {
+        tree[parent] += tree[i]
+      }
+    }
+  }
+
+  private companion object {
+    const val MIN_CAPACITY = 12
+  }
+}
@@ -55,6 +55,7 @@ import com.facebook.react.uimanager.BackgroundStyleApplicator.setBorderStyle
 import com.facebook.react.uimanager.BackgroundStyleApplicator.setBorderWidth
 import com.facebook.react.uimanager.BackgroundStyleApplicator.setFeedbackUnderlay
 import com.facebook.react.uimanager.BlendModeHelper.needsIsolatedLayer
+import com.facebook.react.uimanager.IllegalViewOperationException
 import com.facebook.react.uimanager.LengthPercentage
 import com.facebook.react.uimanager.LengthPercentageType
 import com.facebook.react.uimanager.MeasureSpecAssertions.assertExplicitMeasureSpec
@@ -81,7 +82,6 @@ import com.facebook.react.views.view.CanvasUtil.enableZ
 import java.lang.ref.WeakReference
 import java.util.ArrayList
 import kotlin.concurrent.Volatile
-import kotlin.math.max
 
 /**
  * Backing for a React View. Has support for borders, but since borders aren't common, lazy
@@ -101,6 +101,7 @@ public open class ReactViewGroup public constructor(context: Context?) :
   public override val overflowInset: Rect = Rect()
 
   private var focusDestinations = IntArray(0)
+  private var focusDestinationViews = arrayOfNulls<WeakReference<View>>(0)
   private var autoFocus = false
   private var isFocusGuideTalkbackAccessibilityDelegateSet = false
   private var lastFocusedElement: WeakReference<View?>? = null
@@ -158,9 +159,12 @@ public open class ReactViewGroup public constructor(context: Context?) :
   internal var _removeClippedSubviews = false
 
   @Volatile private var inSubviewClippingLoop = false
-  private var allChildren: Array<View?>? = null
-  internal var allChildrenCount: Int = 0
-    private set
+  private var allChildren: ClippedChildrenList? = null
+  // Set when a child was attached or detached outside of the clipping bookkeeping, which means the
+  // clipped flags in allChildren need to be recomputed from the view tags
+  private var allChildrenClippedFlagsStale = false
+  internal val allChildrenCount: Int
+    get() = allChildren?.size ?: 0
 
   internal var clippingRect: Rect? = null
 
@@ -204,7 +208,7 @@ public open class ReactViewGroup public constructor(context: Context?) :
     _removeClippedSubviews = false
     inSubviewClippingLoop = false
     allChildren = null
-    allChildrenCount = 0
+    allChildrenClippedFlagsStale = false
     clippingRect = null
     hitSlopRect = null
     // pointerEvents setter reads _overflow, so _overflow must be assigned first.
@@ -227,8 +231,8 @@ public open class ReactViewGroup public constructor(context: Context?) :
     val allChildren = allChildren
     if (allChildren != null && childrenLayoutChangeListener != null) {
       childrenLayoutChangeListener?.shutdown()
-      for (i in 0..<allChildrenCount) {
-        allChildren[i]?.removeOnLayoutChangeListener(childrenLayoutChangeListener)
+      for (i in 0..<allChildren.size) {
+        allChildren[i].removeOnLayoutChangeListener(childrenLayoutChangeListener)
       }
     }
 
@@ -412,30 +416,30 @@ public open class ReactViewGroup public constructor(context: Context?) :
         calculateClippingRect(this, clippingRect)
         this.clippingRect = clippingRect
 
-        allChildrenCount = childCount
-        val allChildren = arrayOfNulls<View?>(max(12, allChildrenCount))
+        val count = childCount
+        val allChildren = ClippedChildrenList(count)
         childrenLayoutChangeListener = ChildrenLayoutChangeListener(this)
-        for (i in 0..<allChildrenCount) {
+        for (i in 0..<count) {
           val child = getChildAt(i)
-          allChildren[i] = child
+          allChildren.add(i, child, false)
           child.addOnLayoutChangeListener(childrenLayoutChangeListener)
           setViewClipped(child, false)
         }
         this.allChildren = allChildren
+        allChildrenClippedFlagsStale = false
         updateClippingRect()
       } else {
         // Add all clipped views back, deallocate additional arrays, remove layoutChangeListener
         val childArray = checkNotNull(allChildren)
         checkNotNull(childrenLayoutChangeListener)
-        for (i in 0..<allChildrenCount) {
-          childArray[i]?.removeOnLayoutChangeListener(childrenLayoutChangeListener)
+        for (i in 0..<childArray.size) {
+          childArray[i].removeOnLayoutChangeListener(childrenLayoutChangeListener)
         }
         val clippingRect = checkNotNull(clippingRect)
         getDrawingRect(clippingRect)
         updateClippingToRect(clippingRect)
         this.allChildren = null
         this.clippingRect = null
-        allChildrenCount = 0
         childrenLayoutChangeListener = null
       }
     }
@@ -487,10 +491,10 @@ public open class ReactViewGroup public constructor(context: Context?) :
       childrenRemovedWhileTransitioning?.contains(child.id) == true
 
   internal fun updateClippingToRect(clippingRect: Rect, excludedViewsSet: Set<Int>? = null) {
-    val childArray = checkNotNull(allChildren)
+    val childArray = getAllChildren()
     inSubviewClippingLoop = true
     var clippedSoFar = 0
-    for (i in 0..<allChildrenCount) {
+    for (i in 0..<childArray.size) {
       try {
         updateSubviewClipStatus(clippingRect, i, clippedSoFar, excludedViewsSet)
       } catch (ex: IndexOutOfBoundsException) {
@@ -508,7 +512,7 @@ public open class ReactViewGroup public constructor(context: Context?) :
             ex,
         )
       }
-      if (isViewClipped(childArray[i], i)) {
+      if (childArray.isClipped(i)) {
         clippedSoFar++
       }
       if (i - clippedSoFar > childCount) {
@@ -528,7 +532,8 @@ public open class ReactViewGroup public constructor(context: Context?) :
   ) {
     assertOnUiThread()
 
-    val child = checkNotNull(allChildren?.get(idx))
+    val childArray = getAllChildren()
+    val child = childArray[idx]
     val intersects = clippingRect.intersects(child.left, child.top, child.right, child.bottom)
     var needUpdateClippingRecursive = false
 
@@ -547,21 +552,23 @@ public open class ReactViewGroup public constructor(context: Context?) :
     // We don't want to clip a view that is currently focused at that might break focus navigation
     if (
         !intersects &&
-            !isViewClipped(child, idx) &&
+            !childArray.isClipped(idx) &&
             !isAnimating &&
             child !== focusedChild &&
             !shouldSkipView
     ) {
       setViewClipped(child, true)
+      childArray.setClipped(idx, true)
       recoverFocus(child)
       // We can try saving on invalidate call here as the view that we remove is out of visible area
       // therefore invalidation is not necessary.
       removeViewInLayout(child)
       needUpdateClippingRecursive = true
-    } else if ((shouldSkipView || intersects) && isViewClipped(child, idx)) {
+    } else if ((shouldSkipView || intersects) && childArray.isClipped(idx)) {
       val adjustedIdx = idx - clippedSoFar
       check(adjustedIdx >= 0)
       setViewClipped(child, false)
+      childArray.setClipped(idx, false)
       addViewInLayout(child, adjustedIdx, defaultLayoutParam, true)
       invalidate()
       needUpdateClippingRecursive = true
@@ -583,7 +590,6 @@ public open class ReactViewGroup public constructor(context: Context?) :
     }
 
     val clippingRect = checkNotNull(clippingRect)
-    val allChildren = checkNotNull(allChildren)
 
     // do fast check whether intersect state changed
     val intersects =
@@ -593,18 +599,13 @@ public open class ReactViewGroup public constructor(context: Context?) :
     val oldIntersects = !isViewClipped(subview, null)
 
     if (intersects != oldIntersects) {
-      inSubviewClippingLoop = true
-      var clippedSoFar = 0
-      for (i in 0..<allChildrenCount) {
-        if (allChildren[i] === subview) {
-          updateSubviewClipStatus(clippingRect, i, clippedSoFar)
-          break
-        }
-        if (isViewClipped(allChildren[i], i)) {
-          clippedSoFar++
-        }
+      val allChildren = getAllChildren()
+      val index = allChildren.indexOf(subview)
+      if (index >= 0) {
+        inSubviewClippingLoop = true
+        updateSubviewClipStatus(clippingRect, index, allChildren.clippedCountBefore(index))
+        inSubviewClippingLoop = false
       }
-      inSubviewClippingLoop = false
     }
   }
 
@@ -811,8 +812,8 @@ public open class ReactViewGroup public constructor(context: Context?) :
   }
 
   private fun checkViewClippingTag(child: View, expectedTag: Boolean) {
+    val tag = child.getTag(R.id.view_clipped)
     if (inSubviewClippingLoop) {
-      val tag = child.getTag(R.id.view_clipped)
       if (expectedTag != tag) {
         logSoftException(
             ReactSoftExceptionLogger.Categories.RVG_ON_VIEW_REMOVED,
@@ -821,6 +822,9 @@ public open class ReactViewGroup public constructor(context: Context?) :
       }
     }
     if (_removeClippedSubviews) {
+      if (expectedTag != tag) {
+        allChildrenClippedFlagsStale = true
+      }
       child.setTag(R.id.view_clipped, expectedTag)
     } else {
       child.setTag(R.id.view_clipped, null)
@@ -841,26 +845,33 @@ public open class ReactViewGroup public constructor(context: Context?) :
   internal fun getChildAtWithSubviewClippingEnabled(index: Int): View? =
       if (index in 0..<allChildrenCount) checkNotNull(allChildren)[index] else null
 
+  /**
+   * Returns [allChildren], first recomputing its clipped flags if children were attached or
+   * detached outside of the clipping bookkeeping.
+   */
+  private fun getAllChildren(): ClippedChildrenList {
+    val allChildren = checkNotNull(allChildren)
+    if (allChildrenClippedFlagsStale) {
+      allChildrenClippedFlagsStale = false
+      allChildren.resetClipped { child -> isViewClipped(child, null) }
+    }
+    return allChildren
+  }
+
   internal fun addViewWithSubviewClippingEnabled(
       child: View,
       index: Int,
   ) {
     check(_removeClippedSubviews)
     setViewClipped(child, true) // the view has not been added, so it is "clipped"
-    addInArray(child, index)
+    val allChildren = getAllChildren()
+    allChildren.add(index, child, true)
 
     // we add view as "clipped" and then run {@link #updateSubviewClipStatus} to conditionally
     // attach it
     val clippingRect = checkNotNull(clippingRect)
-    val allChildren = checkNotNull(allChildren)
     inSubviewClippingLoop = true
-    var clippedSoFar = 0
-    for (i in 0..<index) {
-      if (isViewClipped(allChildren[i], i)) {
-        clippedSoFar++
-      }
-    }
-    updateSubviewClipStatus(clippingRect, index, clippedSoFar)
+    updateSubviewClipStatus(clippingRect, index, allChildren.clippedCountBefore(index))
     inSubviewClippingLoop = false
     child.addOnLayoutChangeListener(childrenLayoutChangeListener)
 
@@ -886,30 +897,28 @@ public open class ReactViewGroup public constructor(context: Context?) :
     assertOnUiThread()
     recoverFocus(view)
     check(_removeClippedSubviews)
-    val allChildren = checkNotNull(allChildren)
+    val allChildren = getAllChildren()
     view.removeOnLayoutChangeListener(childrenLayoutChangeListener)
-    val index = indexOfChildInAllChildren(view)
-    if (!isViewClipped(allChildren[index], index)) {
-      var clippedSoFar = 0
-      for (i in 0..<index) {
-        if (isViewClipped(allChildren[i], i)) {
-          clippedSoFar++
-        }
-      }
+    val index = allChildren.indexOf(view)
+    if (!allChildren.isClipped(index)) {
+      val clippedSoFar = allChildren.clippedCountBefore(index)
+      // Mark the view as clipped first, so that detaching it is seen as part of the bookkeeping
+      setViewClipped(view, true)
       removeViewsInLayout(index - clippedSoFar, 1)
       invalidate()
     }
-    removeFromArray(index)
+    allChildren.removeAt(index)
   }
 
   internal fun removeAllViewsWithSubviewClippingEnabled() {
     check(_removeClippedSubviews)
     val allChildren = checkNotNull(allChildren)
-    for (i in 0..<allChildrenCount) {
-      allChildren[i]?.removeOnLayoutChangeListener(childrenLayoutChangeListener)
+    for (i in 0..<allChildren.size) {
+      allChildren[i].removeOnLayoutChangeListener(childrenLayoutChangeListener)
     }
     removeAllViewsInLayout()
-    allChildrenCount = 0
+    allChildren.clear()
+    allChildrenClippedFlagsStale = false
   }
 
   /**
@@ -942,59 +951,6 @@ public open class ReactViewGroup public constructor(context: Context?) :
     }
   }
 
-  private fun indexOfChildInAllChildren(child: View): Int {
-    val count = allChildrenCount
-    val childArray = checkNotNull(allChildren)
-    for (i in 0..<count) {
-      if (childArray[i] === child) {
-        return i
-      }
-    }
-    return -1
-  }
-
-  private fun addInArray(child: View, index: Int) {
-    var childArray = checkNotNull(allChildren)
-    val count = allChildrenCount
-    val size = childArray.size
-    if (index == count) {
-      if (size == count) {
-        val allChildren = arrayOfNulls<View?>(size + ARRAY_CAPACITY_INCREMENT)
-        System.arraycopy(childArray, 0, allChildren, 0, size)
-        childArray = allChildren
-        this.allChildren = childArray
-      }
-      childArray[allChildrenCount++] = child
-    } else if (index < count) {
-      if (size == count) {
-        val allChildren = arrayOfNulls<View?>(size + ARRAY_CAPACITY_INCREMENT)
-        System.arraycopy(childArray, 0, allChildren, 0, index)
-        System.arraycopy(childArray, index, allChildren, index + 1, count - index)
-        childArray = allChildren
-        this.allChildren = childArray
-      } else {
-        System.arraycopy(childArray, index, childArray, index + 1, count - index)
-      }
-      childArray[index] = child
-      allChildrenCount++
-    } else {
-      throw IndexOutOfBoundsException("index=$index count=$count")
-    }
-  }
-
-  private fun removeFromArray(index: Int) {
-    val childArray = checkNotNull(allChildren)
-    val count = allChildrenCount
-    when (index) {
-      count - 1 -> childArray[--allChildrenCount] = null
-      in 0..<count -> {
-        System.arraycopy(childArray, index + 1, childArray, index, count - index - 1)
-        childArray[--allChildrenCount] = null
-      }
-      else -> throw IndexOutOfBoundsException()
-    }
-  }
-
   private var _overflow: Overflow = Overflow.VISIBLE
   override var overflow: String?
     get() =
@@ -1296,15 +1252,52 @@ public open class ReactViewGroup public constructor(context: Context?) :
   }
 
   private fun findDestinationView(): View? {
-    for (focusDestination in focusDestinations) {
-      val childViewWithTag = findViewById<View>(focusDestination)
-      if (childViewWithTag != null) return childViewWithTag
-      val viewWithTag = rootView.findViewById<View>(focusDestination)
-      if (viewWithTag != null) return viewWithTag
+    for (i in focusDestinations.indices) {
+      val destination = resolveFocusDestination(i)
+      if (destination != null) return destination
     }
     return null
   }
 
+  /**
+   * Resolves the view for `focusDestinations[index]`.
+   *
+   * The last resolved view is cached and reused as long as it still carries the tag and is
+   * attached. Otherwise the tag is looked up in the UIManager's tag registry, which is a constant
+   * time lookup instead of a traversal of the whole hierarchy. A tag the registry doesn't know
+   * about anymore belongs to a destination that has been deleted.
+   */
+  private fun resolveFocusDestination(index: Int): View? {
+    val tag = focusDestinations[index]
+    val cached = focusDestinationViews[index]?.get()
+    if (cached != null && cached.id == tag && cached.isAttachedToWindow) {
+      return cached
+    }
+    focusDestinationViews[index] = null
+
+    val reactContext = context as? ReactContext
+    val uiManager = reactContext?.let { UIManagerHelper.getUIManagerForReactTag(it, tag) }
+    val destination =
+        if (uiManager != null) {
+          try {
+            uiManager.resolveView(tag)
+          } catch (e: IllegalViewOperationException) {
+            // The destination was deleted, or is a layout-only view that can't take focus.
+            null
+          }
+        } else {
+          findViewById<View>(tag) ?: rootView.findViewById<View>(tag)
+        }
+
+    // Views are registered before they are inserted in the hierarchy, and clipped subviews are
+    // detached while still registered. Neither of them can take focus.
+    if (destination == null || !destination.isAttachedToWindow) {
+      return null
+    }
+    focusDestinationViews[index] = WeakReference(destination)
+    return destination
+  }
+
   private val isFocusDestinationsSet: Boolean
     get() = focusDestinations.isNotEmpty()
 
@@ -1494,24 +1487,44 @@ public open class ReactViewGroup public constructor(context: Context?) :
      * the algorithm only accounting the children elements of the focus trap.
      * This ensures that focus will always stay inside the container until trap gets disabled.
      */
-    if ((trapFocusUp && direction == FOCUS_UP)
-      || (trapFocusDown && direction == FOCUS_DOWN)
-      || (trapFocusLeft && direction == FOCUS_LEFT)
-      || (trapFocusRight && direction == FOCUS_RIGHT)
-    ) {
+    if (trapsFocus(direction)) {
       return FocusFinder.getInstance().findNextFocus(this, focused, direction)
     }
 
+    /**
+     * With the spatial focus index enabled, the first `ReactViewGroup` on the way up answers the
+     * search from the index instead of letting it bubble up to the root where FocusFinder would
+     * score every focusable of the window. Focus traps of the ancestors and `nextFocus*`
+     * destinations of the focused view are still honoured as the index bails out for them, and
+     * `super.focusSearch` lets FocusFinder resolve them.
+     */
+    if (ReactFeatureFlags.enableSpatialFocusIndex && focused.parent === this) {
+      val nextFocus = SpatialFocusIndex.findNextFocus(focused, direction)
+      if (nextFocus != null) {
+        return nextFocus
+      }
+    }
+
     return super.focusSearch(focused, direction)
   }
 
+  internal fun trapsFocus(direction: Int): Boolean =
+      (trapFocusUp && direction == FOCUS_UP) ||
+          (trapFocusDown && direction == FOCUS_DOWN) ||
+          (trapFocusLeft && direction == FOCUS_LEFT) ||
+          (trapFocusRight && direction == FOCUS_RIGHT)
+
   public fun setFocusDestinations(focusDestinations: IntArray) {
     this.focusDestinations = focusDestinations
+    this.focusDestinationViews = arrayOfNulls(focusDestinations.size)
+    // Guides expose themselves instead of their children during focus search
+    SpatialFocusIndex.onFocusGuideChanged(this)
   }
 
   public fun setAutoFocusTV(autoFocus: Boolean) {
     this.autoFocus = autoFocus
     lastFocusedElement = WeakReference(null)
+    SpatialFocusIndex.onFocusGuideChanged(this)
   }
 
   public fun setTrapFocusUp(enabled: Boolean) {
@@ -1619,7 +1632,6 @@ public open class ReactViewGroup public constructor(context: Context?) :
   }
 
   private companion object {
-    const val ARRAY_CAPACITY_INCREMENT = 12
     private val defaultLayoutParam = LayoutParams(0, 0)
 
     fun setViewClipped(view: View, clipped: Boolean) {
@@ -0,0 +1,792 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view
+
+import android.graphics.Rect
+import android.view.View
+import android.view.ViewGroup
+import android.widget.HorizontalScrollView
+import android.widget.ScrollView
+import androidx.annotation.UiThread
+import androidx.collection.MutableIntObjectMap
+import androidx.core.widget.NestedScrollView
+import com.facebook.react.R
+import com.facebook.react.config.ReactFeatureFlags
+import kotlin.math.abs
+import kotlin.math.max
+
+/**
+ * Spatial index used to answer D-pad focus searches without asking [android.view.FocusFinder] to
+ * collect and score every focusable view of the window.
+ *
+ * The hierarchy below a root view is split into "spaces": the root itself and every scroll
+ * container. Each space keeps a uniform grid of the views it contains, expressed in the content
+ * coordinates of the space, so scrolling never invalidates it. Nested scroll containers are kept
+ * as portals of their parent space and their live scroll offset is applied while searching.
+ *
+ * A space is built on the first focus search that visits it and then maintained incrementally: the
+ * mounting layer reports views added to or removed from a parent and views that were laid out, and
+ * only the entries of those views and of their descendants are moved in the grid.
+ *
+ * Candidates are scored with the same rules FocusFinder uses (beams, major/minor axis distance) and
+ * honour TVFocusGuide semantics: a guide that does not contain the focused view stands in for all
+ * of its descendants, exactly like [ReactViewGroup.addFocusables] does. Explicit `nextFocus*`
+ * destinations are left to the regular focus search.
+ */
+internal object SpatialFocusIndex {
+
+  private const val CELL_SIZE_SHIFT = 8 // 256px cells
+  private const val MAX_REJECTED_CANDIDATES = 8
+
+  private val NO_GUIDES: Array<ReactViewGroup> = arrayOf()
+
+  private class Entry(
+      val view: View,
+      val left: Int,
+      val top: Int,
+      val right: Int,
+      val bottom: Int,
+      val guides: Array<ReactViewGroup>,
+      val isGuide: Boolean,
+  ) {
+    var searchStamp: Int = 0
+  }
+
+  private class Portal(
+      val view: ViewGroup,
+      val left: Int,
+      val top: Int,
+      val guides: Array<ReactViewGroup>,
+  )
+
+  /**
+   * A view indexed in a space, stored in the [R.id.spatial_focus_node] tag of the view so that
+   * changes reported by the mounting layer can find its entry. The children of a node are offset by
+   * [childOffsetX] and [childOffsetY] in the content coordinates of the space.
+   */
+  private class Node(
+      val view: View,
+      val space: Space,
+      val parent: Node?,
+      val childOffsetX: Int,
+      val childOffsetY: Int,
+      val childGuides: Array<ReactViewGroup>,
+  ) {
+    val generation: Int = space.generation
+    val children: ArrayList<Node> = ArrayList(0)
+    var entry: Entry? = null
+    var portal: Portal? = null
+    var isAttached: Boolean = true
+    var reconcileStamp: Int = 0
+  }
+
+  private class Space(val isRoot: Boolean) {
+    var isDirty: Boolean = true
+    var generation: Int = 0
+    var root: Node? = null
+    val cells: MutableIntObjectMap<ArrayList<Entry>> = MutableIntObjectMap()
+    val portals: ArrayList<Portal> = ArrayList()
+    var minCellX: Int = Int.MAX_VALUE
+    var maxCellX: Int = Int.MIN_VALUE
+    var minCellY: Int = Int.MAX_VALUE
+    var maxCellY: Int = Int.MIN_VALUE
+
+    fun clear() {
+      generation++
+      root = null
+      cells.clear()
+      portals.clear()
+      minCellX = Int.MAX_VALUE
+      maxCellX = Int.MIN_VALUE
+      minCellY = Int.MAX_VALUE
+      maxCellY = Int.MIN_VALUE
+    }
+  }
+
+  /** State of a single [findNextFocus] call. */
+  private class Search(
+      val focused: View,
+      val direction: Int,
+      val source: Rect,
+      val focusedGuides: List<ReactViewGroup>,
+      val inTouchMode: Boolean,
+      val rejected: List<View>,
+      val stamp: Int,
+  ) {
+    var best: View? = null
+    val bestRect: Rect = Rect()
+    val candidateRect: Rect = Rect()
+  }
+
+  private var nextSearchStamp = 0
+  private var nextReconcileStamp = 0
+
+  /** Makes [root] the root space of a spatial focus index. */
+  @JvmStatic
+  @UiThread
+  fun install(root: ViewGroup) {
+    root.setTag(R.id.spatial_focus_space, Space(isRoot = true))
+  }
+
+  /**
+   * Must be called when children were added to or removed from [parent]. Indexes the added
+   * children and drops the entries of the removed ones.
+   */
+  @JvmStatic
+  @UiThread
+  fun onChildrenChanged(parent: View) {
+    if (!ReactFeatureFlags.enableSpatialFocusIndex) {
+      return
+    }
+    val ownSpace = parent.getTag(R.id.spatial_focus_space) as? Space
+    if (ownSpace != null) {
+      val root = ownSpace.root
+      if (!ownSpace.isDirty && root != null) {
+        reconcileChildren(ownSpace, root)
+      }
+      return
+    }
+    val node = getIndexedNode(parent)
+    if (node == null) {
+      invalidateContainingSpace(parent)
+    } else if (node.portal == null) {
+      reconcileChildren(node.space, node)
+    }
+  }
+
+  /**
+   * Must be called when [view] was moved or resized. Moves the entries of [view] and of its
+   * descendants.
+   */
+  @JvmStatic
+  @UiThread
+  fun onLayoutChanged(view: View) {
+    if (!ReactFeatureFlags.enableSpatialFocusIndex) {
+      return
+    }
+    val node = getIndexedNode(view)
+    if (node == null) {
+      invalidateContainingSpace(view)
+    } else {
+      reindex(node)
+    }
+  }
+
+  /**
+   * Must be called when [view] became or stopped being a TVFocusGuide, which changes whether its
+   * descendants can be reached from outside of it.
+   */
+  @JvmStatic
+  @UiThread
+  fun onFocusGuideChanged(view: ReactViewGroup) {
+    onLayoutChanged(view)
+  }
+
+  /**
+   * Looks up the next view to focus when moving from [focused] in [direction].
+   *
+   * Returns null when the index cannot answer the query, in which case the caller must fall back
+   * to the regular focus search: the surface has no index, the direction is not a D-pad
+   * direction, [focused] has an explicit `nextFocus*` destination for it, a `trapFocus*` ancestor
+   * restricts the search or no candidate was found.
+   */
+  @JvmStatic
+  @UiThread
+  fun findNextFocus(focused: View, direction: Int): View? {
+    val userSpecifiedId =
+        when (direction) {
+          View.FOCUS_LEFT -> focused.nextFocusLeftId
+          View.FOCUS_RIGHT -> focused.nextFocusRightId
+          View.FOCUS_UP -> focused.nextFocusUpId
+          View.FOCUS_DOWN -> focused.nextFocusDownId
+          else -> return null
+        }
+    if (userSpecifiedId != View.NO_ID) {
+      // FocusFinder resolves the destination, and follows its chain when it is not focusable.
+      return null
+    }
+
+    // Walk up once to find the root of the index, the guides containing the focused view and any
+    // focus trap that would scope the search to a subtree.
+    val focusedGuides = ArrayList<ReactViewGroup>(2)
+    var root: ViewGroup? = null
+    var parent = focused.parent
+    while (parent is ViewGroup) {
+      if (parent is ReactViewGroup) {
+        if (parent.trapsFocus(direction)) {
+          return null
+        }
+        if (parent.isTVFocusGuide) {
+          focusedGuides.add(parent)
+        }
+      }
+      val space = parent.getTag(R.id.spatial_focus_space) as? Space
+      if (space?.isRoot == true) {
+        root = parent
+        break
+      }
+      parent = parent.parent
+    }
+    if (root == null) {
+      return null
+    }
+
+    val source = Rect()
+    focused.getFocusedRect(source)
+    try {
+      root.offsetDescendantRectToMyCoords(focused, source)
+    } catch (e: IllegalArgumentException) {
+      return null
+    }
+
+    val rejected = ArrayList<View>(0)
+    while (rejected.size < MAX_REJECTED_CANDIDATES) {
+      val search =
+          Search(
+              focused,
+              direction,
+              source,
+              focusedGuides,
+              focused.isInTouchMode,
+              rejected,
+              ++nextSearchStamp,
+          )
+      searchSpace(search, root, 0, 0)
+      val best = search.best ?: return null
+      if (isReachable(best, root)) {
+        return best
+      }
+      rejected.add(best)
+    }
+    return null
+  }
+
+  private fun searchSpace(search: Search, container: ViewGroup, originX: Int, originY: Int) {
+    val space = ensureSpace(container)
+    val source = search.source
+    val direction = search.direction
+
+    if (space.minCellX <= space.maxCellX) {
+      val horizontal = direction == View.FOCUS_LEFT || direction == View.FOCUS_RIGHT
+      val step = if (direction == View.FOCUS_LEFT || direction == View.FOCUS_UP) -1 else 1
+      // Source rect in the content coordinates of this space
+      val srcLeft = source.left - originX
+      val srcTop = source.top - originY
+      val srcRight = source.right - originX
+      val srcBottom = source.bottom - originY
+
+      var major: Int
+      val lastMajor: Int
+      val minMinor: Int
+      val maxMinor: Int
+      val beamMinMinor: Int
+      val beamMaxMinor: Int
+      when (direction) {
+        View.FOCUS_LEFT -> {
+          major = cellOf(srcLeft - 1)
+          lastMajor = space.minCellX
+        }
+        View.FOCUS_RIGHT -> {
+          major = cellOf(srcRight)
+          lastMajor = space.maxCellX
+        }
+        View.FOCUS_UP -> {
+          major = cellOf(srcTop - 1)
+          lastMajor = space.minCellY
+        }
+        else -> {
+          major = cellOf(srcBottom)
+          lastMajor = space.maxCellY
+        }
+      }
+      if (horizontal) {
+        minMinor = space.minCellY
+        maxMinor = space.maxCellY
+        beamMinMinor = cellOf(srcTop)
+        beamMaxMinor = cellOf(srcBottom - 1)
+      } else {
+        minMinor = space.minCellX
+        maxMinor = space.maxCellX
+        beamMinMinor = cellOf(srcLeft)
+        beamMaxMinor = cellOf(srcRight - 1)
+      }
+      if (step > 0) {
+        major = max(major, if (horizontal) space.minCellX else space.minCellY)
+      } else {
+        major = minOf(major, if (horizontal) space.maxCellX else space.maxCellY)
+      }
+
+      while (if (step > 0) major <= lastMajor else major >= lastMajor) {
+        val cellStart = major shl CELL_SIZE_SHIFT
+        val cellEnd = (major + 1) shl CELL_SIZE_SHIFT
+        val distance =
+            when (direction) {
+              View.FOCUS_LEFT -> srcLeft - cellEnd
+              View.FOCUS_RIGHT -> cellStart - srcRight
+              View.FOCUS_UP -> srcTop - cellEnd
+              else -> cellStart - srcBottom
+            }
+        val scanAll = canNonBeamCandidateWin(search, max(0, distance))
+        val scanBeam = scanAll || canBeamCandidateWin(search, max(0, distance))
+        if (!scanBeam) {
+          break
+        }
+        val from = if (scanAll) minMinor else max(minMinor, beamMinMinor)
+        val to = if (scanAll) maxMinor else minOf(maxMinor, beamMaxMinor)
+        for (minor in from..to) {
+          val key = if (horizontal) cellKey(major, minor) else cellKey(minor, major)
+          val entries = space.cells[key] ?: continue
+          for (i in entries.indices) {
+            visitEntry(search, entries[i], originX, originY)
+          }
+        }
+        major += step
+      }
+    }
+
+    for (i in space.portals.indices) {
+      visitPortal(search, space.portals[i], originX, originY)
+    }
+  }
+
+  private fun visitEntry(search: Search, entry: Entry, originX: Int, originY: Int) {
+    if (entry.searchStamp == search.stamp) {
+      return
+    }
+    entry.searchStamp = search.stamp
+    if (!isEligible(search, entry)) {
+      return
+    }
+    val candidate = search.candidateRect
+    candidate.set(
+        entry.left + originX,
+        entry.top + originY,
+        entry.right + originX,
+        entry.bottom + originY,
+    )
+    if (
+        search.best == null && isCandidate(search.source, candidate, search.direction) ||
+            search.best != null &&
+                isBetterCandidate(search.direction, search.source, candidate, search.bestRect)
+    ) {
+      search.best = entry.view
+      search.bestRect.set(candidate)
+    }
+  }
+
+  private fun visitPortal(search: Search, portal: Portal, originX: Int, originY: Int) {
+    val view = portal.view
+    if (
+        view.visibility != View.VISIBLE ||
+            view.descendantFocusability == ViewGroup.FOCUS_BLOCK_DESCENDANTS
+    ) {
+      return
+    }
+    for (guide in portal.guides) {
+      if (!search.focusedGuides.containsIdentity(guide)) {
+        // The whole scroll container is represented by the guide that wraps it.
+        return
+      }
+    }
+
+    val contentOriginX = originX + portal.left - view.scrollX
+    val contentOriginY = originY + portal.top - view.scrollY
+    var contentWidth = view.width
+    var contentHeight = view.height
+    for (i in 0..<view.childCount) {
+      val child = view.getChildAt(i)
+      contentWidth = max(contentWidth, child.right)
+      contentHeight = max(contentHeight, child.bottom)
+    }
+    val content = search.candidateRect
+    content.set(
+        contentOriginX,
+        contentOriginY,
+        contentOriginX + contentWidth,
+        contentOriginY + contentHeight,
+    )
+
+    val source = search.source
+    val reachable =
+        when (search.direction) {
+          View.FOCUS_LEFT -> content.left < source.left
+          View.FOCUS_RIGHT -> content.right > source.right
+          View.FOCUS_UP -> content.top < source.top
+          else -> content.bottom > source.bottom
+        }
+    if (!reachable) {
+      return
+    }
+    val distance = max(0, majorAxisDistanceRaw(search.direction, source, content))
+    val inBeam = beamsOverlap(search.direction, source, content)
+    if (
+        !canNonBeamCandidateWin(search, distance) &&
+            !(inBeam && canBeamCandidateWin(search, distance))
+    ) {
+      return
+    }
+    searchSpace(search, view, contentOriginX, contentOriginY)
+  }
+
+  /** Whether a candidate outside of the source beam at [distance] may still beat the best one. */
+  private fun canNonBeamCandidateWin(search: Search, distance: Int): Boolean {
+    if (search.best == null) {
+      return true
+    }
+    val best = search.bestRect
+    val direction = search.direction
+    val bestDistance =
+        weightedDistance(
+            majorAxisDistance(direction, search.source, best),
+            minorAxisDistance(direction, search.source, best),
+        )
+    return 13L * distance * distance <= bestDistance
+  }
+
+  /** Whether a candidate inside the source beam at [distance] may still beat the best one. */
+  private fun canBeamCandidateWin(search: Search, distance: Int): Boolean {
+    if (canNonBeamCandidateWin(search, distance)) {
+      return true
+    }
+    val best = search.bestRect
+    val direction = search.direction
+    if (beamsOverlap(direction, search.source, best)) {
+      return false
+    }
+    if (direction == View.FOCUS_LEFT || direction == View.FOCUS_RIGHT) {
+      return true
+    }
+    return distance < majorAxisDistanceToFarEdge(direction, search.source, best)
+  }
+
+  private fun isEligible(search: Search, entry: Entry): Boolean {
+    val view = entry.view
+    if (view === search.focused || view.visibility != View.VISIBLE) {
+      return false
+    }
+    if (search.rejected.containsIdentity(view)) {
+      return false
+    }
+    for (guide in entry.guides) {
+      if (!search.focusedGuides.containsIdentity(guide)) {
+        return false
+      }
+    }
+    if (entry.isGuide && view is ReactViewGroup && view.isTVFocusGuide) {
+      // A guide that already contains the focus exposes its children instead of itself.
+      return !search.focusedGuides.containsIdentity(view)
+    }
+    return view.isFocusable && (!search.inTouchMode || view.isFocusableInTouchMode)
+  }
+
+  /**
+   * The index is not notified about visibility changes of ancestors nor about subview clipping, so
+   * the winning candidate is checked against the live hierarchy before being returned.
+   */
+  private fun isReachable(view: View, root: ViewGroup): Boolean {
+    if (!view.isShown) {
+      return false
+    }
+    var parent = view.parent
+    while (parent is ViewGroup && parent !== root) {
+      if (parent.descendantFocusability == ViewGroup.FOCUS_BLOCK_DESCENDANTS) {
+        return false
+      }
+      parent = parent.parent
+    }
+    return parent === root
+  }
+
+  private fun ensureSpace(container: ViewGroup): Space {
+    var space = container.getTag(R.id.spatial_focus_space) as? Space
+    if (space == null) {
+      space = Space(isRoot = false)
+      container.setTag(R.id.spatial_focus_space, space)
+    }
+    if (space.isDirty) {
+      space.clear()
+      val root = Node(container, space, null, 0, 0, NO_GUIDES)
+      space.root = root
+      indexChildren(space, root)
+      space.isDirty = false
+    }
+    return space
+  }
+
+  /** Returns the node of [view], or null if it isn't part of a space that is up to date. */
+  private fun getIndexedNode(view: View): Node? {
+    val node = view.getTag(R.id.spatial_focus_node) as? Node ?: return null
+    val space = node.space
+    if (!node.isAttached || space.isDirty || node.generation != space.generation) {
+      return null
+    }
+    return node
+  }
+
+  /**
+   * Fallback for changes to views the index doesn't know about: the space containing [view], if it
+   * was built, is rebuilt on its next search.
+   */
+  private fun invalidateContainingSpace(view: View) {
+    var parent = view.parent
+    while (parent is View) {
+      val space = parent.getTag(R.id.spatial_focus_space) as? Space
+      if (space != null) {
+        space.isDirty = true
+        return
+      }
+      if (isSpaceContainer(parent)) {
+        // Scroll container that has not been indexed yet, it will be built on first use.
+        return
+      }
+      parent = parent.parent
+    }
+  }
+
+  /** Drops the children of [node] that were removed from its view and indexes the new ones. */
+  private fun reconcileChildren(space: Space, node: Node) {
+    val stamp = ++nextReconcileStamp
+    forEachChild(node.view) { child ->
+      val childNode = child.getTag(R.id.spatial_focus_node) as? Node
+      if (childNode != null && childNode.isAttached && childNode.parent === node) {
+        childNode.reconcileStamp = stamp
+      } else {
+        indexView(space, node, child).reconcileStamp = stamp
+      }
+    }
+    node.children.removeAll { childNode ->
+      val removed = childNode.reconcileStamp != stamp
+      if (removed) {
+        removeSubtree(space, childNode)
+      }
+      removed
+    }
+  }
+
+  /** Indexes [node] and its descendants again, at the current position of its view. */
+  private fun reindex(node: Node) {
+    val parent = node.parent ?: return
+    val space = node.space
+    removeSubtree(space, node)
+    val index = parent.children.indexOfFirst { it === node }
+    val newNode = indexView(space, parent, node.view)
+    if (index >= 0) {
+      // Keep the children in view order, indexView appended the new node.
+      parent.children.removeAt(parent.children.size - 1)
+      parent.children[index] = newNode
+    }
+  }
+
+  private fun indexChildren(space: Space, node: Node) {
+    forEachChild(node.view) { child -> indexView(space, node, child) }
+  }
+
+  private fun indexView(space: Space, parent: Node, child: View): Node {
+    val left = parent.childOffsetX + child.left
+    val top = parent.childOffsetY + child.top
+    val guides = parent.childGuides
+    val node: Node
+
+    if (child is ViewGroup && isSpaceContainer(child)) {
+      // Its content is indexed in its own space.
+      node = Node(child, space, parent, 0, 0, guides)
+      val portal = Portal(child, left, top, guides)
+      node.portal = portal
+      space.portals.add(portal)
+    } else {
+      val isGuide = child is ReactViewGroup && child.isTVFocusGuide
+      val childGuides = if (isGuide) guides + (child as ReactViewGroup) else guides
+      node = Node(child, space, parent, left - child.scrollX, top - child.scrollY, childGuides)
+      if (child.width > 0 && child.height > 0) {
+        val entry = Entry(child, left, top, left + child.width, top + child.height, guides, isGuide)
+        node.entry = entry
+        insert(space, entry)
+      }
+      indexChildren(space, node)
+    }
+
+    parent.children.add(node)
+    child.setTag(R.id.spatial_focus_node, node)
+    return node
+  }
+
+  private fun removeSubtree(space: Space, node: Node) {
+    node.isAttached = false
+    node.entry?.let { remove(space, it) }
+    node.portal?.let { space.portals.remove(it) }
+    for (i in node.children.indices) {
+      removeSubtree(space, node.children[i])
+    }
+    if (node.view.getTag(R.id.spatial_focus_node) === node) {
+      node.view.setTag(R.id.spatial_focus_node, null)
+    }
+  }
+
+  private inline fun forEachChild(parent: View, action: (View) -> Unit) {
+    if (parent !is ViewGroup) {
+      return
+    }
+    // Clipped subviews are detached from their parent but are still indexed, they are filtered out
+    // when a candidate is picked so that re-attaching them does not need to update the index.
+    if (parent is ReactViewGroup && parent._removeClippedSubviews) {
+      for (i in 0..<parent.allChildrenCount) {
+        parent.getChildAtWithSubviewClippingEnabled(i)?.let(action)
+      }
+    } else {
+      for (i in 0..<parent.childCount) {
+        action(parent.getChildAt(i))
+      }
+    }
+  }
+
+  private fun insert(space: Space, entry: Entry) {
+    val fromX = cellOf(entry.left)
+    val toX = cellOf(entry.right - 1)
+    val fromY = cellOf(entry.top)
+    val toY = cellOf(entry.bottom - 1)
+    for (x in fromX..toX) {
+      for (y in fromY..toY) {
+        space.cells.getOrPut(cellKey(x, y)) { ArrayList(4) }.add(entry)
+      }
+    }
+    space.minCellX = minOf(space.minCellX, fromX)
+    space.maxCellX = max(space.maxCellX, toX)
+    space.minCellY = minOf(space.minCellY, fromY)
+    space.maxCellY = max(space.maxCellY, toY)
+  }
+
+  /** Removes [entry] from its cells. The bounds of the grid are kept, empty cells are skipped. */
+  private fun remove(space: Space, entry: Entry) {
+    for (x in cellOf(entry.left)..cellOf(entry.right - 1)) {
+      for (y in cellOf(entry.top)..cellOf(entry.bottom - 1)) {
+        val key = cellKey(x, y)
+        val entries = space.cells[key] ?: continue
+        entries.remove(entry)
+        if (entries.isEmpty()) {
+          space.cells.remove(key)
+        }
+      }
+    }
+  }
+
+  private fun isSpaceContainer(view: Any): Boolean =
+      view is ScrollView || view is HorizontalScrollView || view is NestedScrollView
+
+  private fun cellOf(coordinate: Int): Int = coordinate shr CELL_SIZE_SHIFT
+
+  private fun cellKey(x: Int, y: Int): Int = (x shl 16) or (y and 0xFFFF)
+
+  private fun <T> List<T>.containsIdentity(item: T): Boolean {
+    for (i in indices) {
+      if (this[i] === item) {
+        return true
+      }
+    }
+    return false
+  }
+
+  // The following helpers mirror the candidate scoring of android.view.FocusFinder so that the
+  // index picks the same view the framework would have picked.
+
+  private fun isBetterCandidate(direction: Int, source: Rect, rect1: Rect, rect2: Rect): Boolean {
+    if (!isCandidate(source, rect1, direction)) {
+      return false
+    }
+    if (!isCandidate(source, rect2, direction)) {
+      return true
+    }
+    if (beamBeats(direction, source, rect1, rect2)) {
+      return true
+    }
+    if (beamBeats(direction, source, rect2, rect1)) {
+      return false
+    }
+    return weightedDistance(
+        majorAxisDistance(direction, source, rect1),
+        minorAxisDistance(direction, source, rect1),
+    ) <
+        weightedDistance(
+            majorAxisDistance(direction, source, rect2),
+            minorAxisDistance(direction, source, rect2),
+        )
+  }
+
+  private fun isCandidate(source: Rect, dest: Rect, direction: Int): Boolean =
+      when (direction) {
+        View.FOCUS_LEFT ->
+            (source.right > dest.right || source.left >= dest.right) && source.left > dest.left
+        View.FOCUS_RIGHT ->
+            (source.left < dest.left || source.right <= dest.left) && source.right < dest.right
+        View.FOCUS_UP ->
+            (source.bottom > dest.bottom || source.top >= dest.bottom) && source.top > dest.top
+        else -> (source.top < dest.top || source.bottom <= dest.top) && source.bottom < dest.bottom
+      }
+
+  private fun beamBeats(direction: Int, source: Rect, rect1: Rect, rect2: Rect): Boolean {
+    val rect1InSrcBeam = beamsOverlap(direction, source, rect1)
+    val rect2InSrcBeam = beamsOverlap(direction, source, rect2)
+    if (rect2InSrcBeam || !rect1InSrcBeam) {
+      return false
+    }
+    if (!isToDirectionOf(direction, source, rect2)) {
+      return true
+    }
+    if (direction == View.FOCUS_LEFT || direction == View.FOCUS_RIGHT) {
+      return true
+    }
+    return majorAxisDistance(direction, source, rect1) <
+        majorAxisDistanceToFarEdge(direction, source, rect2)
+  }
+
+  private fun beamsOverlap(direction: Int, rect1: Rect, rect2: Rect): Boolean =
+      when (direction) {
+        View.FOCUS_LEFT,
+        View.FOCUS_RIGHT -> rect2.bottom > rect1.top && rect2.top < rect1.bottom
+        else -> rect2.right > rect1.left && rect2.left < rect1.right
+      }
+
+  private fun isToDirectionOf(direction: Int, source: Rect, dest: Rect): Boolean =
+      when (direction) {
+        View.FOCUS_LEFT -> source.left >= dest.right
+        View.FOCUS_RIGHT -> source.right <= dest.left
+        View.FOCUS_UP -> source.top >= dest.bottom
+        else -> source.bottom <= dest.top
+      }
+
+  private fun majorAxisDistance(direction: Int, source: Rect, dest: Rect): Int =
+      max(0, majorAxisDistanceRaw(direction, source, dest))
+
+  private fun majorAxisDistanceRaw(direction: Int, source: Rect, dest: Rect): Int =
+      when (direction) {
+        View.FOCUS_LEFT -> source.left - dest.right
+        View.FOCUS_RIGHT -> dest.left - source.right
+        View.FOCUS_UP -> source.top - dest.bottom
+        else -> dest.top - source.bottom
+      }
+
+  private fun majorAxisDistanceToFarEdge(direction: Int, source: Rect, dest: Rect): Int =
+      max(
+          1,
+          when (direction) {
+            View.FOCUS_LEFT -> source.left - dest.left
+            View.FOCUS_RIGHT -> dest.right - source.right
+            View.FOCUS_UP -> source.top - dest.top
+            else -> dest.bottom - source.bottom
+          },
+      )
+
+  private fun minorAxisDistance(direction: Int, source: Rect, dest: Rect): Int =
+      when (direction) {
+        View.FOCUS_LEFT,
+        View.FOCUS_RIGHT -> abs(source.centerY() - dest.centerY())
+        else -> abs(source.centerX() - dest.centerX())
+      }
+
+  private fun weightedDistance(majorAxisDistance: Int, minorAxisDistance: Int): Long =
+      13L * majorAxisDistance * majorAxisDistance + minorAxisDistance.toLong() * minorAxisDistance
+}
@@ -7,9 +7,15 @@
 
 #include "BlobCollector.h"
 
+#include <fbjni/ByteBuffer.h>
 #include <fbjni/fbjni.h>
+#include <cmath>
+#include <cstring>
+#include <limits>
 #include <memory>
+#include <string>
 #include <utility>
+#include <vector>
 
 using namespace facebook;
 
@@ -32,6 +38,99 @@ BlobCollector::~BlobCollector() {
   });
 }
 
+namespace {
+
+// Owns a copy of the bytes of a blob, so the ArrayBuffer stays valid and
+// writable whatever happens to the blob afterwards.
+class BlobBytesBuffer : public jsi::MutableBuffer {
+ public:
+  explicit BlobBytesBuffer(std::vector<uint8_t> bytes)
+      : bytes_(std::move(bytes)) {}
+
+  size_t size() const override {
+    return bytes_.size();
+  }
+
+  uint8_t* data() override {
+    return bytes_.data();
+  }
+
+ private:
+  std::vector<uint8_t> bytes_;
+};
+
+// Returns args[index] as a non-negative integer, or throws a JSError.
+size_t getSizeArgument(
+    jsi::Runtime& rt,
+    const char* function,
+    const jsi::Value* args,
+    size_t index) {
+  // NOLINTNEXTLINE(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+  const auto& arg = args[index];
+  auto value = arg.isNumber() ? arg.getNumber() : -1;
+  if (!(value >= 0) || value > std::numeric_limits<jint>::max() ||
+      std::trunc(value) != value) {
+    throw jsi::JSError(
+        rt,
+        std::string(function) + ": argument " + std::to_string(index) +
+            " must be a non-negative integer");
+  }
+  return static_cast<size_t>(value);
+}
+
+void checkArgumentCount(
+    jsi::Runtime& rt,
+    const char* function,
+    size_t count,
+    size_t expected) {
+  if (count < expected) {
+    throw jsi::JSError(
+        rt,
+        std::string(function) + " expects " + std::to_string(expected) +
+            " arguments, got " + std::to_string(count));
+  }
+}
+
+// Copies a range of a blob out of the BlobModule with a single copy: off-heap
+// blobs are read straight from their direct buffer, and heap blobs are copied
+// by Java into a direct buffer over the returned bytes.
+std::vector<uint8_t> copyBlobBytes(
+    jsi::Runtime& rt,
+    jni::alias_ref<jobject> blobModule,
+    const std::string& blobId,
+    int offset,
+    int size) {
+  static auto resolveBufferMethod =
+      jni::findClassStatic(kBlobModuleJavaDescriptor)
+          ->getMethod<jni::JByteBuffer::javaobject(jstring, jint, jint)>(
+              "resolveBuffer");
+  static auto remainingMethod =
+      jni::JByteBuffer::javaClassStatic()->getMethod<jint()>("remaining");
+  static auto putMethod =
+      jni::JByteBuffer::javaClassStatic()
+          ->getMethod<jni::JByteBuffer::javaobject(
+              jni::JByteBuffer::javaobject)>("put");
+
+  auto buffer = resolveBufferMethod(
+      blobModule, jni::make_jstring(blobId).get(), offset, size);
+  if (!buffer) {
+    throw jsi::JSError(rt, "Blob " + blobId + " not found");
+  }
+  if (buffer->isDirect()) {
+    auto bytes = buffer->getDirectBytes();
+    // NOLINTNEXTLINE(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+    return {bytes, bytes + buffer->getDirectSize()};
+  }
+  std::vector<uint8_t> bytes(static_cast<size_t>(remainingMethod(buffer)));
+  if (!bytes.empty()) {
+    auto target = jni::JByteBuffer::wrapBytes(bytes.data(), bytes.size());
+    putMethod(target, buffer.get());
+  }
+  return bytes;
+}
+
+} // namespace
+
 size_t BlobCollector::getBlobLength() {
   static auto getLengthMethod =
       jni::findClassStatic(kBlobModuleJavaDescriptor)
@@ -78,6 +177,92 @@ BlobModuleJSIBindings::getBindingsInstaller(
                       rt, blobCollector->getBlobLength());
                   return blobCollectorJsObject;
                 }));
+
+        // Moves the contents of a blob into a new ArrayBuffer and removes the
+        // blob, so binary data doesn't have to be Base64 encoded to reach JS.
+        runtime.global().setProperty(
+            runtime,
+            "__blobTakeArrayBuffer",
+            jsi::Function::createFromHostFunction(
+                runtime,
+                jsi::PropNameID::forAscii(runtime, "__blobTakeArrayBuffer"),
+                3,
+                [blobModuleRef](
+                    jsi::Runtime& rt,
+                    const jsi::Value& /*thisVal*/,
+                    const jsi::Value* args,
+                    size_t count) {
+                  static constexpr auto kName = "__blobTakeArrayBuffer";
+                  checkArgumentCount(rt, kName, count, 3);
+                  // NOLINTBEGIN(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+                  if (!args[0].isString()) {
+                    throw jsi::JSError(
+                        rt, std::string(kName) + ": blobId must be a string");
+                  }
+                  auto blobId = args[0].getString(rt).utf8(rt);
+                  auto offset =
+                      static_cast<int>(getSizeArgument(rt, kName, args, 1));
+                  auto size =
+                      static_cast<int>(getSizeArgument(rt, kName, args, 2));
+                  // NOLINTEND(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+                  auto bytes =
+                      copyBlobBytes(rt, blobModuleRef, blobId, offset, size);
+                  static auto removeMethod =
+                      jni::findClassStatic(kBlobModuleJavaDescriptor)
+                          ->getMethod<void(jstring)>("remove");
+                  removeMethod(blobModuleRef, jni::make_jstring(blobId).get());
+                  return jsi::ArrayBuffer(
+                      rt, std::make_shared<BlobBytesBuffer>(std::move(bytes)));
+                }));
+
+        // Stores a range of an ArrayBuffer as a new blob and returns its id,
+        // so binary data doesn't have to be Base64 encoded to reach native.
+        runtime.global().setProperty(
+            runtime,
+            "__blobFromArrayBuffer",
+            jsi::Function::createFromHostFunction(
+                runtime,
+                jsi::PropNameID::forAscii(runtime, "__blobFromArrayBuffer"),
+                3,
+                [blobModuleRef](
+                    jsi::Runtime& rt,
+                    const jsi::Value& /*thisVal*/,
+                    const jsi::Value* args,
+                    size_t count) {
+                  static constexpr auto kName = "__blobFromArrayBuffer";
+                  checkArgumentCount(rt, kName, count, 3);
+                  // NOLINTBEGIN(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+                  if (!args[0].isObject() ||
+                      !args[0].getObject(rt).isArrayBuffer(rt)) {
+                    throw jsi::JSError(
+                        rt,
+                        std::string(kName) + ": buffer must be an ArrayBuffer");
+                  }
+                  auto arrayBuffer = args[0].getObject(rt).getArrayBuffer(rt);
+                  auto offset = getSizeArgument(rt, kName, args, 1);
+                  auto length = getSizeArgument(rt, kName, args, 2);
+                  // NOLINTEND(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+                  auto bufferSize = arrayBuffer.size(rt);
+                  if (offset > bufferSize || length > bufferSize - offset) {
+                    throw jsi::JSError(
+                        rt, "Range is outside of the ArrayBuffer");
+                  }
+                  // NOLINTNEXTLINE(cppcoreguidelines-pro-bounds-pointer-arithmetic)
+                  const uint8_t* start = arrayBuffer.data(rt) + offset;
+                  auto data = jni::JArrayByte::newArray(
+                      static_cast<jsize>(length));
+                  data->setRegion(
+                      0,
+                      static_cast<jsize>(length),
+                      reinterpret_cast<const jbyte*>(start));
+                  static auto storeMethod =
+                      jni::findClassStatic(kBlobModuleJavaDescriptor)
+                          ->getMethod<jni::JString::javaobject(
+                              jni::JArrayByte::javaobject)>("store");
+                  auto blobId = storeMethod(blobModuleRef, data.get());
+                  return jsi::String::createFromUtf8(
+                      rt, blobId->toStdString());
+                }));
       });
 }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class AnimatedPropsBufferTest {
+
+  private val buffer = AnimatedPropsBuffer()
+
+  @Test
+  fun `flushUpdates - sends every prop on the first frame`() {
+    buffer.beginFrame()
+    buffer.putDouble("opacity", 0.5)
+    buffer.putInt("backgroundColor", 0xff0000)
+
+    assertThat(buffer.flushUpdates()).isTrue()
+    assertThat(buffer.updates.toHashMap()).containsOnlyKeys("opacity", "backgroundColor")
+    assertThat(buffer.updates.getDouble("opacity")).isEqualTo(0.5)
+    assertThat(buffer.updates.getInt("backgroundColor")).isEqualTo(0xff0000)
+  }
+
+  @Test
+  fun `flushUpdates - only sends the props that changed`() {
+    writeFrame(opacity = 0.5, color = 0xff0000)
+    buffer.flushUpdates()
+
+    writeFrame(opacity = 0.75, color = 0xff0000)
+
+    assertThat(buffer.flushUpdates()).isTrue()
+    assertThat(buffer.updates.toHashMap()).containsOnlyKeys("opacity")
+    assertThat(buffer.updates.getDouble("opacity")).isEqualTo(0.75)
+  }
+
+  @Test
+  fun `flushUpdates - returns false when nothing changed`() {
+    writeFrame(opacity = 0.5, color = 0xff0000)
+    buffer.flushUpdates()
+
+    writeFrame(opacity = 0.5, color = 0xff0000)
+
+    assertThat(buffer.flushUpdates()).isFalse()
+  }
+
+  @Test
+  fun `putTransform - alternates arrays so consecutive updates are not equal`() {
+    val properties = arrayOf<String?>("translateX", "scale")
+    val values = doubleArrayOf(0.0, 1.0)
+
+    buffer.beginFrame()
+    buffer.putTransform("transform", properties, values)
+    buffer.flushUpdates()
+    val first = checkNotNull(buffer.updates.getArray("transform"))
+    assertThat(first).isEqualTo(transformOf(0.0, 1.0))
+
+    values[0] = 10.0
+    buffer.beginFrame()
+    buffer.putTransform("transform", properties, values)
+    buffer.flushUpdates()
+    val second = checkNotNull(buffer.updates.getArray("transform"))
+
+    assertThat(second).isNotSameAs(first)
+    assertThat(second).isEqualTo(transformOf(10.0, 1.0))
+    assertThat(first).isEqualTo(transformOf(0.0, 1.0))
+  }
+
+  @Test
+  fun `putTransform - is not sent again when its values are unchanged`() {
+    val properties = arrayOf<String?>("scale")
+    buffer.beginFrame()
+    buffer.putTransform("transform", properties, doubleArrayOf(1.1))
+    buffer.flushUpdates()
+
+    buffer.beginFrame()
+    buffer.putTransform("transform", properties, doubleArrayOf(1.1))
+    buffer.putDouble("opacity", 1.0)
+
+    assertThat(buffer.flushUpdates()).isTrue()
+    assertThat(buffer.updates.hasKey("transform")).isFalse()
+  }
+
+  @Test
+  fun `putObject - compares values by equality`() {
+    buffer.beginFrame()
+    buffer.putObject("shadowOffset", JavaOnlyMap.of("width", 1.0))
+    buffer.flushUpdates()
+
+    buffer.beginFrame()
+    buffer.putObject("shadowOffset", JavaOnlyMap.of("width", 1.0))
+
+    assertThat(buffer.flushUpdates()).isFalse()
+  }
+
+  @Test
+  fun `slots - are found by key when the write order changes`() {
+    writeFrame(opacity = 0.5, color = 0xff0000)
+    buffer.flushUpdates()
+
+    buffer.beginFrame()
+    buffer.putInt("backgroundColor", 0x00ff00)
+    buffer.putDouble("opacity", 0.5)
+
+    assertThat(buffer.flushUpdates()).isTrue()
+    assertThat(buffer.updates.toHashMap()).containsOnlyKeys("backgroundColor")
+    assertThat(buffer.updates.getInt("backgroundColor")).isEqualTo(0x00ff00)
+  }
+
+  @Test
+  fun `reset - sends every prop again`() {
+    writeFrame(opacity = 0.5, color = 0xff0000)
+    buffer.flushUpdates()
+
+    buffer.reset()
+    writeFrame(opacity = 0.5, color = 0xff0000)
+
+    assertThat(buffer.flushUpdates()).isTrue()
+    assertThat(buffer.updates.toHashMap()).containsOnlyKeys("opacity", "backgroundColor")
+  }
+
+  private fun writeFrame(opacity: Double, color: Int) {
+    buffer.beginFrame()
+    buffer.putDouble("opacity", opacity)
+    buffer.putInt("backgroundColor", color)
+  }
+
+  private fun transformOf(translateX: Double, scale: Double): JavaOnlyArray =
+      JavaOnlyArray.of(JavaOnlyMap.of("translateX", translateX), JavaOnlyMap.of("scale", scale))
+}
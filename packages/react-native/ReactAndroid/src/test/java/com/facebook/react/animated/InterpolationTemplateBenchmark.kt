@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark comparing the regex based [InterpolationAnimatedNode.interpolateString] with the
+ * precompiled [InterpolationTemplate], for [NODE_COUNT] string interpolations (a rotation and an
+ * SVG path) rendered for every frame of a one second animation. Timings are reported per frame by
+ * [BenchmarkRule]; the assertions only check that both paths render the same strings.
+ */
+@RunWith(RobolectricTestRunner::class)
+class InterpolationTemplateBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private val inputRange = doubleArrayOf(0.0, 1.0)
+
+  @Test
+  fun `interpolateString - rotate transform`() {
+    compare("rotate transform", "rotate(0deg)", arrayOf(doubleArrayOf(0.0), doubleArrayOf(360.0)))
+  }
+
+  @Test
+  fun `interpolateString - svg path`() {
+    compare(
+        "svg path",
+        "M20,20L20,80L80,80L80,20Z",
+        arrayOf(
+            doubleArrayOf(20.0, 20.0, 20.0, 80.0, 80.0, 80.0, 80.0, 20.0),
+            doubleArrayOf(40.0, 40.0, 33.0, 60.0, 60.0, 60.0, 65.0, 40.0),
+        ),
+    )
+  }
+
+  private fun compare(name: String, pattern: String, outputRange: Array<DoubleArray>) {
+    val templates = Array(NODE_COUNT) { InterpolationTemplate.compile(pattern) }
+
+    benchmark.measure("$name: regex", operationsPerIteration = FRAME_COUNT + 1) {
+      var last = ""
+      forEachFrame { value ->
+        for (i in 0..<NODE_COUNT) {
+          last =
+              InterpolationAnimatedNode.interpolateString(
+                  pattern,
+                  value,
+                  inputRange,
+                  outputRange,
+                  EXTRAPOLATE,
+                  EXTRAPOLATE,
+              )
+        }
+      }
+      last
+    }
+    benchmark.measure("$name: template", operationsPerIteration = FRAME_COUNT + 1) {
+      var last = ""
+      forEachFrame { value ->
+        for (i in 0..<NODE_COUNT) {
+          last = templates[i].render(value, inputRange, outputRange, EXTRAPOLATE, EXTRAPOLATE)
+        }
+      }
+      last
+    }
+
+    forEachFrame { value ->
+      assertThat(templates[0].render(value, inputRange, outputRange, EXTRAPOLATE, EXTRAPOLATE))
+          .isEqualTo(
+              InterpolationAnimatedNode.interpolateString(
+                  pattern,
+                  value,
+                  inputRange,
+                  outputRange,
+                  EXTRAPOLATE,
+                  EXTRAPOLATE,
+              ),
+          )
+    }
+  }
+
+  private inline fun forEachFrame(block: (Double) -> Unit) {
+    for (frame in 0..FRAME_COUNT) {
+      block(frame.toDouble() / FRAME_COUNT)
+    }
+  }
+
+  private companion object {
+    const val NODE_COUNT = 300
+    const val FRAME_COUNT = 60
+    const val EXTRAPOLATE = InterpolationAnimatedNode.EXTRAPOLATE_TYPE_CLAMP
+  }
+}
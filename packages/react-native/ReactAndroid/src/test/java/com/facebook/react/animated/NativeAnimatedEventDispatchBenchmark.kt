@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.WritableMap
+import com.facebook.react.uimanager.events.Event
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark for dispatching native events to `Animated.event` drivers in
+ * [NativeAnimatedNodesManager], shaped like a screen full of parallax rails: every rail has its own
+ * scroll driver, and events only ever target one of them. Compares the lookup of the drivers
+ * registered for the event's view with asking the match spec of the event about every driver, as
+ * all events did before drivers were indexed and events with a custom spec still do. Timings are
+ * reported per event by [BenchmarkRule], and the lookup's should stay roughly flat as the number of
+ * drivers grows; the assertions only check that the targeted driver, and no other, received the
+ * events.
+ */
+@RunWith(RobolectricTestRunner::class)
+class NativeAnimatedEventDispatchBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  @Test
+  fun `onEventDispatch - scroll events with a growing number of drivers`() {
+    for (driverCount in DRIVER_COUNTS) {
+      val nodesManager = createNodesManager(driverCount)
+      val targetIndex = driverCount / 2
+      val viewTag = VIEW_TAG_BASE + targetIndex
+
+      measure("$driverCount drivers: lookup", nodesManager, TestScrollEvent(viewTag))
+      measure("$driverCount drivers: scan", nodesManager, ScanningScrollEvent(viewTag))
+
+      assertThat(valueOf(nodesManager, VALUE_TAG_BASE + targetIndex))
+          .isEqualTo((EVENTS_PER_ITERATION - 1).toDouble())
+      assertThat(valueOf(nodesManager, VALUE_TAG_BASE + (targetIndex + 1) % driverCount))
+          .isEqualTo(0.0)
+    }
+  }
+
+  private fun measure(
+      name: String,
+      nodesManager: NativeAnimatedNodesManager,
+      event: TestScrollEvent,
+  ) {
+    benchmark.measure(name, operationsPerIteration = EVENTS_PER_ITERATION) {
+      for (i in 0..<EVENTS_PER_ITERATION) {
+        nodesManager.onEventDispatch(event.withOffset(i.toDouble()))
+      }
+      nodesManager
+    }
+  }
+
+  private fun createNodesManager(driverCount: Int): NativeAnimatedNodesManager {
+    val nodesManager = NativeAnimatedNodesManager(null)
+    for (i in 0..<driverCount) {
+      nodesManager.createAnimatedNode(
+          VALUE_TAG_BASE + i,
+          JavaOnlyMap.of("type", "value", "value", 0.0, "offset", 0.0),
+      )
+      nodesManager.addAnimatedEventToView(
+          VIEW_TAG_BASE + i,
+          "onScroll",
+          JavaOnlyMap.of(
+              "animatedValueTag",
+              VALUE_TAG_BASE + i,
+              "nativeEventPath",
+              JavaOnlyArray.of("contentOffset", "y"),
+          ),
+      )
+    }
+    return nodesManager
+  }
+
+  private fun valueOf(nodesManager: NativeAnimatedNodesManager, tag: Int): Double =
+      (nodesManager.getNodeById(tag) as ValueAnimatedNode).getValue()
+
+  private open class TestScrollEvent(viewTag: Int) : Event<TestScrollEvent>(SURFACE_ID, viewTag) {
+    private var offset = 0.0
+
+    fun withOffset(offset: Double): TestScrollEvent {
+      this.offset = offset
+      return this
+    }
+
+    override fun getEventName(): String = "topScroll"
+
+    override fun getEventData(): WritableMap =
+        JavaOnlyMap.of("contentOffset", JavaOnlyMap.of("y", offset))
+  }
+
+  /** Matches the same drivers as the default spec, but isn't it, so every driver is asked. */
+  private class ScanningScrollEvent(viewTag: Int) : TestScrollEvent(viewTag) {
+    override val eventAnimationDriverMatchSpec =
+        Event.EventAnimationDriverMatchSpec { viewTagRhs, eventNameRhs ->
+          viewTagRhs == viewTag && eventNameRhs == eventName
+        }
+  }
+
+  private companion object {
+    val DRIVER_COUNTS = intArrayOf(10, 100, 1000)
+    const val SURFACE_ID = 1
+    const val VIEW_TAG_BASE = 1000
+    const val VALUE_TAG_BASE = 100_000
+    const val EVENTS_PER_ITERATION = 1000
+  }
+}
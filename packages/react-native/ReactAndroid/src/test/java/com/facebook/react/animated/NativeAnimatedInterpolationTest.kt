@@ -159,6 +159,64 @@ class NativeAnimatedInterpolationTest {
         .isEqualTo("M30,30L26.5,70L70,70L72.5,30Z")
   }
 
+  @Test
+  fun testInterpolationTemplateMatchesInterpolateString() {
+    val input = doubleArrayOf(0.0, 0.5, 1.0)
+    val patterns =
+        mapOf(
+            "rotate(0deg)" to arrayOf(doubleArrayOf(0.0), doubleArrayOf(45.0), doubleArrayOf(90.0)),
+            "M20,20L20,80Z" to
+                arrayOf(
+                    doubleArrayOf(20.0, 20.0, 20.0, 80.0),
+                    doubleArrayOf(30.0, -5.5, 1e3, 60.0),
+                    doubleArrayOf(40.0, 40.0, 33.0, 60.0),
+                ),
+            "no numbers" to arrayOf(DoubleArray(0), DoubleArray(0), DoubleArray(0)),
+        )
+    for ((pattern, output) in patterns) {
+      val template = InterpolationTemplate.compile(pattern)
+      for (value in doubleArrayOf(-1.0, 0.0, 0.1, 0.25, 0.5, 0.75, 1.0, 2.0)) {
+        assertThat(
+                template.render(
+                    value,
+                    input,
+                    output,
+                    InterpolationAnimatedNode.EXTRAPOLATE_TYPE_EXTEND,
+                    InterpolationAnimatedNode.EXTRAPOLATE_TYPE_CLAMP,
+                ),
+            )
+            .isEqualTo(
+                InterpolationAnimatedNode.interpolateString(
+                    pattern,
+                    value,
+                    input,
+                    output,
+                    InterpolationAnimatedNode.EXTRAPOLATE_TYPE_EXTEND,
+                    InterpolationAnimatedNode.EXTRAPOLATE_TYPE_CLAMP,
+                ),
+            )
+      }
+    }
+  }
+
+  @Test
+  fun testInterpolationTemplateKeepsExtraNumbersLiteral() {
+    val template = InterpolationTemplate.compile("scale(1) rotate(2deg)", 1)
+    val output = arrayOf(doubleArrayOf(1.0), doubleArrayOf(2.0))
+
+    assertThat(template.numberCount).isEqualTo(1)
+    assertThat(
+            template.render(
+                0.5,
+                doubleArrayOf(0.0, 1.0),
+                output,
+                InterpolationAnimatedNode.EXTRAPOLATE_TYPE_EXTEND,
+                InterpolationAnimatedNode.EXTRAPOLATE_TYPE_EXTEND,
+            ),
+        )
+        .isEqualTo("scale(1.5) rotate(2deg)")
+  }
+
   private fun simpleInterpolation(value: Double, input: DoubleArray, output: DoubleArray): Double =
       InterpolationAnimatedNode.interpolate(
           value,
@@ -15,6 +15,7 @@ import com.facebook.react.bridge.JavaOnlyArray
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.config.ReactFeatureFlags
 import com.facebook.react.uimanager.UIManagerModule
 import com.facebook.react.uimanager.events.Event
 import com.facebook.react.uimanager.events.EventDispatcher
@@ -1099,6 +1100,119 @@ class NativeAnimatedNodeTraversalTest {
     assertThat(stylesCaptor.value.getDouble("opacity")).isEqualTo(10.0)
   }
 
+  @Test
+  fun testNativeAnimatedEventRemoved() {
+    val viewTag = 1000
+
+    createSimpleAnimatedViewWithOpacity(viewTag)
+
+    val eventMapping =
+        JavaOnlyMap.of(
+            "animatedValueTag",
+            1,
+            "nativeEventPath",
+            JavaOnlyArray.of("contentOffset", "y"),
+        )
+    nativeAnimatedNodesManager.addAnimatedEventToView(viewTag, "onScroll", eventMapping)
+    nativeAnimatedNodesManager.addAnimatedEventToView(999, "onScroll", eventMapping)
+    assertThat(nativeAnimatedNodesManager.getTagsOfConnectedNodes(viewTag, "topScrollEnded"))
+        .containsExactlyInAnyOrder(viewTag, 2)
+
+    nativeAnimatedNodesManager.removeAnimatedEventFromView(viewTag, "onScroll", 1)
+    assertThat(nativeAnimatedNodesManager.getTagsOfConnectedNodes(viewTag, "topScrollEnded"))
+        .isEmpty()
+
+    nativeAnimatedNodesManager.onEventDispatch(createScrollEvent(viewTag, 10.0))
+
+    val stylesCaptor: ArgumentCaptor<ReadableMap> = ArgumentCaptor.forClass(ReadableMap::class.java)
+
+    reset(uiManagerMock)
+    nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+    verify(uiManagerMock).synchronouslyUpdateViewOnUIThread(eq(viewTag), capture(stylesCaptor))
+    assertThat(stylesCaptor.value.getDouble("opacity")).isEqualTo(0.0)
+  }
+
+  @Test
+  fun testTypedAnimatedPropsUpdatesOnlySendChangedProps() {
+    ReactFeatureFlags.enableTypedAnimatedPropsUpdates = true
+    try {
+      val viewTag = 1000
+      createSimpleAnimatedViewWithOpacity(viewTag)
+      val stylesCaptor: ArgumentCaptor<ReadableMap> =
+          ArgumentCaptor.forClass(ReadableMap::class.java)
+
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verify(uiManagerMock).synchronouslyUpdateViewOnUIThread(eq(viewTag), capture(stylesCaptor))
+      assertThat(stylesCaptor.value.getDouble("opacity")).isEqualTo(0.0)
+
+      reset(uiManagerMock)
+      nativeAnimatedNodesManager.setAnimatedNodeValue(1, 0.5)
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verify(uiManagerMock).synchronouslyUpdateViewOnUIThread(eq(viewTag), capture(stylesCaptor))
+      assertThat(stylesCaptor.value.getDouble("opacity")).isEqualTo(0.5)
+
+      reset(uiManagerMock)
+      nativeAnimatedNodesManager.setAnimatedNodeValue(1, 0.5)
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verifyNoMoreInteractions(uiManagerMock)
+    } finally {
+      ReactFeatureFlags.enableTypedAnimatedPropsUpdates = false
+    }
+  }
+
+  @Test
+  fun testTypedAnimatedPropsUpdatesOnlySendChangedObjectProps() {
+    ReactFeatureFlags.enableTypedAnimatedPropsUpdates = true
+    try {
+      val viewTag = 1000
+      nativeAnimatedNodesManager.createAnimatedNode(
+          1,
+          JavaOnlyMap.of("type", "value", "value", 2.0, "offset", 0.0),
+      )
+      nativeAnimatedNodesManager.createAnimatedNode(
+          2,
+          JavaOnlyMap.of(
+              "type",
+              "object",
+              "value",
+              JavaOnlyMap.of("width", JavaOnlyMap.of("nodeTag", 1), "height", 4.0),
+          ),
+      )
+      nativeAnimatedNodesManager.createAnimatedNode(
+          3,
+          JavaOnlyMap.of("type", "style", "style", JavaOnlyMap.of("shadowOffset", 2)),
+      )
+      nativeAnimatedNodesManager.createAnimatedNode(
+          4,
+          JavaOnlyMap.of("type", "props", "props", JavaOnlyMap.of("style", 3)),
+      )
+      nativeAnimatedNodesManager.connectAnimatedNodes(1, 2)
+      nativeAnimatedNodesManager.connectAnimatedNodes(2, 3)
+      nativeAnimatedNodesManager.connectAnimatedNodes(3, 4)
+      nativeAnimatedNodesManager.connectAnimatedNodeToView(4, viewTag)
+      val stylesCaptor: ArgumentCaptor<ReadableMap> =
+          ArgumentCaptor.forClass(ReadableMap::class.java)
+
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verify(uiManagerMock).synchronouslyUpdateViewOnUIThread(eq(viewTag), capture(stylesCaptor))
+      assertThat(stylesCaptor.value.getMap("shadowOffset")?.getDouble("width")).isEqualTo(2.0)
+
+      reset(uiManagerMock)
+      nativeAnimatedNodesManager.setAnimatedNodeValue(1, 2.0)
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verifyNoMoreInteractions(uiManagerMock)
+
+      reset(uiManagerMock)
+      nativeAnimatedNodesManager.setAnimatedNodeValue(1, 3.0)
+      nativeAnimatedNodesManager.runUpdates(nextFrameTime())
+      verify(uiManagerMock).synchronouslyUpdateViewOnUIThread(eq(viewTag), capture(stylesCaptor))
+      assertThat(stylesCaptor.value.getMap("shadowOffset")?.getDouble("width")).isEqualTo(3.0)
+      assertThat(stylesCaptor.value.getMap("shadowOffset")?.getDouble("height")).isEqualTo(4.0)
+    } finally {
+      ReactFeatureFlags.enableTypedAnimatedPropsUpdates = false
+    }
+  }
+
   @Test
   fun testRestoreDefaultPropsIsNoOp() {
     val viewTag: Int = 1001
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated
+
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark of [NativeAnimatedNodesManager.runUpdates] for a screen of [ANIMATION_COUNT]
+ * looping animations, each driving a value node and a chain of [INTERPOLATION_DEPTH]
+ * interpolations, like the opacity and scale of focused tiles.
+ */
+@RunWith(RobolectricTestRunner::class)
+class NativeAnimatedNodesManagerBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private var frameTimeNanos = INITIAL_FRAME_TIME_NANOS
+
+  @Test
+  fun `runUpdates - looping animations with interpolations`() {
+    val nodesManager = createNodesManager()
+
+    benchmark.measure("runUpdates", operationsPerIteration = FRAMES_PER_ITERATION) {
+      repeat(FRAMES_PER_ITERATION) { nodesManager.runUpdates(nextFrameTime()) }
+      nodesManager
+    }
+
+    assertThat(nodesManager.hasActiveAnimations()).isTrue()
+    val value = (nodesManager.getNodeById(VALUE_TAG_BASE) as ValueAnimatedNode).getValue()
+    assertThat(value).isBetween(0.0, 1.0)
+  }
+
+  private fun createNodesManager(): NativeAnimatedNodesManager {
+    val nodesManager = NativeAnimatedNodesManager(null)
+    val frames = JavaOnlyArray()
+    for (i in 0..FRAME_COUNT) {
+      frames.pushDouble(i.toDouble() / FRAME_COUNT)
+    }
+    for (i in 0..<ANIMATION_COUNT) {
+      val valueTag = VALUE_TAG_BASE + i * (INTERPOLATION_DEPTH + 1)
+      nodesManager.createAnimatedNode(
+          valueTag,
+          JavaOnlyMap.of("type", "value", "value", 0.0, "offset", 0.0),
+      )
+      for (depth in 1..INTERPOLATION_DEPTH) {
+        nodesManager.createAnimatedNode(
+            valueTag + depth,
+            JavaOnlyMap.of(
+                "type",
+                "interpolation",
+                "inputRange",
+                JavaOnlyArray.of(0.0, 1.0),
+                "outputRange",
+                JavaOnlyArray.of(0.5, 1.0),
+                "extrapolateLeft",
+                "clamp",
+                "extrapolateRight",
+                "clamp",
+            ),
+        )
+        nodesManager.connectAnimatedNodes(valueTag + depth - 1, valueTag + depth)
+      }
+      nodesManager.startAnimatingNode(
+          i,
+          valueTag,
+          JavaOnlyMap.of("type", "frames", "frames", frames, "toValue", 1.0, "iterations", -1),
+          null,
+      )
+    }
+    return nodesManager
+  }
+
+  private fun nextFrameTime(): Long {
+    frameTimeNanos += FRAME_LENGTH_NANOS
+    return frameTimeNanos
+  }
+
+  private companion object {
+    const val ANIMATION_COUNT = 50
+    const val INTERPOLATION_DEPTH = 3
+    const val FRAME_COUNT = 30
+    const val FRAMES_PER_ITERATION = 60
+    const val VALUE_TAG_BASE = 1000
+    const val FRAME_LENGTH_NANOS = 1_000_000_000L / 60L
+    const val INITIAL_FRAME_TIME_NANOS = 14_599_233_201_256L
+  }
+}
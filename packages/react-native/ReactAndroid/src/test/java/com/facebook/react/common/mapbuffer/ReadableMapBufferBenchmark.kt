@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.common.mapbuffer
+
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.testutils.benchmark.BenchmarkRule
+import com.facebook.testutils.shadows.ShadowNativeLoader
+import com.facebook.testutils.shadows.ShadowSoLoader
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+/**
+ * Microbenchmark of reads from a [ReadableMapBuffer] shaped like the props of a text fragment: a
+ * mix of [ENTRY_COUNT] ints, doubles and strings, encoded the way the C++ MapBuffer builder does.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(shadows = [ShadowSoLoader::class, ShadowNativeLoader::class])
+class ReadableMapBufferBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var mapBuffer: ReadableMapBuffer
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    mapBuffer = createMapBuffer()
+  }
+
+  @Test
+  fun `get - reads every key by type`() {
+    benchmark.measure("get", operationsPerIteration = ENTRY_COUNT * READS_PER_ITERATION) {
+      var sum = 0.0
+      repeat(READS_PER_ITERATION) {
+        for (key in 0..<ENTRY_COUNT) {
+          sum +=
+              when (key % 3) {
+                0 -> mapBuffer.getInt(key).toDouble()
+                1 -> mapBuffer.getDouble(key)
+                else -> mapBuffer.getString(key).length.toDouble()
+              }
+        }
+      }
+      sum
+    }
+    assertThat(mapBuffer.getString(2)).isEqualTo("value 2")
+  }
+
+  @Test
+  fun `iterator - reads every entry in order`() {
+    benchmark.measure("iterate", operationsPerIteration = ENTRY_COUNT * READS_PER_ITERATION) {
+      var sum = 0.0
+      repeat(READS_PER_ITERATION) {
+        for (entry in mapBuffer) {
+          sum +=
+              when (entry.type) {
+                MapBuffer.DataType.INT -> entry.intValue.toDouble()
+                MapBuffer.DataType.DOUBLE -> entry.doubleValue
+                else -> entry.stringValue.length.toDouble()
+              }
+        }
+      }
+      sum
+    }
+    assertThat(mapBuffer.count).isEqualTo(ENTRY_COUNT)
+  }
+
+  @Test
+  fun `contains - looks up present and missing keys`() {
+    benchmark.measure("contains", operationsPerIteration = 2 * ENTRY_COUNT * READS_PER_ITERATION) {
+      var found = 0
+      repeat(READS_PER_ITERATION) {
+        for (key in 0..<2 * ENTRY_COUNT) {
+          if (mapBuffer.contains(key)) {
+            found++
+          }
+        }
+      }
+      found
+    }
+  }
+
+  /** Encodes keys 0 to [ENTRY_COUNT]: a header, sorted 12-byte buckets, then the strings. */
+  private fun createMapBuffer(): ReadableMapBuffer {
+    val strings =
+        (0..<ENTRY_COUNT).filter { it % 3 == 2 }.associateWith { "value $it".toByteArray() }
+    val dynamicDataSize = strings.values.sumOf { it.size }
+    val buffer =
+        ByteBuffer.allocate(HEADER_SIZE + BUCKET_SIZE * ENTRY_COUNT + dynamicDataSize)
+            .order(ByteOrder.LITTLE_ENDIAN)
+    buffer.putShort(ENTRY_COUNT.toShort())
+    var dynamicDataOffset = 0
+    for (key in 0..<ENTRY_COUNT) {
+      buffer.putShort(key.toShort())
+      when (key % 3) {
+        0 -> {
+          buffer.putShort(MapBuffer.DataType.INT.ordinal.toShort())
+          buffer.putInt(key)
+          buffer.putInt(0)
+        }
+        1 -> {
+          buffer.putShort(MapBuffer.DataType.DOUBLE.ordinal.toShort())
+          buffer.putDouble(key.toDouble())
+        }
+        else -> {
+          val bytes = checkNotNull(strings[key])
+          buffer.putShort(MapBuffer.DataType.STRING.ordinal.toShort())
+          buffer.putInt(dynamicDataOffset)
+          buffer.putInt(bytes.size)
+          dynamicDataOffset += bytes.size
+        }
+      }
+    }
+    for (bytes in strings.values) {
+      buffer.put(bytes)
+    }
+    buffer.rewind()
+
+    val constructor =
+        ReadableMapBuffer::class
+            .java
+            .getDeclaredConstructor(ByteBuffer::class.java, Int::class.javaPrimitiveType)
+    constructor.isAccessible = true
+    return constructor.newInstance(buffer, 0)
+  }
+
+  private companion object {
+    const val ENTRY_COUNT = 48
+    const val READS_PER_ITERATION = 100
+    const val HEADER_SIZE = 2
+    const val BUCKET_SIZE = 12
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric
+
+import android.content.Context
+import android.hardware.display.DisplayManager
+import android.view.Display
+import com.facebook.react.fabric.mounting.FrameIntervalTracker
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(RobolectricTestRunner::class)
+class FrameIntervalTrackerTest {
+
+  private lateinit var context: Context
+  private lateinit var tracker: FrameIntervalTracker
+
+  @Before
+  fun setUp() {
+    context = RuntimeEnvironment.getApplication()
+    tracker = FrameIntervalTracker(context)
+  }
+
+  @After
+  fun tearDown() {
+    tracker.stop()
+  }
+
+  @Test
+  fun `frameIntervalNanos - defaults to 60 Hz before it is started`() {
+    assertThat(tracker.frameIntervalNanos)
+        .isEqualTo(FrameIntervalTracker.DEFAULT_FRAME_INTERVAL_NS)
+  }
+
+  @Test
+  fun `frameIntervalNanos - follows the refresh rate of the display`() {
+    setRefreshRate(50f)
+    tracker.start()
+
+    assertThat(tracker.frameIntervalNanos).isEqualTo(20_000_000L)
+  }
+
+  @Test
+  fun `frameIntervalNanos - adapts when the display changes mode`() {
+    setRefreshRate(60f)
+    tracker.start()
+
+    setRefreshRate(120f)
+    tracker.onDisplayChanged(Display.DEFAULT_DISPLAY)
+
+    assertThat(tracker.frameIntervalNanos).isEqualTo(8_333_333L)
+  }
+
+  private fun setRefreshRate(refreshRate: Float) {
+    val displayManager = context.getSystemService(Context.DISPLAY_SERVICE) as DisplayManager
+    shadowOf(displayManager.getDisplay(Display.DEFAULT_DISPLAY)).setRefreshRate(refreshRate)
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+@file:Suppress("DEPRECATION")
+
+package com.facebook.react.fabric
+
+import com.facebook.react.ReactRootView
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.ReactTestHelper
+import com.facebook.react.fabric.mounting.MountingManager
+import com.facebook.react.fabric.mounting.mountitems.IntBufferBatchMountItem
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.react.uimanager.ThemedReactContext
+import com.facebook.react.uimanager.ViewManager
+import com.facebook.react.uimanager.ViewManagerRegistry
+import com.facebook.react.views.view.ReactViewManager
+import com.facebook.testutils.benchmark.BenchmarkRule
+import com.facebook.testutils.shadows.ShadowNativeLoader
+import com.facebook.testutils.shadows.ShadowNativeMap
+import com.facebook.testutils.shadows.ShadowReadableNativeArray
+import com.facebook.testutils.shadows.ShadowReadableNativeMap
+import com.facebook.testutils.shadows.ShadowSoLoader
+import com.facebook.testutils.shadows.ShadowWritableNativeArray
+import com.facebook.testutils.shadows.ShadowWritableNativeMap
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+/**
+ * Microbenchmark of [IntBufferBatchMountItem.execute] mounting, then unmounting, a list of
+ * [ROW_COUNT] views, with batches laid out the way the C++ mounting layer serializes them.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(
+    shadows =
+        [
+            ShadowSoLoader::class,
+            ShadowNativeLoader::class,
+            ShadowNativeMap::class,
+            ShadowWritableNativeMap::class,
+            ShadowReadableNativeMap::class,
+            ShadowWritableNativeArray::class,
+            ShadowReadableNativeArray::class,
+        ],
+)
+class IntBufferBatchMountItemBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var mountingManager: MountingManager
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    val reactContext = ReactTestHelper.createCatalystContextForTest()
+    val themedReactContext = ThemedReactContext(reactContext, reactContext, null, -1)
+    mountingManager =
+        MountingManager(ViewManagerRegistry(listOf<ViewManager<*, *>>(ReactViewManager())), {})
+    mountingManager.startSurface(SURFACE_ID, themedReactContext, ReactRootView(themedReactContext))
+  }
+
+  @Test
+  fun `execute - mounts and unmounts a list`() {
+    val mount = createMountBatch()
+    val unmount = createUnmountBatch()
+    val surfaceMountingManager = mountingManager.getSurfaceManagerEnforced(SURFACE_ID, "benchmark")
+
+    benchmark.measure("mount and unmount", operationsPerIteration = ROW_COUNT) {
+      mount.execute(mountingManager)
+      unmount.execute(mountingManager)
+      surfaceMountingManager
+    }
+
+    mount.execute(mountingManager)
+    assertThat(surfaceMountingManager.getViewExists(FIRST_TAG + ROW_COUNT - 1)).isTrue()
+  }
+
+  /** CREATE, INSERT and UPDATE_LAYOUT of every row, each group sharing one instruction header. */
+  private fun createMountBatch(): IntBufferBatchMountItem {
+    val ints = ArrayList<Int>()
+    val objects = ArrayList<Any?>()
+    val props = JavaOnlyMap.of("opacity", 0.5, "collapsable", false)
+
+    ints.addHeader(IntBufferBatchMountItem.INSTRUCTION_CREATE)
+    for (row in 0..<ROW_COUNT) {
+      ints.add(FIRST_TAG + row)
+      ints.add(1)
+      objects.add("RCTView")
+      objects.add(props)
+      objects.add(null)
+      objects.add(null)
+    }
+    ints.addHeader(IntBufferBatchMountItem.INSTRUCTION_INSERT)
+    for (row in 0..<ROW_COUNT) {
+      ints.addAll(listOf(FIRST_TAG + row, SURFACE_ID, row))
+    }
+    ints.addHeader(IntBufferBatchMountItem.INSTRUCTION_UPDATE_LAYOUT)
+    for (row in 0..<ROW_COUNT) {
+      ints.addAll(
+          listOf(FIRST_TAG + row, SURFACE_ID, 0, row * ROW_HEIGHT, ROW_WIDTH, ROW_HEIGHT, 1, 0))
+    }
+    return IntBufferBatchMountItem(SURFACE_ID, ints.toIntArray(), objects.toTypedArray(), 1)
+  }
+
+  /** REMOVE of every row, from the last one, then DELETE. */
+  private fun createUnmountBatch(): IntBufferBatchMountItem {
+    val ints = ArrayList<Int>()
+    ints.addHeader(IntBufferBatchMountItem.INSTRUCTION_REMOVE)
+    for (row in ROW_COUNT - 1 downTo 0) {
+      ints.addAll(listOf(FIRST_TAG + row, SURFACE_ID, row))
+    }
+    ints.addHeader(IntBufferBatchMountItem.INSTRUCTION_DELETE)
+    for (row in 0..<ROW_COUNT) {
+      ints.add(FIRST_TAG + row)
+    }
+    return IntBufferBatchMountItem(SURFACE_ID, ints.toIntArray(), emptyArray(), 2)
+  }
+
+  private fun MutableList<Int>.addHeader(instruction: Int) {
+    add(instruction or IntBufferBatchMountItem.INSTRUCTION_FLAG_MULTIPLE)
+    add(ROW_COUNT)
+  }
+
+  private companion object {
+    const val SURFACE_ID = 1
+    const val FIRST_TAG = 100
+    const val ROW_COUNT = 200
+    const val ROW_WIDTH = 1080
+    const val ROW_HEIGHT = 60
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric
+
+import android.content.res.Configuration
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.fabric.mounting.MeasurementCache
+import com.facebook.yoga.YogaMeasureMode
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/** Tests [MeasurementCache] */
+@RunWith(RobolectricTestRunner::class)
+class MeasurementCacheTest {
+
+  private var measureCount = 0
+
+  @Test
+  fun testCachesMeasurementsOfIdenticalComponents() {
+    val cache = MeasurementCache()
+
+    assertThat(measure(cache, props = JavaOnlyMap.of("value", true))).isEqualTo(RESULT)
+    assertThat(measure(cache, props = JavaOnlyMap.of("value", true))).isEqualTo(RESULT)
+    assertThat(measure(cache, props = JavaOnlyMap.of("value", false))).isEqualTo(RESULT)
+
+    assertThat(measureCount).isEqualTo(2)
+    assertThat(cache.hitCount).isEqualTo(1)
+    assertThat(cache.missCount).isEqualTo(2)
+  }
+
+  @Test
+  fun testQuantisesConstraints() {
+    val cache = MeasurementCache()
+
+    measure(cache, width = 100f)
+    measure(cache, width = 100.01f)
+    measure(cache, width = 101f)
+
+    assertThat(measureCount).isEqualTo(2)
+  }
+
+  @Test
+  fun testIgnoresSizeOfUndefinedConstraints() {
+    val cache = MeasurementCache()
+
+    measure(cache, width = 100f, widthMode = YogaMeasureMode.UNDEFINED)
+    measure(cache, width = Float.NaN, widthMode = YogaMeasureMode.UNDEFINED)
+    measure(cache, width = 100f, widthMode = YogaMeasureMode.AT_MOST)
+
+    assertThat(measureCount).isEqualTo(2)
+  }
+
+  @Test
+  fun testEvictsLeastRecentlyUsedMeasurements() {
+    val cache = MeasurementCache(maxEntries = 2)
+
+    measure(cache, width = 1f)
+    measure(cache, width = 2f)
+    measure(cache, width = 1f)
+    measure(cache, width = 3f)
+    assertThat(cache.size).isEqualTo(2)
+    assertThat(measureCount).isEqualTo(3)
+
+    measure(cache, width = 1f)
+    assertThat(measureCount).isEqualTo(3)
+    measure(cache, width = 2f)
+    assertThat(measureCount).isEqualTo(4)
+  }
+
+  @Test
+  fun testKeepsMeasurementsOfEachSurfaceSeparately() {
+    val cache = MeasurementCache()
+
+    measure(cache, surfaceId = 1)
+    measure(cache, surfaceId = 2)
+    measure(cache, surfaceId = 1)
+    assertThat(measureCount).isEqualTo(2)
+
+    cache.removeSurface(1)
+    measure(cache, surfaceId = 1)
+    measure(cache, surfaceId = 2)
+    assertThat(measureCount).isEqualTo(3)
+  }
+
+  @Test
+  fun testClearsOnConfigurationChange() {
+    val cache = MeasurementCache()
+    measure(cache)
+
+    cache.onConfigurationChanged(Configuration().apply { fontScale = 2f })
+    measure(cache)
+
+    assertThat(measureCount).isEqualTo(2)
+  }
+
+  private fun measure(
+      cache: MeasurementCache,
+      surfaceId: Int = 1,
+      props: JavaOnlyMap = JavaOnlyMap(),
+      width: Float = 100f,
+      widthMode: YogaMeasureMode = YogaMeasureMode.EXACTLY,
+  ): Long =
+      cache.getOrMeasure(
+          surfaceId,
+          "AndroidSwitch",
+          null,
+          props,
+          null,
+          width,
+          widthMode,
+          0f,
+          YogaMeasureMode.UNDEFINED,
+      ) {
+        measureCount++
+        RESULT
+      }
+
+  private companion object {
+    const val RESULT = 42L
+  }
+}
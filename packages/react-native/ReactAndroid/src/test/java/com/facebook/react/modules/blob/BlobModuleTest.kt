@@ -66,6 +66,13 @@ class BlobModuleTest {
     assertThat(blobModule.resolve(blobId, 30, bytes.size - 30)).isEqualTo(expectedRange)
   }
 
+  @Test
+  fun testResolveWholeBlobDoesNotCopy() {
+    assertThat(blobModule.resolve(blobId, 0, bytes.size)).isSameAs(bytes)
+    assertThat(blobModule.resolve(blobId, 0, -1)).isSameAs(bytes)
+    assertThat(blobModule.resolve(blobId, 0, bytes.size - 1)).isNotSameAs(bytes)
+  }
+
   @Test
   fun testResolveUri() {
     val uri =
@@ -90,6 +97,16 @@ class BlobModuleTest {
     assertThat(blobModule.resolve(blob)).isEqualTo(bytes)
   }
 
+  @Test
+  fun testResolveBuffer() {
+    val buffer = checkNotNull(blobModule.resolveBuffer(blobId, 30, -1))
+
+    assertThat(buffer.isReadOnly).isTrue()
+    assertThat(buffer.remaining()).isEqualTo(bytes.size - 30)
+    assertThat(buffer).isEqualTo(ByteBuffer.wrap(bytes, 30, bytes.size - 30))
+    assertThat(blobModule.resolveBuffer("unknown", 0, -1)).isNull()
+  }
+
   @Test
   fun testRemove() {
     assertThat(blobModule.resolve(blobId, 0, bytes.size)).isNotNull()
@@ -200,7 +217,8 @@ class BlobModuleTest {
     assertThat(handler.supports(contentUri, "blob")).isTrue()
 
     val (blob, data) = handler.fetch(contentUri)
-    assertThat(data).isEqualTo(testData)
+    assertThat(data).isNull()
+    assertThat(blobModule.resolve(blob)).isEqualTo(testData)
     assertThat(blob.getInt("offset")).isEqualTo(0)
     assertThat(blob.getInt("size")).isEqualTo(testData.size)
     assertThat(blob.getString("blobId")).isNotEmpty()
@@ -219,7 +237,8 @@ class BlobModuleTest {
     assertThat(handler.supports(fileUri, "blob")).isTrue()
 
     val (blob, data) = handler.fetch(fileUri)
-    assertThat(data).isEqualTo(testData)
+    assertThat(data).isNull()
+    assertThat(blobModule.resolve(blob)).isEqualTo(testData)
     assertThat(blob.getInt("offset")).isEqualTo(0)
     assertThat(blob.getInt("size")).isEqualTo(testData.size)
     assertThat(blob.getString("blobId")).isNotEmpty()
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob
+
+import java.io.ByteArrayInputStream
+import java.io.File
+import java.io.IOException
+import java.nio.ByteBuffer
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+
+class SpillingBlobStoreTest {
+
+  @get:Rule val temporaryFolder = TemporaryFolder()
+
+  private lateinit var directory: File
+  private lateinit var store: SpillingBlobStore
+
+  @Before
+  fun setUp() {
+    directory = temporaryFolder.newFolder("blobs")
+    store = SpillingBlobStore(directory, MAX_MEMORY_BYTES, MAX_DISK_BYTES)
+  }
+
+  @Test
+  fun `put - keeps small blobs in memory`() {
+    val data = randomBytes(100)
+
+    store.put("a", listOf(ByteBuffer.wrap(data)))
+
+    assertThat(store.getSize("a")).isEqualTo(100)
+    assertThat(read("a")).isEqualTo(data)
+    assertThat(storeFiles()).isEmpty()
+  }
+
+  @Test
+  fun `put - concatenates parts`() {
+    val first = randomBytes(10)
+    val second = randomBytes(20)
+
+    store.put("a", listOf(ByteBuffer.wrap(first), ByteBuffer.wrap(second)))
+
+    assertThat(read("a")).isEqualTo(first + second)
+  }
+
+  @Test
+  fun `put - writes blobs larger than the budget to a file`() {
+    val data = randomBytes(MAX_MEMORY_BYTES.toInt() + 1)
+
+    store.put("a", listOf(ByteBuffer.wrap(data)))
+
+    assertThat(storeFiles()).hasSize(1)
+    assertThat(read("a")).isEqualTo(data)
+  }
+
+  @Test
+  fun `put - spills the least recently used blobs over the budget`() {
+    val a = randomBytes(400)
+    val b = randomBytes(400)
+    val c = randomBytes(400)
+    store.put("a", listOf(ByteBuffer.wrap(a)))
+    store.put("b", listOf(ByteBuffer.wrap(b)))
+    // Makes "b" the least recently used blob
+    read("a")
+
+    store.put("c", listOf(ByteBuffer.wrap(c)))
+
+    assertThat(storeFiles()).hasSize(1)
+    assertThat(read("a")).isEqualTo(a)
+    assertThat(read("b")).isEqualTo(b)
+    assertThat(read("c")).isEqualTo(c)
+  }
+
+  @Test
+  fun `put - streams small blobs into memory`() {
+    val data = randomBytes(700)
+
+    assertThat(store.put("a", ByteArrayInputStream(data))).isEqualTo(700)
+
+    assertThat(storeFiles()).isEmpty()
+    assertThat(read("a")).isEqualTo(data)
+  }
+
+  @Test
+  fun `put - streams large blobs into a file`() {
+    val data = randomBytes(200_000)
+
+    assertThat(store.put("a", ByteArrayInputStream(data))).isEqualTo(200_000)
+
+    assertThat(storeFiles()).hasSize(1)
+    assertThat(read("a")).isEqualTo(data)
+  }
+
+  @Test
+  fun `getBuffer - returns a read-only slice`() {
+    val data = randomBytes(100)
+    store.put("a", listOf(ByteBuffer.wrap(data)))
+
+    val slice = checkNotNull(store.getBuffer("a", 10, 20))
+
+    assertThat(slice.isReadOnly).isTrue()
+    assertThat(slice.remaining()).isEqualTo(20)
+    assertThat(slice).isEqualTo(ByteBuffer.wrap(data, 10, 20))
+  }
+
+  @Test
+  fun `getBuffer - returns null for unknown blobs`() {
+    assertThat(store.getBuffer("a", 0, 0)).isNull()
+    assertThat(store.getSize("a")).isEqualTo(-1)
+  }
+
+  @Test
+  fun `getBuffer - returns null for ranges out of the blob`() {
+    store.put("a", listOf(ByteBuffer.wrap(randomBytes(100))))
+
+    assertThat(store.getBuffer("a", 90, 20)).isNull()
+    assertThat(store.getBuffer("a", -1, 10)).isNull()
+    assertThat(store.getBuffer("a", 0, -1)).isNull()
+    assertThat(store.getBuffer("a", 100, 0)).isNotNull()
+  }
+
+  @Test
+  fun `getBuffer - returns null when the spilled file is gone`() {
+    store.put("a", listOf(ByteBuffer.wrap(randomBytes(MAX_MEMORY_BYTES.toInt() + 1))))
+
+    storeFiles().forEach { it.delete() }
+
+    assertThat(store.getBuffer("a", 0, 10)).isNull()
+  }
+
+  @Test
+  fun `put - removes the least recently used spilled blobs over the disk budget`() {
+    // Room for two spilled blobs
+    store = SpillingBlobStore(directory, MAX_MEMORY_BYTES, 2 * (MAX_MEMORY_BYTES + 1))
+    val a = randomBytes(MAX_MEMORY_BYTES.toInt() + 1)
+    val b = randomBytes(MAX_MEMORY_BYTES.toInt() + 1)
+    store.put("a", listOf(ByteBuffer.wrap(a)))
+    store.put("b", listOf(ByteBuffer.wrap(b)))
+    // Makes "b" the least recently used blob
+    read("a")
+
+    store.put("c", listOf(ByteBuffer.wrap(randomBytes(MAX_MEMORY_BYTES.toInt() + 1))))
+
+    assertThat(store.getSize("b")).isEqualTo(-1)
+    assertThat(read("a")).isEqualTo(a)
+    assertThat(storeFiles()).hasSize(2)
+  }
+
+  @Test(expected = IllegalStateException::class)
+  fun `put - rejects blobs larger than the disk budget`() {
+    store.put("a", listOf(ByteBuffer.wrap(randomBytes(MAX_DISK_BYTES.toInt() + 1))))
+  }
+
+  @Test
+  fun `put - fails to stream blobs larger than the disk budget`() {
+    val data = randomBytes(MAX_DISK_BYTES.toInt() + 1)
+
+    assertThatThrownBy { store.put("a", ByteArrayInputStream(data)) }
+        .isInstanceOf(IOException::class.java)
+
+    assertThat(store.getSize("a")).isEqualTo(-1)
+    assertThat(storeFiles()).isEmpty()
+  }
+
+  @Test
+  fun `init - keeps the files of other live stores`() {
+    val data = randomBytes(MAX_MEMORY_BYTES.toInt() + 1)
+    store.put("a", listOf(ByteBuffer.wrap(data)))
+
+    val other = SpillingBlobStore(directory, MAX_MEMORY_BYTES, MAX_DISK_BYTES)
+    other.put("a", listOf(ByteBuffer.wrap(randomBytes(MAX_MEMORY_BYTES.toInt() + 1))))
+
+    assertThat(read("a")).isEqualTo(data)
+    assertThat(storeFiles()).hasSize(2)
+  }
+
+  @Test
+  fun `init - deletes files left without a store`() {
+    val leftover = File(directory, "blob-0").apply { writeBytes(randomBytes(10)) }
+    val abandoned = File(directory, "abandoned").apply { mkdirs() }
+    File(abandoned, "blob-0").writeBytes(randomBytes(10))
+    File(directory, "abandoned.lock").createNewFile()
+
+    SpillingBlobStore(directory, MAX_MEMORY_BYTES, MAX_DISK_BYTES)
+
+    assertThat(leftover).doesNotExist()
+    assertThat(abandoned).doesNotExist()
+  }
+
+  @Test
+  fun `remove - deletes the spilled file`() {
+    store.put("a", listOf(ByteBuffer.wrap(randomBytes(MAX_MEMORY_BYTES.toInt() + 1))))
+    val slice = checkNotNull(store.getBuffer("a", 0, 10))
+
+    store.remove("a")
+
+    assertThat(store.getSize("a")).isEqualTo(-1)
+    assertThat(storeFiles()).isEmpty()
+    assertThat(slice.remaining()).isEqualTo(10)
+  }
+
+  @Test
+  fun `clear - frees the memory budget`() {
+    store.put("a", listOf(ByteBuffer.wrap(randomBytes(800))))
+    store.clear()
+
+    store.put("b", listOf(ByteBuffer.wrap(randomBytes(800))))
+
+    assertThat(store.getSize("a")).isEqualTo(-1)
+    assertThat(storeFiles()).isEmpty()
+  }
+
+  private fun read(blobId: String): ByteArray {
+    val buffer = checkNotNull(store.getBuffer(blobId, 0, store.getSize(blobId).toInt()))
+    return ByteArray(buffer.remaining()).also { buffer.get(it) }
+  }
+
+  /** Returns the blob files of every store in [directory]. */
+  private fun storeFiles(): List<File> =
+      directory
+          .listFiles()
+          .orEmpty()
+          .filter { it.isDirectory }
+          .flatMap { it.listFiles().orEmpty().toList() }
+
+  private fun randomBytes(size: Int): ByteArray = Random.Default.nextBytes(size)
+
+  private companion object {
+    const val MAX_MEMORY_BYTES = 1024L
+    const val MAX_DISK_BYTES = 256L * 1024
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.core
+
+import com.facebook.testutils.benchmark.BenchmarkRule
+import java.util.PriorityQueue
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark comparing [TimerQueue] with the [PriorityQueue] that [JavaTimerManager] used
+ * before, for [TIMER_COUNT] pending timers with high churn: every frame clears and creates
+ * [CHURN_PER_FRAME] timers (as debounced `setTimeout`s do) and calls the expired ones. Timings are
+ * reported per frame by [BenchmarkRule]; the assertions only check that both queues call the same
+ * timers.
+ */
+@RunWith(RobolectricTestRunner::class)
+class TimerQueueBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private interface Queue {
+    fun add(timer: TimerQueue.Timer)
+
+    fun remove(timer: TimerQueue.Timer)
+
+    fun pollExpired(frameTime: Long): Int
+  }
+
+  private class IndexedHeap : Queue {
+    private val queue = TimerQueue()
+
+    override fun add(timer: TimerQueue.Timer) = queue.add(timer)
+
+    override fun remove(timer: TimerQueue.Timer) {
+      queue.remove(timer)
+    }
+
+    override fun pollExpired(frameTime: Long): Int {
+      var count = 0
+      while (queue.peek().let { it != null && it.targetTime < frameTime }) {
+        queue.poll()
+        count++
+      }
+      return count
+    }
+  }
+
+  private class JavaPriorityQueue : Queue {
+    private val queue = PriorityQueue<TimerQueue.Timer>(11) { lhs, rhs ->
+      lhs.targetTime.compareTo(rhs.targetTime)
+    }
+
+    override fun add(timer: TimerQueue.Timer) {
+      queue.add(timer)
+    }
+
+    override fun remove(timer: TimerQueue.Timer) {
+      queue.remove(timer)
+    }
+
+    override fun pollExpired(frameTime: Long): Int {
+      var count = 0
+      while (queue.peek().let { it != null && it.targetTime < frameTime }) {
+        queue.poll()
+        count++
+      }
+      return count
+    }
+  }
+
+  @Test
+  fun `10k timers with high churn`() {
+    measure("PriorityQueue") { run(JavaPriorityQueue()) }
+    measure("TimerQueue") { run(IndexedHeap()) }
+
+    assertThat(run(IndexedHeap())).isEqualTo(run(JavaPriorityQueue()))
+  }
+
+  /** Runs [FRAME_COUNT] frames, and returns the number of timers called. */
+  private fun run(queue: Queue): Int {
+    val random = Random(SEED)
+    // Timers are recreated with the same id, like the pending timers of a JS app
+    val pending = arrayOfNulls<TimerQueue.Timer>(TIMER_COUNT)
+    var now = 0L
+    fun schedule(id: Int) {
+      val timer = TimerQueue.Timer(id, now + random.nextLong(MAX_DELAY_MS), 0, false)
+      pending[id] = timer
+      queue.add(timer)
+    }
+    for (id in 0..<TIMER_COUNT) {
+      schedule(id)
+    }
+    var called = 0
+    for (frame in 0..<FRAME_COUNT) {
+      now += FRAME_DURATION_MS
+      repeat(CHURN_PER_FRAME) {
+        val id = random.nextInt(TIMER_COUNT)
+        pending[id]?.let { queue.remove(it) }
+        schedule(id)
+      }
+      called += queue.pollExpired(now)
+    }
+    return called
+  }
+
+  private fun measure(name: String, block: () -> Int) {
+    benchmark.measure(
+        name,
+        operationsPerIteration = FRAME_COUNT,
+        warmupIterations = WARMUP_ITERATIONS,
+        iterations = ITERATIONS,
+        block = block,
+    )
+  }
+
+  private companion object {
+    const val TIMER_COUNT = 10_000
+    const val CHURN_PER_FRAME = 200
+    const val FRAME_COUNT = 120
+    const val FRAME_DURATION_MS = 16L
+    const val MAX_DELAY_MS = 30_000L
+    const val SEED = 42
+    const val WARMUP_ITERATIONS = 2
+    const val ITERATIONS = 3
+  }
+}
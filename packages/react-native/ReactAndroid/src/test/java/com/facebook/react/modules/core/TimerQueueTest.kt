@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.core
+
+import java.util.PriorityQueue
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class TimerQueueTest {
+
+  @Test
+  fun testPollsTimersInTargetTimeOrder() {
+    val queue = TimerQueue(initialCapacity = 1)
+    for ((id, targetTime) in listOf(30L, 10L, 20L, 10L, 5L).withIndex()) {
+      queue.add(timer(id, targetTime))
+    }
+
+    val targetTimes = generateSequence { queue.poll() }.map { it.targetTime }.toList()
+
+    assertThat(targetTimes).containsExactly(5L, 10L, 10L, 20L, 30L)
+    assertThat(queue.isEmpty()).isTrue()
+    assertThat(queue.peek()).isNull()
+  }
+
+  @Test
+  fun testRemove() {
+    val queue = TimerQueue()
+    val timers = (0..<10).map { timer(it, it * 10L) }
+    timers.forEach { queue.add(it) }
+
+    assertThat(queue.remove(timers[0])).isTrue()
+    assertThat(queue.remove(timers[5])).isTrue()
+    assertThat(queue.remove(timers[5])).isFalse()
+
+    assertThat(queue.size).isEqualTo(8)
+    assertThat(queue.peek()).isSameAs(timers[1])
+    assertThat(queue.any { it === timers[5] }).isFalse()
+    assertThat(queue.any { it === timers[9] }).isTrue()
+  }
+
+  @Test
+  fun testRemovedTimerCanBeAddedAgain() {
+    val queue = TimerQueue()
+    val timer = timer(1, 100)
+    queue.add(timer)
+    queue.add(timer(2, 50))
+    queue.remove(timer)
+
+    timer.targetTime = 10
+    queue.add(timer)
+
+    assertThat(queue.poll()).isSameAs(timer)
+  }
+
+  @Test
+  fun testMatchesPriorityQueueUnderRandomOperations() {
+    val random = Random(42)
+    val queue = TimerQueue()
+    val reference = PriorityQueue<TimerQueue.Timer>(compareBy { it.targetTime })
+    val queued = ArrayList<TimerQueue.Timer>()
+
+    repeat(10_000) { id ->
+      when (random.nextInt(3)) {
+        0 -> {
+          // Unique target times, so both queues poll the same timers
+          val timer = timer(id, random.nextLong(1000) * 100_000 + id)
+          queue.add(timer)
+          reference.add(timer)
+          queued.add(timer)
+        }
+        1 ->
+            if (queued.isNotEmpty()) {
+              val timer = queued.removeAt(random.nextInt(queued.size))
+              assertThat(queue.remove(timer)).isTrue()
+              reference.remove(timer)
+            }
+        else -> {
+          val polled = queue.poll()
+          assertThat(polled?.targetTime).isEqualTo(reference.poll()?.targetTime)
+          queued.remove(polled)
+        }
+      }
+      assertThat(queue.size).isEqualTo(reference.size)
+      assertThat(queue.peek()?.targetTime).isEqualTo(reference.peek()?.targetTime)
+    }
+  }
+
+  private fun timer(id: Int, targetTime: Long) =
+      TimerQueue.Timer(id, targetTime, interval = 0, repeat = false)
+}
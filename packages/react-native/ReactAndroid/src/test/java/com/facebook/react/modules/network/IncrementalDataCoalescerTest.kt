@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+class IncrementalDataCoalescerTest {
+
+  private lateinit var scheduler: ScheduledExecutorService
+  private val flushed = CopyOnWriteArrayList<String>()
+
+  @Before
+  fun setUp() {
+    scheduler = Executors.newSingleThreadScheduledExecutor()
+  }
+
+  @After
+  fun tearDown() {
+    scheduler.shutdownNow()
+  }
+
+  @Test
+  fun testFirstDataIsSentImmediately() {
+    val coalescer = create(IncrementalFlushPolicy(minFlushIntervalMs = 60_000))
+
+    coalescer.append("a", 1)
+
+    assertThat(flushed).containsExactly("a")
+  }
+
+  @Test
+  fun testCoalescesDataWithinTheInterval() {
+    val coalescer = create(IncrementalFlushPolicy(minFlushIntervalMs = 60_000))
+
+    coalescer.append("a", 1)
+    coalescer.append("b", 1)
+    coalescer.append("c", 1)
+    assertThat(flushed).containsExactly("a")
+
+    val stats = coalescer.finish()
+    assertThat(flushed).containsExactly("a", "bc")
+    assertThat(stats.flushCount).isEqualTo(2)
+    assertThat(stats.byteCount).isEqualTo(3)
+    assertThat(stats.bytesPerFlush).isEqualTo(1)
+  }
+
+  @Test
+  fun testFlushesWhenTooMuchDataIsWaiting() {
+    val coalescer =
+        create(IncrementalFlushPolicy(minFlushIntervalMs = 60_000, maxCharsPerFlush = 4))
+
+    coalescer.append("a", 1)
+    coalescer.append("bc", 2)
+    coalescer.append("de", 2)
+
+    assertThat(flushed).containsExactly("a", "bcde")
+  }
+
+  @Test
+  fun testSendsWaitingDataOnceTheIntervalElapses() {
+    val coalescer = create(IncrementalFlushPolicy(minFlushIntervalMs = 50))
+
+    coalescer.append("a", 1)
+    coalescer.append("b", 1)
+    scheduler.schedule({}, 100, TimeUnit.MILLISECONDS).get()
+
+    assertThat(flushed).containsExactly("a", "b")
+    coalescer.finish()
+    assertThat(flushed).containsExactly("a", "b")
+  }
+
+  @Test
+  fun testCancelDropsWaitingData() {
+    val coalescer = create(IncrementalFlushPolicy(minFlushIntervalMs = 50))
+
+    coalescer.append("a", 1)
+    coalescer.append("b", 1)
+    coalescer.cancel()
+    scheduler.schedule({}, 100, TimeUnit.MILLISECONDS).get()
+
+    assertThat(flushed).containsExactly("a")
+  }
+
+  @Test
+  fun testRetriesScheduledFlushThatCouldNotSendWithoutWaiting() {
+    val sendsWithoutWaiting = AtomicBoolean(false)
+    val coalescer =
+        IncrementalDataCoalescer(IncrementalFlushPolicy(minFlushIntervalMs = 20), scheduler) {
+            data,
+            mayWait ->
+          (mayWait || sendsWithoutWaiting.get()) && flushed.add(data)
+        }
+
+    coalescer.append("a", 1)
+    coalescer.append("b", 1)
+    scheduler.schedule({}, 100, TimeUnit.MILLISECONDS).get()
+    assertThat(flushed).containsExactly("a")
+
+    sendsWithoutWaiting.set(true)
+    scheduler.schedule({}, 100, TimeUnit.MILLISECONDS).get()
+    assertThat(flushed).containsExactly("a", "b")
+  }
+
+  @Test
+  fun testBlockedSendDoesNotStallOtherResponses() {
+    val sending = CountDownLatch(1)
+    val unblock = CountDownLatch(1)
+    val blocked =
+        IncrementalDataCoalescer(IncrementalFlushPolicy(minFlushIntervalMs = 20), scheduler) {
+            data,
+            mayWait ->
+          if (!mayWait) {
+            return@IncrementalDataCoalescer false
+          }
+          sending.countDown()
+          unblock.await()
+          flushed.add(data)
+        }
+    val reader = Thread { blocked.append("a", 1) }
+    reader.start()
+    sending.await()
+    val other = create(IncrementalFlushPolicy(minFlushIntervalMs = 20))
+
+    other.append("x", 1)
+    other.append("y", 1)
+    blocked.append("b", 1)
+    scheduler.schedule({}, 100, TimeUnit.MILLISECONDS).get()
+    assertThat(flushed).containsExactly("x", "y")
+
+    unblock.countDown()
+    reader.join()
+    blocked.finish()
+    assertThat(flushed).containsExactly("x", "y", "a", "b")
+  }
+
+  private fun create(policy: IncrementalFlushPolicy) =
+      IncrementalDataCoalescer(policy, scheduler) { data, _ -> flushed.add(data) }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import com.facebook.react.bridge.ReactApplicationContext
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.mock
+
+class JSQueueBackpressureTest {
+
+  private val jsQueue = ArrayDeque<Runnable>()
+  private lateinit var context: ReactApplicationContext
+
+  @Before
+  fun setUp() {
+    context = mock()
+    doAnswer({ invocation ->
+          synchronized(jsQueue) { jsQueue.addLast(invocation.arguments[0] as Runnable) }
+          return@doAnswer true
+        })
+        .`when`(context)
+        .runOnJSQueueThread(any())
+  }
+
+  @Test
+  fun testSendsWithinBudgetWithoutWaiting() {
+    val backpressure = JSQueueBackpressure(context, 100)
+    var sent = 0
+
+    repeat(4) { backpressure.send(25) { sent++ } }
+
+    assertThat(sent).isEqualTo(4)
+    assertThat(jsQueue).hasSize(4)
+  }
+
+  @Test
+  fun testWaitsForTheJSQueueOnceTheBudgetIsSpent() {
+    val backpressure = JSQueueBackpressure(context, 100)
+    backpressure.send(100) {}
+    val sent = CountDownLatch(1)
+
+    val sender = Thread { backpressure.send(10) { sent.countDown() } }
+    sender.start()
+
+    assertThat(sent.await(100, TimeUnit.MILLISECONDS)).isFalse()
+    synchronized(jsQueue) { jsQueue.removeFirst() }.run()
+    assertThat(sent.await(1, TimeUnit.SECONDS)).isTrue()
+    sender.join()
+  }
+
+  @Test
+  fun testTrySendDeclinesOnceTheBudgetIsSpent() {
+    val backpressure = JSQueueBackpressure(context, 100)
+    var sent = 0
+
+    assertThat(backpressure.trySend(100) { sent++ }).isTrue()
+    assertThat(backpressure.trySend(10) { sent++ }).isFalse()
+    synchronized(jsQueue) { jsQueue.removeFirst() }.run()
+    assertThat(backpressure.trySend(10) { sent++ }).isTrue()
+
+    assertThat(sent).isEqualTo(2)
+  }
+
+  @Test
+  fun testDoesNotWaitWithoutJSQueue() {
+    val backpressure = JSQueueBackpressure(null, 100)
+    var sent = 0
+
+    repeat(10) { backpressure.send(100) { sent++ } }
+
+    assertThat(sent).isEqualTo(10)
+  }
+}
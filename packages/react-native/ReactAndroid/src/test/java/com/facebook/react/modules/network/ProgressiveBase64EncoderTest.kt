@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.network
+
+import android.util.Base64
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class ProgressiveBase64EncoderTest {
+
+  private val data = Random(42).nextBytes(1000)
+
+  @Test
+  fun testConcatenatedChunksMatchWholeEncoding() {
+    for (chunkSize in listOf(1, 2, 3, 4, 5, 7, 64, 999, 1000)) {
+      assertThat(encodeInChunks(chunkSize))
+          .describedAs("chunk size $chunkSize")
+          .isEqualTo(Base64.encodeToString(data, Base64.NO_WRAP))
+    }
+  }
+
+  @Test
+  fun testChunksAreWholeGroups() {
+    val encoder = ProgressiveBase64Encoder()
+
+    assertThat(encoder.encodeNext(data, 4)).hasSize(4)
+    assertThat(encoder.encodeNext(data.copyOfRange(4, 6), 2)).hasSize(4)
+    assertThat(encoder.finish()).isEmpty()
+  }
+
+  @Test
+  fun testEmptyStream() {
+    val encoder = ProgressiveBase64Encoder()
+
+    assertThat(encoder.encodeNext(ByteArray(8), 0)).isEmpty()
+    assertThat(encoder.finish()).isEmpty()
+  }
+
+  private fun encodeInChunks(chunkSize: Int): String {
+    val encoder = ProgressiveBase64Encoder()
+    val sb = StringBuilder()
+    val chunk = ByteArray(chunkSize)
+    var offset = 0
+    while (offset < data.size) {
+      val length = minOf(chunkSize, data.size - offset)
+      System.arraycopy(data, offset, chunk, 0, length)
+      sb.append(encoder.encodeNext(chunk, length))
+      offset += length
+    }
+    sb.append(encoder.finish())
+    return sb.toString()
+  }
+}
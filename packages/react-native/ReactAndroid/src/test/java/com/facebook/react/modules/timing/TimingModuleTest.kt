@@ -28,6 +28,7 @@ import com.facebook.react.modules.core.ReactChoreographer
 import com.facebook.react.modules.core.ReactChoreographer.CallbackType
 import com.facebook.react.modules.core.TimingModule
 import com.facebook.testutils.shadows.ShadowArguments
+import java.util.concurrent.TimeUnit
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.After
 import org.junit.Before
@@ -268,6 +269,32 @@ class TimingModuleTest {
     verifyNoMoreInteractions(jsTimersMock)
   }
 
+  @Test
+  fun testStopsFrameCallbackUntilNextTimerIsDue() {
+    reactContext.onHostResume(null)
+    timingModule.createTimer(42.0, 1000.0, 0.0, false)
+    stepChoreographerFrame()
+    assertThat(postFrameCallbackHandler.getAndResetFrameCallback()).isNull()
+
+    currentTimeNs = 990L * 1000 * 1000
+    shadowOf(Looper.getMainLooper()).idleFor(1000, TimeUnit.MILLISECONDS)
+    stepChoreographerFrame()
+    verify(jsTimersMock).callTimers(JavaOnlyArray.of(42.0))
+  }
+
+  @Test
+  fun testEarlierTimerWakesUpFrameCallback() {
+    reactContext.onHostResume(null)
+    timingModule.createTimer(42.0, 10000.0, 0.0, false)
+    stepChoreographerFrame()
+    timingModule.createTimer(43.0, 100.0, 0.0, false)
+
+    currentTimeNs = 110L * 1000 * 1000
+    shadowOf(Looper.getMainLooper()).idleFor(100, TimeUnit.MILLISECONDS)
+    stepChoreographerFrame()
+    verify(jsTimersMock).callTimers(JavaOnlyArray.of(43.0))
+  }
+
   @Test
   fun testSetTimeoutZero() {
     timingModule.createTimer(100.0, 0.0, 0.0, false)
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.websocket
+
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.modules.websocket.WebSocketMessageBatching.OverflowPolicy
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+class WebSocketMessageBatcherTest {
+
+  private data class Batch(val socketId: Int, val messages: List<String>)
+
+  private data class Counters(
+      val batchSize: Int,
+      val queueDepth: Int,
+      val droppedMessages: Int,
+  )
+
+  private lateinit var scheduler: ScheduledExecutorService
+  private val batches = CopyOnWriteArrayList<Batch>()
+  private val counters = CopyOnWriteArrayList<Counters>()
+  private val dropped = CopyOnWriteArrayList<String>()
+  private var awaitJSCount = 0
+
+  @Before
+  fun setUp() {
+    scheduler = Executors.newSingleThreadScheduledExecutor()
+  }
+
+  @After
+  fun tearDown() {
+    scheduler.shutdownNow()
+  }
+
+  @Test
+  fun testSendsQueuedMessagesAfterTheInterval() {
+    val latch = CountDownLatch(1)
+    val batcher = create(WebSocketMessageBatching(intervalMs = 10)) { latch.countDown() }
+
+    batcher.add(1, message("a"))
+    batcher.add(1, message("b"))
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue()
+    assertThat(batches).containsExactly(Batch(1, listOf("a", "b")))
+    assertThat(counters).containsExactly(Counters(2, 2, 0))
+  }
+
+  @Test
+  fun testBatchesEachSocketSeparately() {
+    val batcher = create(WebSocketMessageBatching(intervalMs = 60_000))
+
+    batcher.add(1, message("a"))
+    batcher.add(2, message("b"))
+    batcher.add(1, message("c"))
+    batcher.flush(2)
+    batcher.flush(1)
+
+    assertThat(batches).containsExactly(Batch(2, listOf("b")), Batch(1, listOf("a", "c")))
+  }
+
+  @Test
+  fun testFlushWithoutMessagesSendsNothing() {
+    val batcher = create(WebSocketMessageBatching(intervalMs = 60_000))
+
+    batcher.flush(1)
+    batcher.add(1, message("a"))
+    batcher.flush(1)
+    batcher.flush(1)
+
+    assertThat(batches).containsExactly(Batch(1, listOf("a")))
+  }
+
+  @Test
+  fun testRemoveSendsRemainingMessages() {
+    val batcher = create(WebSocketMessageBatching(intervalMs = 60_000))
+
+    batcher.add(1, message("a"))
+    batcher.remove(1)
+    batcher.flush(1)
+
+    assertThat(batches).containsExactly(Batch(1, listOf("a")))
+  }
+
+  @Test
+  fun testDropOldestKeepsTheLatestMessages() {
+    val batcher =
+        create(
+            WebSocketMessageBatching(
+                intervalMs = 60_000,
+                maxQueuedMessages = 2,
+                overflowPolicy = OverflowPolicy.DROP_OLDEST,
+            ),
+        )
+
+    for (data in listOf("a", "b", "c", "d")) {
+      batcher.add(1, message(data))
+    }
+    batcher.flush(1)
+
+    assertThat(batches).containsExactly(Batch(1, listOf("c", "d")))
+    assertThat(dropped).containsExactly("a", "b")
+    assertThat(counters).containsExactly(Counters(2, 2, 2))
+    assertThat(awaitJSCount).isEqualTo(0)
+  }
+
+  @Test
+  fun testDropNewestKeepsTheFirstMessages() {
+    val batcher =
+        create(
+            WebSocketMessageBatching(
+                intervalMs = 60_000,
+                maxQueuedMessages = 2,
+                overflowPolicy = OverflowPolicy.DROP_NEWEST,
+            ),
+        )
+
+    for (data in listOf("a", "b", "c", "d")) {
+      batcher.add(1, message(data))
+    }
+    batcher.flush(1)
+
+    assertThat(batches).containsExactly(Batch(1, listOf("a", "b")))
+    assertThat(dropped).containsExactly("c", "d")
+    assertThat(counters).containsExactly(Counters(2, 2, 2))
+  }
+
+  @Test
+  fun testBlockSendsTheFullQueueThroughJSBackpressure() {
+    val batcher =
+        create(
+            WebSocketMessageBatching(
+                intervalMs = 60_000,
+                maxQueuedMessages = 2,
+                overflowPolicy = OverflowPolicy.BLOCK,
+            ),
+        )
+
+    for (data in listOf("a", "b", "c", "d")) {
+      batcher.add(1, message(data))
+    }
+    batcher.flush(1)
+
+    assertThat(awaitJSCount).isEqualTo(1)
+    assertThat(batches).containsExactly(Batch(1, listOf("a", "b", "c")), Batch(1, listOf("d")))
+    assertThat(dropped).isEmpty()
+    assertThat(counters).containsExactly(Counters(3, 3, 0), Counters(1, 1, 0))
+  }
+
+  @Test(expected = IllegalArgumentException::class)
+  fun testRejectsEmptyQueue() {
+    WebSocketMessageBatching(maxQueuedMessages = 0)
+  }
+
+  private fun create(
+      batching: WebSocketMessageBatching,
+      onBatch: () -> Unit = {},
+  ): WebSocketMessageBatcher =
+      WebSocketMessageBatcher(
+          batching,
+          { _, batchSize, queueDepth, droppedMessages ->
+            counters.add(Counters(batchSize, queueDepth, droppedMessages))
+            onBatch()
+          },
+          { _, emit ->
+            awaitJSCount++
+            emit()
+          },
+          { _, message -> dropped.add(checkNotNull(message.getString("data"))) },
+          scheduler,
+      ) { socketId, messages ->
+        batches.add(Batch(socketId, messages.map { checkNotNull(it.getString("data")) }))
+      }
+
+  private fun message(data: String) = JavaOnlyMap.of("type", "text", "data", data)
+}
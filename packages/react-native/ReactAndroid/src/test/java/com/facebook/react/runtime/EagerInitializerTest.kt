@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.runtime
+
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/** Tests [EagerInitializer] */
+@RunWith(RobolectricTestRunner::class)
+class EagerInitializerTest {
+
+  private val order: MutableList<String> = Collections.synchronizedList(ArrayList())
+  private val errors: MutableList<Exception> = Collections.synchronizedList(ArrayList())
+
+  @Test
+  fun testRunsTasksAfterTheirDependencies() {
+    val uiThreadTasks = ArrayList<Runnable>()
+    var finished = false
+
+    EagerInitializer(Executor { it.run() }, Executor { uiThreadTasks.add(it) }) { errors.add(it) }
+        .start(
+            listOf(
+                task("C", listOf("B")),
+                task("B", listOf("A", "NotEager")),
+                task("A"),
+                task("D", listOf("A"), runOnUiThread = true),
+            )) {
+              finished = true
+            }
+
+    assertThat(order).containsExactly("A", "B", "C")
+    assertThat(finished).isFalse()
+    uiThreadTasks.single().run()
+    assertThat(order).containsExactly("A", "B", "C", "D")
+    assertThat(finished).isTrue()
+  }
+
+  @Test
+  fun testRunsTasksOfDependencyCycles() {
+    EagerInitializer(Executor { it.run() }, Executor { it.run() }) { errors.add(it) }
+        .start(listOf(task("A", listOf("B")), task("B", listOf("A")), task("C", listOf("B"))))
+
+    assertThat(order).containsExactlyInAnyOrder("A", "B", "C")
+  }
+
+  @Test
+  fun testTasksDependingOnCyclesWaitForTheirDependencies() {
+    val uiThreadTasks = ArrayList<Runnable>()
+
+    EagerInitializer(Executor { it.run() }, Executor { uiThreadTasks.add(it) }) { errors.add(it) }
+        .start(
+            listOf(
+                task("A", listOf("B")),
+                task("B", listOf("A")),
+                task("C", listOf("A", "D")),
+                task("D", runOnUiThread = true),
+            ))
+
+    assertThat(order).containsExactlyInAnyOrder("A", "B")
+    uiThreadTasks.single().run()
+    assertThat(order).containsExactlyInAnyOrder("A", "B", "D", "C")
+    assertThat(order.last()).isEqualTo("C")
+  }
+
+  @Test
+  fun testReportsErrorsAndRunsDependents() {
+    val failure = IllegalStateException()
+
+    EagerInitializer(Executor { it.run() }, Executor { it.run() }) { errors.add(it) }
+        .start(
+            listOf(
+                EagerInitializer.Task("A", emptyList(), false) { throw failure },
+                task("B", listOf("A")),
+            ))
+
+    assertThat(errors).containsExactly(failure)
+    assertThat(order).containsExactly("B")
+  }
+
+  @Test
+  fun testRunsIndependentTasksInParallel() {
+    val pool = Executors.newFixedThreadPool(PARALLELISM)
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+    val finished = CountDownLatch(1)
+    val tasks =
+        (0 until 32).map { index ->
+          val dependencies = if (index >= 16) listOf("${index - 16}") else emptyList()
+          EagerInitializer.Task("$index", dependencies, false) {
+            maxRunning.accumulateAndGet(running.incrementAndGet()) { a, b -> maxOf(a, b) }
+            Thread.sleep(2)
+            order.add("$index")
+            running.decrementAndGet()
+          }
+        }
+
+    EagerInitializer(pool, Executor { it.run() }) { errors.add(it) }
+        .start(tasks) { finished.countDown() }
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue()
+    pool.shutdown()
+    assertThat(order).hasSize(32)
+    assertThat(maxRunning.get()).isBetween(2, PARALLELISM)
+    for (index in 16 until 32) {
+      assertThat(order.indexOf("$index")).isGreaterThan(order.indexOf("${index - 16}"))
+    }
+  }
+
+  private fun task(
+      name: String,
+      dependencies: List<String> = emptyList(),
+      runOnUiThread: Boolean = false,
+  ): EagerInitializer.Task =
+      EagerInitializer.Task(name, dependencies, runOnUiThread) { order.add(name) }
+
+  private companion object {
+    const val PARALLELISM = 4
+  }
+}
@@ -16,6 +16,7 @@ import com.facebook.react.bridge.DynamicFromObject
 import com.facebook.react.bridge.JavaOnlyArray
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.react.touch.JSResponderHandler
 import com.facebook.react.views.view.ReactViewGroup
 import com.facebook.react.views.view.ReactViewManager
 import com.facebook.testutils.shadows.ShadowArguments
@@ -130,4 +131,17 @@ class BaseViewManagerTest {
     viewManager.setAccessibilityLabelledBy(view, DynamicFromObject(JavaOnlyArray()))
     Assertions.assertThat(view.getTag(R.id.labelled_by)).isNull()
   }
+
+  @Test
+  fun testCreateViewUsesPrewarmedView() {
+    viewManager.prewarmView(themedReactContext, ReactStylesDiffMap(JavaOnlyMap.of("opacity", 0.5)))
+    Assertions.assertThat(viewManager.getWarmViewCount(-1)).isEqualTo(1)
+
+    val created =
+        viewManager.createView(7, themedReactContext, null, null, mock<JSResponderHandler>())
+
+    Assertions.assertThat(created.id).isEqualTo(7)
+    Assertions.assertThat(created.alpha).isEqualTo(0.5f)
+    Assertions.assertThat(viewManager.getWarmViewCount(-1)).isEqualTo(0)
+  }
 }
@@ -11,6 +11,7 @@ import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
 import com.facebook.react.uimanager.MatrixMathHelper.MatrixDecompositionContext
 import kotlin.math.cos
 import kotlin.math.sin
+import kotlin.random.Random
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.Before
 import org.junit.Test
@@ -725,6 +726,78 @@ class MatrixMathHelperTest {
     assertThat(ctx.rotationDegrees).containsSequence(rotX, rotY, rotZ)
   }
 
+  @Test
+  fun testTranslateScaleMatricesDecomposeLikeGeneralPath() {
+    val random = Random(42)
+    repeat(20_000) {
+      val matrix = MatrixMathHelper.createIdentityMatrix()
+      matrix[0] = randomScale(random)
+      matrix[5] = randomScale(random)
+      matrix[10] = if (random.nextBoolean()) 1.0 else randomScale(random)
+      for (i in 12..14) {
+        matrix[i] =
+            when (random.nextInt(4)) {
+              0 -> 0.0
+              1 -> -0.0
+              else -> random.nextDouble(-1e4, 1e4)
+            }
+      }
+      // Matrices composed by native code can have negative zeros
+      for (i in intArrayOf(1, 2, 3, 4, 6, 7, 8, 9, 11)) {
+        if (random.nextInt(4) == 0) {
+          matrix[i] = -0.0
+        }
+      }
+
+      assertDecomposesLikeGeneralPath(matrix)
+    }
+  }
+
+  @Test
+  fun testOtherMatricesDecomposeLikeGeneralPath() {
+    assertDecomposesLikeGeneralPath(createRotateZ(degreesToRadians(30.0)))
+    assertDecomposesLikeGeneralPath(
+        MatrixMathHelper.createIdentityMatrix().apply {
+          this[0] = -2.0
+          this[12] = 10.0
+        },
+    )
+    assertDecomposesLikeGeneralPath(
+        MatrixMathHelper.createIdentityMatrix().apply {
+          this[0] = 1e-4
+          this[5] = 1e-2
+        },
+    )
+    assertDecomposesLikeGeneralPath(
+        MatrixMathHelper.createIdentityMatrix().apply { this[12] = Double.NaN },
+    )
+  }
+
+  private fun assertDecomposesLikeGeneralPath(matrix: DoubleArray) {
+    val ctx = MatrixDecompositionContext()
+    MatrixMathHelper.decomposeMatrix(matrix, ctx)
+    val expected = MatrixDecompositionContext()
+    MatrixMathHelper.decomposeGeneralMatrix(matrix, expected)
+
+    // Compares bits, so that -0.0 and 0.0 are told apart
+    fun bits(values: DoubleArray) = values.map { it.toRawBits() }
+    val description = matrix.contentToString()
+    assertThat(bits(ctx.translation)).describedAs(description).isEqualTo(bits(expected.translation))
+    assertThat(bits(ctx.scale)).describedAs(description).isEqualTo(bits(expected.scale))
+    assertThat(bits(ctx.rotationDegrees))
+        .describedAs(description)
+        .isEqualTo(bits(expected.rotationDegrees))
+    assertThat(bits(ctx.perspective)).describedAs(description).isEqualTo(bits(expected.perspective))
+    assertThat(ctx.skew.map { it == 0.0 }).isEqualTo(expected.skew.map { it == 0.0 })
+  }
+
+  private fun randomScale(random: Random): Double =
+      when (random.nextInt(3)) {
+        0 -> random.nextDouble(0.5, 2.0)
+        1 -> random.nextDouble(1e-2, 1.0)
+        else -> random.nextDouble(1.0, 1e3)
+      }
+
   companion object {
     private fun degreesToRadians(degrees: Double): Double {
       return degrees * Math.PI / 180
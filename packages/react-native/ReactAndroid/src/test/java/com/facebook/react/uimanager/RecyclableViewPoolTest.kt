@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager
+
+import android.content.ComponentCallbacks2
+import android.view.View
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.mockito.kotlin.mock
+
+@Suppress("DEPRECATION")
+class RecyclableViewPoolTest {
+
+  @Test
+  fun testHandsOutMostRecentlyReleasedViewOfTheSurface() {
+    val pool = RecyclableViewPool<View>(maxViews = 10)
+    val first = mock<View>()
+    val second = mock<View>()
+    val otherSurface = mock<View>()
+    pool.acquire(SURFACE)
+    pool.acquire(OTHER_SURFACE)
+
+    pool.release(SURFACE, first)
+    pool.release(SURFACE, second)
+    pool.release(OTHER_SURFACE, otherSurface)
+
+    assertThat(pool.acquire(SURFACE)).isSameAs(second)
+    assertThat(pool.acquire(SURFACE)).isSameAs(first)
+    assertThat(pool.acquire(SURFACE)).isNull()
+    assertThat(pool.hitCount).isEqualTo(2)
+    assertThat(pool.missCount).isEqualTo(3)
+    assertThat(pool.size).isEqualTo(1)
+  }
+
+  @Test
+  fun testOnlyAcceptsViewsOfRunningSurfaces() {
+    val pool = RecyclableViewPool<View>(maxViews = 10)
+    assertThat(pool.accepts(SURFACE)).isFalse()
+    pool.release(SURFACE, mock())
+    assertThat(pool.size).isEqualTo(0)
+
+    pool.acquire(SURFACE)
+    assertThat(pool.accepts(SURFACE)).isTrue()
+    pool.release(SURFACE, mock())
+    assertThat(pool.size).isEqualTo(1)
+
+    pool.removeSurface(SURFACE)
+    assertThat(pool.accepts(SURFACE)).isFalse()
+    assertThat(pool.size).isEqualTo(0)
+  }
+
+  @Test
+  fun testEvictsLeastRecentlyReleasedViewAcrossSurfaces() {
+    val pool = RecyclableViewPool<View>(maxViews = 2)
+    pool.acquire(SURFACE)
+    pool.acquire(OTHER_SURFACE)
+    val oldest = mock<View>()
+    val middle = mock<View>()
+    val newest = mock<View>()
+
+    pool.release(OTHER_SURFACE, oldest)
+    pool.release(SURFACE, middle)
+    pool.release(SURFACE, newest)
+
+    assertThat(pool.size).isEqualTo(2)
+    assertThat(pool.evictedCount).isEqualTo(1)
+    assertThat(pool.acquire(OTHER_SURFACE)).isNull()
+    assertThat(pool.acquire(SURFACE)).isSameAs(newest)
+    assertThat(pool.acquire(SURFACE)).isSameAs(middle)
+  }
+
+  @Test
+  fun testTrimsInProportionToMemoryPressure() {
+    val pool = RecyclableViewPool<View>(maxViews = 100)
+    pool.acquire(SURFACE)
+    repeat(8) { pool.release(SURFACE, mock()) }
+
+    pool.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+    assertThat(pool.size).isEqualTo(6)
+
+    pool.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+    assertThat(pool.size).isEqualTo(3)
+
+    pool.trim(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+    assertThat(pool.size).isEqualTo(0)
+    assertThat(pool.evictedCount).isEqualTo(8)
+  }
+
+  @Test
+  fun testTrimKeepsMostRecentlyReleasedViews() {
+    val pool = RecyclableViewPool<View>(maxViews = 100)
+    pool.acquire(SURFACE)
+    val oldest = mock<View>()
+    val newest = mock<View>()
+    pool.release(SURFACE, oldest)
+    pool.release(SURFACE, newest)
+
+    pool.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+
+    assertThat(pool.acquire(SURFACE)).isSameAs(newest)
+    assertThat(pool.acquire(SURFACE)).isNull()
+  }
+
+  private companion object {
+    const val SURFACE = 1
+    const val OTHER_SURFACE = 2
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager
+
+import android.content.Context
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.react.views.view.ReactViewGroup
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+
+/**
+ * Microbenchmark of [TouchTargetHelper.findTargetTagForTouch] over a grid screen: [ROW_COUNT] rows
+ * of [TILE_COUNT] tiles, each tile holding a label, touched at [TOUCH_COUNT] points spread over the
+ * whole screen.
+ */
+@RunWith(RobolectricTestRunner::class)
+class TouchTargetHelperBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var context: Context
+  private lateinit var root: ViewGroup
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    context = RuntimeEnvironment.getApplication()
+    root = createGrid()
+  }
+
+  @Test
+  fun `findTargetTagForTouch - touches spread over a grid`() {
+    benchmark.measure("findTargetTagForTouch", operationsPerIteration = TOUCH_COUNT) {
+      var tags = 0
+      for (i in 0..<TOUCH_COUNT) {
+        val x = (i * 7919 % SCREEN_WIDTH).toFloat()
+        val y = (i * 104_729 % SCREEN_HEIGHT).toFloat()
+        tags += TouchTargetHelper.findTargetTagForTouch(x, y, root)
+      }
+      tags
+    }
+
+    // The label of the first tile of the second row
+    assertThat(
+            TouchTargetHelper.findTargetTagForTouch(
+                TILE_WIDTH / 2f,
+                ROW_HEIGHT + ROW_HEIGHT / 2f,
+                root,
+            ))
+        .isEqualTo(labelTag(1, 0))
+  }
+
+  private fun createGrid(): ViewGroup {
+    val root = FrameLayout(context)
+    root.id = ROOT_TAG
+    root.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT)
+    for (row in 0..<ROW_COUNT) {
+      val rowView = ReactViewGroup(context)
+      rowView.id = ROOT_TAG + 1 + row
+      root.addView(rowView)
+      rowView.layout(0, row * ROW_HEIGHT, SCREEN_WIDTH, (row + 1) * ROW_HEIGHT)
+      for (column in 0..<TILE_COUNT) {
+        val tile = ReactViewGroup(context)
+        tile.id = labelTag(row, column) - 1
+        rowView.addView(tile)
+        tile.layout(column * TILE_WIDTH, 0, (column + 1) * TILE_WIDTH, ROW_HEIGHT)
+        val label = ReactViewGroup(context)
+        label.id = labelTag(row, column)
+        tile.addView(label)
+        label.layout(0, ROW_HEIGHT / 4, TILE_WIDTH, ROW_HEIGHT * 3 / 4)
+      }
+    }
+    return root
+  }
+
+  private fun labelTag(row: Int, column: Int): Int = 10_000 + (row * TILE_COUNT + column) * 2 + 1
+
+  private companion object {
+    const val ROOT_TAG = 1
+    const val SCREEN_WIDTH = 1920
+    const val SCREEN_HEIGHT = 1080
+    const val ROW_COUNT = 6
+    const val TILE_COUNT = 12
+    const val ROW_HEIGHT = SCREEN_HEIGHT / ROW_COUNT
+    const val TILE_WIDTH = SCREEN_WIDTH / TILE_COUNT
+    const val TOUCH_COUNT = 1000
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager
+
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.ReadableArray
+import com.facebook.soloader.SoLoader
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.mockito.MockedStatic
+import org.mockito.Mockito.mockStatic
+
+/**
+ * Property tests checking that transforms made only of translations and scales, which skip matrix
+ * multiplications, compose to exactly the same matrix as the general path.
+ */
+class TransformHelperTest {
+
+  private lateinit var mockedStaticSoLoader: MockedStatic<SoLoader>
+
+  @Before
+  fun setUp() {
+    mockedStaticSoLoader = mockStatic(SoLoader::class.java)
+  }
+
+  @After
+  fun tearDown() {
+    mockedStaticSoLoader.close()
+  }
+
+  @Test
+  fun testTranslateScaleTransformsMatchGeneralPath() {
+    val random = Random(SEED)
+    repeat(ITERATIONS) {
+      val transforms = JavaOnlyArray()
+      repeat(random.nextInt(1, 6)) { transforms.pushMap(randomTranslateOrScale(random)) }
+      val transformOrigin =
+          if (random.nextBoolean()) null
+          else JavaOnlyArray.of(random.nextDouble(-50.0, 150.0), "${random.nextInt(100)}%", 0.0)
+
+      assertMatchesGeneralPath(transforms, transformOrigin)
+    }
+  }
+
+  @Test
+  fun testEdgeCasesMatchGeneralPath() {
+    val transforms =
+        listOf(
+            JavaOnlyArray.of(JavaOnlyMap.of("translateX", -0.0)),
+            JavaOnlyArray.of(JavaOnlyMap.of("scale", 1.0), JavaOnlyMap.of("translateY", -0.0)),
+            JavaOnlyArray.of(JavaOnlyMap.of("translate", JavaOnlyArray.of(-0.0, -0.0, -0.0))),
+            JavaOnlyArray.of(JavaOnlyMap.of("scale", 1e-3), JavaOnlyMap.of("scale", 1e3)),
+            JavaOnlyArray.of(JavaOnlyMap.of("translateX", 10.0), JavaOnlyMap.of("scale", 0.0)),
+            JavaOnlyArray.of(JavaOnlyMap.of("scaleX", -1.0), JavaOnlyMap.of("translateX", 5.0)),
+            JavaOnlyArray.of(JavaOnlyMap.of("translateX", "invalid")),
+        )
+    for (transform in transforms) {
+      assertMatchesGeneralPath(transform, null)
+      assertMatchesGeneralPath(transform, JavaOnlyArray.of(0.0, 0.0, 0.0))
+    }
+  }
+
+  @Test
+  fun testOtherTransformsUseGeneralPath() {
+    val transforms =
+        JavaOnlyArray.of(JavaOnlyMap.of("scale", 2.0), JavaOnlyMap.of("rotate", "45deg"))
+
+    assertMatchesGeneralPath(transforms, null)
+  }
+
+  private fun assertMatchesGeneralPath(transforms: ReadableArray, transformOrigin: ReadableArray?) {
+    val result = DoubleArray(16)
+    TransformHelper.processTransform(
+        transforms,
+        result,
+        VIEW_WIDTH,
+        VIEW_HEIGHT,
+        transformOrigin,
+    )
+
+    val expected = DoubleArray(16)
+    TransformHelper.processGeneralTransform(
+        transforms,
+        expected,
+        VIEW_WIDTH,
+        VIEW_HEIGHT,
+        TransformHelper.getTranslateForTransformOrigin(VIEW_WIDTH, VIEW_HEIGHT, transformOrigin),
+    )
+
+    // Compares bits, so that -0.0 and 0.0 are told apart
+    assertThat(result.map { it.toRawBits() })
+        .describedAs("%s with origin %s", transforms, transformOrigin)
+        .isEqualTo(expected.map { it.toRawBits() })
+  }
+
+  private fun randomTranslateOrScale(random: Random): JavaOnlyMap =
+      when (random.nextInt(6)) {
+        0 -> JavaOnlyMap.of("scale", randomScale(random))
+        1 -> JavaOnlyMap.of("scaleX", randomScale(random))
+        2 -> JavaOnlyMap.of("scaleY", randomScale(random))
+        3 -> JavaOnlyMap.of("translateX", randomTranslation(random))
+        4 -> JavaOnlyMap.of("translateY", "${random.nextDouble(-100.0, 100.0)}%")
+        else ->
+            JavaOnlyMap.of(
+                "translate",
+                JavaOnlyArray.of(
+                    randomTranslation(random),
+                    randomTranslation(random),
+                    randomTranslation(random),
+                ),
+            )
+      }
+
+  private fun randomScale(random: Random): Double =
+      when (random.nextInt(4)) {
+        0 -> 1.0
+        1 -> random.nextDouble(0.5, 2.0)
+        2 -> random.nextDouble(1e-3, 1.0)
+        else -> random.nextDouble(1.0, 1e3)
+      }
+
+  private fun randomTranslation(random: Random): Double =
+      when (random.nextInt(4)) {
+        0 -> 0.0
+        1 -> -0.0
+        2 -> random.nextInt(-200, 200).toDouble()
+        else -> random.nextDouble(-1e4, 1e4)
+      }
+
+  private companion object {
+    const val SEED = 42
+    const val ITERATIONS = 20_000
+    const val VIEW_WIDTH = 120.5f
+    const val VIEW_HEIGHT = 67f
+  }
+}
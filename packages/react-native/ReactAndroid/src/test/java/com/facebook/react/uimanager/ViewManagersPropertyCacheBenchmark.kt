@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager
+
+import android.view.View
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.react.uimanager.annotations.ReactProp
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+
+/**
+ * Microbenchmark of the reflective [ReactProp] setters of [ViewManagersPropertyCache], used by view
+ * managers without a codegen delegate: [UPDATE_COUNT] updates of an int, a float and a boolean prop,
+ * with the values of a re-render and with a value changing on every update (e.g. an animation).
+ */
+@RunWith(RobolectricTestRunner::class)
+class ViewManagersPropertyCacheBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var viewManager: BenchmarkViewManager
+  private lateinit var view: View
+  private lateinit var setters: Map<String, ViewManagersPropertyCache.PropSetter>
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    viewManager = BenchmarkViewManager()
+    view = View(RuntimeEnvironment.getApplication())
+    setters =
+        ViewManagersPropertyCache.getNativePropSettersForViewManagerClass(
+            BenchmarkViewManager::class.java,
+        )
+  }
+
+  @Test
+  fun `updateViewProp - repeated values`() {
+    val intSetter = setters.getValue("intProp")
+    val floatSetter = setters.getValue("floatProp")
+    val booleanSetter = setters.getValue("booleanProp")
+    val intValue: Any = 1024.0
+    val floatValue: Any = 0.5
+    val booleanValue: Any = true
+
+    benchmark.measure("int prop", operationsPerIteration = UPDATE_COUNT) {
+      repeat(UPDATE_COUNT) { intSetter.updateViewProp(viewManager, view, intValue) }
+      viewManager.sum
+    }
+    benchmark.measure("float prop", operationsPerIteration = UPDATE_COUNT) {
+      repeat(UPDATE_COUNT) { floatSetter.updateViewProp(viewManager, view, floatValue) }
+      viewManager.sum
+    }
+    benchmark.measure("boolean prop", operationsPerIteration = UPDATE_COUNT) {
+      repeat(UPDATE_COUNT) { booleanSetter.updateViewProp(viewManager, view, booleanValue) }
+      viewManager.sum
+    }
+
+    assertThat(viewManager.sum).isNotZero()
+  }
+
+  @Test
+  fun `updateViewProp - changing values`() {
+    val floatSetter = setters.getValue("floatProp")
+    // Boxed ahead of time, as JS values arrive boxed
+    val values: List<Any> = (0..<UPDATE_COUNT).map { it / UPDATE_COUNT.toDouble() }
+
+    benchmark.measure("float prop", operationsPerIteration = UPDATE_COUNT) {
+      for (value in values) {
+        floatSetter.updateViewProp(viewManager, view, value)
+      }
+      viewManager.sum
+    }
+
+    assertThat(viewManager.sum).isNotZero()
+  }
+
+  private class BenchmarkViewManager : SimpleViewManager<View>() {
+    var sum = 0.0
+
+    override fun getName() = "BenchmarkView"
+
+    override fun createViewInstance(reactContext: ThemedReactContext): View = View(reactContext)
+
+    @ReactProp(name = "intProp")
+    fun setIntProp(view: View, value: Int) {
+      sum += value
+    }
+
+    @ReactProp(name = "floatProp")
+    fun setFloatProp(view: View, value: Float) {
+      sum += value
+    }
+
+    @ReactProp(name = "booleanProp")
+    fun setBooleanProp(view: View, value: Boolean) {
+      sum += if (value) 1 else 0
+    }
+  }
+
+  private companion object {
+    const val UPDATE_COUNT = 1_000
+  }
+}
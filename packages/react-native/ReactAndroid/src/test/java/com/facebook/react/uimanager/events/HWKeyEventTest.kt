@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events
+
+import android.view.KeyEvent
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class HWKeyEventTest {
+
+  @Test
+  fun `coalesce - keeps the latest repeat count of many repeats`() {
+    var coalesced: Event<*> = obtainRepeat(repeatCount = 1, timestampMs = 100)
+    for (repeatCount in 2..5) {
+      coalesced = checkNotNull(obtainRepeat(repeatCount, 100L + repeatCount).coalesce(coalesced))
+    }
+
+    assertThat((coalesced as HWKeyEvent).repeatCount).isEqualTo(5)
+  }
+
+  @Test
+  fun `canCoalesce - only coalesces key downs`() {
+    val keyUp =
+        HWKeyEvent.obtain(
+            SURFACE_ID,
+            VIEW_TAG,
+            "down",
+            KeyEvent.KEYCODE_DPAD_DOWN,
+            KeyEvent.ACTION_UP,
+            0,
+            KeyEvent.KEYCODE_DPAD_DOWN.toShort(),
+            100,
+        )
+
+    assertThat(obtainRepeat(repeatCount = 1, timestampMs = 100).canCoalesce()).isTrue()
+    assertThat(keyUp.canCoalesce()).isFalse()
+  }
+
+  private fun obtainRepeat(repeatCount: Int, timestampMs: Long): HWKeyEvent =
+      HWKeyEvent.obtain(
+          SURFACE_ID,
+          VIEW_TAG,
+          "down",
+          KeyEvent.KEYCODE_DPAD_DOWN,
+          KeyEvent.ACTION_DOWN,
+          repeatCount,
+          KeyEvent.KEYCODE_DPAD_DOWN.toShort(),
+          timestampMs,
+      )
+
+  private companion object {
+    const val SURFACE_ID = 1
+    const val VIEW_TAG = 42
+  }
+}
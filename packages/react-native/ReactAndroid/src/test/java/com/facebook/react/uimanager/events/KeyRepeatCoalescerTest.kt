@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events
+
+import android.view.Choreographer.FrameCallback
+import android.view.KeyEvent
+import com.facebook.react.common.SystemClock
+import com.facebook.react.modules.core.ReactChoreographer
+import com.facebook.react.modules.core.ReactChoreographer.CallbackType
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.MockedStatic
+import org.mockito.Mockito.mockStatic
+import org.mockito.kotlin.any
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.whenever
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class KeyRepeatCoalescerTest {
+
+  private lateinit var systemClock: MockedStatic<SystemClock>
+  private lateinit var reactChoreographerMock: ReactChoreographer
+  private var reactChoreographerOriginal: ReactChoreographer? = null
+  private var frameCallback: FrameCallback? = null
+  private var currentTimeNs = 0L
+
+  private val delivered = mutableListOf<Pair<Int, Int>>()
+
+  @Before
+  fun setUp() {
+    systemClock = mockStatic(SystemClock::class.java)
+    systemClock.`when`<Long> { SystemClock.nanoTime() }.thenAnswer { currentTimeNs }
+
+    reactChoreographerMock = mock<ReactChoreographer>()
+    reactChoreographerOriginal = ReactChoreographer.overrideInstanceForTest(reactChoreographerMock)
+    whenever(reactChoreographerMock.postFrameCallback(eq(CallbackType.TIMERS_EVENTS), any()))
+        .thenAnswer { frameCallback = it.arguments[1] as FrameCallback }
+  }
+
+  @After
+  fun tearDown() {
+    systemClock.close()
+    ReactChoreographer.overrideInstanceForTest(reactChoreographerOriginal)
+  }
+
+  @Test
+  fun `onKeyDown - delivers the first key down right away`() {
+    val coalescer = createCoalescer(0)
+
+    assertThat(coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 0, "first")).isTrue()
+    assertThat(frameCallback).isNull()
+  }
+
+  @Test
+  fun `onKeyDown - collapses the repeats of a frame into one delivery`() {
+    val coalescer = createCoalescer(0)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 0, "first")
+
+    assertThat(coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 1, "repeat")).isFalse()
+    assertThat(coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 2, "repeat")).isFalse()
+    assertThat(coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 3, "repeat")).isFalse()
+    stepFrame()
+
+    assertThat(delivered).containsExactly(KeyEvent.KEYCODE_DPAD_DOWN to 3)
+    assertThat(frameCallback).isNull()
+  }
+
+  @Test
+  fun `onKeyDown - delivers the payload of the latest repeat`() {
+    val payloads = mutableListOf<String>()
+    val coalescer = KeyRepeatCoalescer<String>(0) { _, _, payload -> payloads.add(payload) }
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 0, "first")
+
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 1, "repeat 1")
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_DOWN, 2, "repeat 2")
+    stepFrame()
+
+    assertThat(payloads).containsExactly("repeat 2")
+  }
+
+  @Test
+  fun `onKeyDown - respects the maximum rate per key`() {
+    // 10 events per second is one delivery every 100ms, or about every 6 frames
+    val coalescer = createCoalescer(10)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_RIGHT, 0, "first")
+
+    for (i in 1..12) {
+      coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_RIGHT, i, "repeat")
+      stepFrame()
+    }
+
+    assertThat(delivered).containsExactly(
+        KeyEvent.KEYCODE_DPAD_RIGHT to 6,
+        KeyEvent.KEYCODE_DPAD_RIGHT to 12,
+    )
+  }
+
+  @Test
+  fun `onKeyUp - flushes pending repeats so nothing drains afterwards`() {
+    val coalescer = createCoalescer(0)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_UP, 0, "first")
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_UP, 1, "repeat")
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_UP, 2, "repeat")
+
+    coalescer.onKeyUp(KeyEvent.KEYCODE_DPAD_UP)
+    assertThat(delivered).containsExactly(KeyEvent.KEYCODE_DPAD_UP to 2)
+
+    stepFrame()
+    assertThat(delivered).hasSize(1)
+  }
+
+  @Test
+  fun `getPressCount - changes with every new press`() {
+    val coalescer = createCoalescer(0)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_LEFT, 0, "first")
+    val firstPress = coalescer.getPressCount(KeyEvent.KEYCODE_DPAD_LEFT)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_LEFT, 1, "repeat")
+    assertThat(coalescer.getPressCount(KeyEvent.KEYCODE_DPAD_LEFT)).isEqualTo(firstPress)
+
+    coalescer.onKeyUp(KeyEvent.KEYCODE_DPAD_LEFT)
+    coalescer.onKeyDown(KeyEvent.KEYCODE_DPAD_LEFT, 0, "second")
+    assertThat(coalescer.getPressCount(KeyEvent.KEYCODE_DPAD_LEFT)).isNotEqualTo(firstPress)
+  }
+
+  private fun createCoalescer(maxEventsPerSecond: Int): KeyRepeatCoalescer<String> =
+      KeyRepeatCoalescer(maxEventsPerSecond) { keyCode, repeatCount, _ ->
+        delivered.add(keyCode to repeatCount)
+      }
+
+  private fun stepFrame() {
+    currentTimeNs += FRAME_TIME_NS
+    val callback = frameCallback
+    frameCallback = null
+    callback?.doFrame(currentTimeNs)
+  }
+
+  private companion object {
+    const val FRAME_TIME_NS = 17L * 1000 * 1000
+  }
+}
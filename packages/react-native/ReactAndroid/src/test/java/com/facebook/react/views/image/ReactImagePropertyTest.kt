@@ -22,7 +22,10 @@ import com.facebook.react.bridge.CatalystInstance
 import com.facebook.react.bridge.JavaOnlyMap
 import com.facebook.react.bridge.ReactTestHelper.createMockCatalystInstance
 import com.facebook.react.common.ReactConstants
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlags
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsDefaults
 import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.react.touch.JSResponderHandler
 import com.facebook.react.uimanager.BackgroundStyleApplicator
 import com.facebook.react.uimanager.DisplayMetricsHolder
 import com.facebook.react.uimanager.LengthPercentage
@@ -278,4 +281,39 @@ class ReactImagePropertyTest {
     viewManager.setHeaders(mockView, headers)
     verify(mockView).setHeaders(headers)
   }
+
+  @Test
+  fun testRecycledViewIsReset() {
+    ReactNativeFeatureFlags.override(
+        object : ReactNativeFeatureFlagsDefaults() {
+          override fun enableViewRecycling(): Boolean = true
+
+          override fun enableViewRecyclingForImage(): Boolean = true
+        },
+    )
+    val viewManager = ReactImageManager()
+    val view =
+        viewManager.createView(
+            1,
+            themeContext,
+            buildStyles("tintColor", Color.argb(50, 0, 0, 255), "accessible", true),
+            null,
+            mock<JSResponderHandler>(),
+        )
+    assertThat(view.colorFilter).isNotNull()
+
+    viewManager.onDropViewInstance(view)
+    val recycledView =
+        viewManager.createView(2, themeContext, buildStyles(), null, mock<JSResponderHandler>())
+
+    assertThat(recycledView).isSameAs(view)
+    assertThat(recycledView.id).isEqualTo(2)
+    assertThat(recycledView.colorFilter).isNull()
+    assertThat(recycledView.isFocusable).isFalse()
+    assertThat(recycledView.controller).isNull()
+    val stats = viewManager.viewRecyclingStats
+    assertThat(stats.createdViews).isEqualTo(1)
+    assertThat(stats.recycledViews).isEqualTo(1)
+    assertThat(stats.hitRate).isEqualTo(0.5)
+  }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text
+
+import android.annotation.SuppressLint
+import android.text.Layout
+import android.text.Spannable
+import android.text.SpannableString
+import android.text.Spanned
+import android.text.StaticLayout
+import android.text.TextPaint
+import com.facebook.react.common.ReactConstants
+import com.facebook.react.views.text.internal.span.ReactAbsoluteSizeSpan
+import com.facebook.testutils.benchmark.BenchmarkRule
+import com.facebook.yoga.YogaMeasureMode
+import kotlin.math.max
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark of [TextLayoutManager.adjustSpannableFontToFit] for a grid of [TILE_COUNT] tiles
+ * whose titles use `adjustsFontSizeToFit`, compared with the binary search it used before, which
+ * started from the largest size and replaced every size span at every step. Timings are reported
+ * per tile by [BenchmarkRule]; the assertions only check that every title was fitted.
+ *
+ * Robolectric doesn't use real font metrics, so run it on a device to compare absolute numbers.
+ */
+@RunWith(RobolectricTestRunner::class)
+@SuppressLint("InlinedApi")
+class TextLayoutManagerFontSizeToFitBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  @Test
+  fun `1000 tiles`() {
+    measure("previous search") { fitTiles(::fitWithSpanRewritingSearch) }
+    measure("TextLayoutManager") { fitTiles(::fitWithTextLayoutManager) }
+  }
+
+  /** Fits the titles of all tiles, and returns the sum of their font sizes. */
+  private fun fitTiles(fit: (Spannable, TextPaint) -> Unit): Int {
+    var sum = 0
+    for (tile in 0..<TILE_COUNT) {
+      // Tiles repeat a limited set of titles, like the rows of a catalog
+      val text = SpannableString("Title of tile ${tile % DISTINCT_TITLES} with a long name")
+      text.setSpan(
+          ReactAbsoluteSizeSpan(FONT_SIZE),
+          0,
+          text.length,
+          Spanned.SPAN_INCLUSIVE_INCLUSIVE,
+      )
+      val paint = TextPaint().apply { textSize = FONT_SIZE.toFloat() }
+      fit(text, paint)
+      val fontSize = text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java).single().size
+      assertThat(fontSize).isBetween(MINIMUM_FONT_SIZE, FONT_SIZE)
+      sum += fontSize
+    }
+    return sum
+  }
+
+  private fun fitWithTextLayoutManager(text: Spannable, paint: TextPaint) {
+    TextLayoutManager.adjustSpannableFontToFit(
+        text,
+        TILE_WIDTH,
+        YogaMeasureMode.EXACTLY,
+        TILE_HEIGHT,
+        YogaMeasureMode.EXACTLY,
+        MINIMUM_FONT_SIZE.toFloat(),
+        ReactConstants.UNSET,
+        false,
+        Layout.BREAK_STRATEGY_HIGH_QUALITY,
+        Layout.HYPHENATION_FREQUENCY_NONE,
+        Layout.Alignment.ALIGN_NORMAL,
+        0,
+        paint,
+    )
+  }
+
+  /** The previous search, which replaced every size span and built a layout at every step. */
+  private fun fitWithSpanRewritingSearch(text: Spannable, paint: TextPaint) {
+    var intervalStart = MINIMUM_FONT_SIZE
+    var intervalEnd = FONT_SIZE
+    var previousFontSize = FONT_SIZE
+    while (true) {
+      val currentFontSize = (intervalStart + intervalEnd + 1) / 2
+      val ratio = currentFontSize.toFloat() / previousFontSize.toFloat()
+      paint.textSize = max((paint.textSize * ratio).toInt(), MINIMUM_FONT_SIZE).toFloat()
+      for (span in text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java)) {
+        text.setSpan(
+            ReactAbsoluteSizeSpan(max((span.size * ratio).toInt(), MINIMUM_FONT_SIZE)),
+            text.getSpanStart(span),
+            text.getSpanEnd(span),
+            text.getSpanFlags(span),
+        )
+        text.removeSpan(span)
+      }
+      val layout =
+          StaticLayout.Builder.obtain(text, 0, text.length, paint, TILE_WIDTH.toInt())
+              .setBreakStrategy(Layout.BREAK_STRATEGY_HIGH_QUALITY)
+              .setHyphenationFrequency(Layout.HYPHENATION_FREQUENCY_NONE)
+              .setIncludePad(false)
+              .build()
+      if (intervalStart == intervalEnd) {
+        break
+      }
+      if (currentFontSize > MINIMUM_FONT_SIZE && layout.height > TILE_HEIGHT) {
+        intervalEnd = if (intervalEnd - intervalStart == 1) intervalStart else currentFontSize
+      } else {
+        intervalStart = currentFontSize
+      }
+      previousFontSize = currentFontSize
+    }
+  }
+
+  private fun measure(name: String, block: () -> Int) {
+    benchmark.measure(
+        name,
+        operationsPerIteration = TILE_COUNT,
+        warmupIterations = WARMUP_ITERATIONS,
+        iterations = ITERATIONS,
+        block = block,
+    )
+  }
+
+  private companion object {
+    const val TILE_COUNT = 1000
+    const val DISTINCT_TITLES = 50
+    const val TILE_WIDTH = 200f
+    const val TILE_HEIGHT = 48f
+    const val FONT_SIZE = 48
+    const val MINIMUM_FONT_SIZE = 10
+    const val WARMUP_ITERATIONS = 1
+    const val ITERATIONS = 3
+  }
+}
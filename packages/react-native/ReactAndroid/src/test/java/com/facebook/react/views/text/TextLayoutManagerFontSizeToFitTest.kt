@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text
+
+import android.annotation.SuppressLint
+import android.text.Layout
+import android.text.Spannable
+import android.text.SpannableString
+import android.text.Spanned
+import android.text.TextPaint
+import com.facebook.react.common.ReactConstants
+import com.facebook.react.views.text.internal.span.ReactAbsoluteSizeSpan
+import com.facebook.yoga.YogaMeasureMode
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/** Tests [TextLayoutManager.adjustSpannableFontToFit] */
+@RunWith(RobolectricTestRunner::class)
+class TextLayoutManagerFontSizeToFitTest {
+
+  @Test
+  fun testKeepsFontSizeWhenTextFits() {
+    val text = createText("Hello")
+    val paint = TextPaint().apply { textSize = FONT_SIZE.toFloat() }
+
+    fit(text, paint, height = 1000f)
+
+    assertThat(sizes(text)).containsExactly(FONT_SIZE, FONT_SIZE / 2)
+    assertThat(paint.textSize).isEqualTo(FONT_SIZE.toFloat())
+  }
+
+  @Test
+  fun testShrinksAllSizesInProportion() {
+    val text = createText("Hello")
+    val paint = TextPaint().apply { textSize = FONT_SIZE.toFloat() }
+
+    fit(text, paint, height = 20f)
+
+    val sizes = sizes(text)
+    assertThat(sizes[0]).isLessThan(FONT_SIZE)
+    assertThat(sizes[1]).isLessThanOrEqualTo(sizes[0] / 2 + 1)
+    assertThat(paint.textSize).isLessThan(FONT_SIZE.toFloat())
+    // Spans are only replaced once the size is found
+    text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java).forEach {
+      assertThat(it.effectiveSize).isEqualTo(it.size)
+    }
+  }
+
+  @Test
+  fun testFitsTheSameTextToTheSameSizeEveryTime() {
+    val sizes =
+        (0..<3).map {
+          // Later attempts start from the size found by the first one
+          val text = createText("Same title")
+          fit(text, TextPaint().apply { textSize = FONT_SIZE.toFloat() }, height = 20f)
+          sizes(text)
+        }
+
+    assertThat(sizes).containsOnly(sizes[0])
+  }
+
+  private fun createText(string: String): Spannable =
+      SpannableString(string).apply {
+        setSpan(ReactAbsoluteSizeSpan(FONT_SIZE), 0, length, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE)
+        setSpan(ReactAbsoluteSizeSpan(FONT_SIZE / 2), 1, 2, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE)
+      }
+
+  private fun sizes(text: Spanned): List<Int> =
+      text.getSpans(0, text.length, ReactAbsoluteSizeSpan::class.java).map { it.size }
+
+  @SuppressLint("InlinedApi")
+  private fun fit(text: Spannable, paint: TextPaint, height: Float) {
+    TextLayoutManager.adjustSpannableFontToFit(
+        text,
+        200f,
+        YogaMeasureMode.EXACTLY,
+        height,
+        YogaMeasureMode.EXACTLY,
+        4f,
+        ReactConstants.UNSET,
+        false,
+        Layout.BREAK_STRATEGY_HIGH_QUALITY,
+        Layout.HYPHENATION_FREQUENCY_NONE,
+        Layout.Alignment.ALIGN_NORMAL,
+        0,
+        paint,
+    )
+  }
+
+  private companion object {
+    const val FONT_SIZE = 40
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text
+
+import android.content.res.AssetManager
+import com.facebook.react.common.mapbuffer.MapBuffer
+import com.facebook.react.common.mapbuffer.WritableMapBuffer
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.testutils.benchmark.BenchmarkRule
+import com.facebook.yoga.YogaMeasureMode
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+
+/**
+ * Microbenchmark of [TextLayoutManager.measureText] for the texts of a screen of tiles:
+ * [TEXT_COUNT] two-fragment texts (a title and a subtitle) measured within a tile's width.
+ *
+ * Robolectric doesn't use real font metrics, so run it on a device to compare absolute numbers.
+ */
+@RunWith(RobolectricTestRunner::class)
+class TextLayoutManagerMeasureBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var assets: AssetManager
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    assets = RuntimeEnvironment.getApplication().assets
+  }
+
+  @Test
+  fun `measureText - tile titles`() {
+    val attributedStrings = (0..<TEXT_COUNT).map { createAttributedString(it) }
+    val paragraphAttributes =
+        WritableMapBuffer()
+            .put(TextLayoutManager.PA_KEY_MAX_NUMBER_OF_LINES, 2)
+            .put(TextLayoutManager.PA_KEY_TEXT_BREAK_STRATEGY, "highQuality")
+            .put(TextLayoutManager.PA_KEY_HYPHENATION_FREQUENCY, "none")
+
+    var size = 0L
+    benchmark.measure("measureText", operationsPerIteration = TEXT_COUNT) {
+      for (attributedString in attributedStrings) {
+        size =
+            TextLayoutManager.measureText(
+                assets,
+                attributedString,
+                paragraphAttributes,
+                TILE_WIDTH,
+                YogaMeasureMode.AT_MOST,
+                0f,
+                YogaMeasureMode.UNDEFINED,
+                null,
+                null,
+            )
+      }
+      size
+    }
+
+    assertThat(size).isNotZero()
+  }
+
+  private fun createAttributedString(index: Int): MapBuffer {
+    val fragments =
+        WritableMapBuffer()
+            .put(0, createFragment("Episode ${index + 1}: The Long Way Home ", 18.0))
+            .put(1, createFragment("Season ${index % 5 + 1} · 42 min", 14.0))
+    return WritableMapBuffer()
+        .put(TextLayoutManager.AS_KEY_FRAGMENTS, fragments)
+        .put(TextLayoutManager.AS_KEY_BASE_ATTRIBUTES, textAttributes(14.0))
+  }
+
+  private fun createFragment(text: String, fontSize: Double): MapBuffer =
+      WritableMapBuffer()
+          .put(TextLayoutManager.FR_KEY_STRING, text)
+          .put(TextLayoutManager.FR_KEY_TEXT_ATTRIBUTES, textAttributes(fontSize))
+
+  private fun textAttributes(fontSize: Double): MapBuffer =
+      WritableMapBuffer().put(TextAttributeProps.TA_KEY_FONT_SIZE, fontSize)
+
+  private companion object {
+    const val TEXT_COUNT = 100
+    const val TILE_WIDTH = 420f
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view
+
+import android.app.Activity
+import android.content.Context
+import android.view.View
+import kotlin.random.Random
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class ClippedChildrenListTest {
+
+  private lateinit var context: Context
+
+  @Before
+  fun setUp() {
+    context = Robolectric.buildActivity(Activity::class.java).create().get()
+  }
+
+  @Test
+  fun `add - keeps children in order across gap moves and growth`() {
+    val list = ClippedChildrenList(0)
+    val views = List(40) { View(context) }
+    views.forEachIndexed { i, view -> list.add(i / 2, view, i % 3 == 0) }
+
+    val expected = ArrayList<View>()
+    views.forEachIndexed { i, view -> expected.add(i / 2, view) }
+    assertThat(List(list.size) { list[it] }).containsExactlyElementsOf(expected)
+  }
+
+  @Test
+  fun `clippedCountBefore - matches a naive count under random edits`() {
+    val random = Random(42)
+    val list = ClippedChildrenList(4)
+    val model = ArrayList<Pair<View, Boolean>>()
+
+    repeat(2000) {
+      when (random.nextInt(4)) {
+        0,
+        1 -> {
+          val index = random.nextInt(model.size + 1)
+          val entry = View(context) to random.nextBoolean()
+          list.add(index, entry.first, entry.second)
+          model.add(index, entry)
+        }
+        2 ->
+            if (model.isNotEmpty()) {
+              val index = random.nextInt(model.size)
+              list.removeAt(index)
+              model.removeAt(index)
+            }
+        else ->
+            if (model.isNotEmpty()) {
+              val index = random.nextInt(model.size)
+              val clipped = random.nextBoolean()
+              list.setClipped(index, clipped)
+              model[index] = model[index].first to clipped
+            }
+      }
+
+      assertThat(list.size).isEqualTo(model.size)
+      val index = random.nextInt(model.size + 1)
+      assertThat(list.clippedCountBefore(index)).isEqualTo(model.take(index).count { it.second })
+      if (model.isNotEmpty()) {
+        val probe = random.nextInt(model.size)
+        assertThat(list[probe]).isSameAs(model[probe].first)
+        assertThat(list.isClipped(probe)).isEqualTo(model[probe].second)
+        assertThat(list.indexOf(model[probe].first)).isEqualTo(probe)
+      }
+    }
+  }
+
+  @Test
+  fun `resetClipped - recomputes flags and counts`() {
+    val list = ClippedChildrenList(0)
+    val views = List(10) { View(context) }
+    views.forEachIndexed { i, view -> list.add(i, view, false) }
+
+    list.resetClipped { view -> views.indexOf(view) % 2 == 0 }
+
+    assertThat(list.clippedCountBefore(10)).isEqualTo(5)
+    assertThat(list.isClipped(4)).isTrue()
+    assertThat(list.isClipped(5)).isFalse()
+  }
+
+  @Test
+  fun `clear - empties the list`() {
+    val list = ClippedChildrenList(0)
+    val view = View(context)
+    list.add(0, view, true)
+
+    list.clear()
+
+    assertThat(list.size).isEqualTo(0)
+    assertThat(list.clippedCountBefore(0)).isEqualTo(0)
+    assertThat(list.indexOf(view)).isEqualTo(-1)
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view
+
+import android.app.Activity
+import android.content.Context
+import android.widget.FrameLayout
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import com.facebook.testutils.benchmark.BenchmarkRule
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Microbenchmark for the `removeClippedSubviews` bookkeeping of [ReactViewGroup], shaped like a
+ * programme guide: one clipped container with [CHILD_COUNT] rows, of which only a screenful is
+ * attached at any time. Timings are reported by [BenchmarkRule]; the assertions only check that
+ * each scenario ends in the expected state.
+ *
+ * Raise [CHILD_COUNT] and [ITERATIONS] locally for steadier timings.
+ */
+@RunWith(RobolectricTestRunner::class)
+class ReactViewGroupClippingBenchmark {
+
+  @get:Rule val benchmark = BenchmarkRule()
+
+  private lateinit var context: Context
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    context = Robolectric.buildActivity(Activity::class.java).create().get()
+  }
+
+  @Test
+  fun `insert - appends and mid-list inserts into a clipped container`() {
+    measure("append") {
+      val rvg = createClippingContainer()
+      for (i in 0..<CHILD_COUNT) {
+        rvg.addViewWithSubviewClippingEnabled(TestView(context, i * ROW_HEIGHT), i)
+      }
+      assertThat(rvg.allChildrenCount).isEqualTo(CHILD_COUNT)
+    }
+
+    measure("insert at middle") {
+      val rvg = createClippingContainer()
+      for (i in 0..<CHILD_COUNT) {
+        rvg.addViewWithSubviewClippingEnabled(TestView(context, i * ROW_HEIGHT), i / 2)
+      }
+      assertThat(rvg.allChildrenCount).isEqualTo(CHILD_COUNT)
+    }
+  }
+
+  @Test
+  fun `remove - removes every row from the end and from the front`() {
+    measure("remove from end") {
+      val rvg = createFilledContainer()
+      for (i in CHILD_COUNT - 1 downTo 0) {
+        val child = checkNotNull(rvg.getChildAtWithSubviewClippingEnabled(i))
+        rvg.removeViewWithSubviewClippingEnabled(child)
+      }
+      assertThat(rvg.allChildrenCount).isEqualTo(0)
+    }
+
+    measure("remove from front") {
+      val rvg = createFilledContainer()
+      repeat(CHILD_COUNT) {
+        val child = checkNotNull(rvg.getChildAtWithSubviewClippingEnabled(0))
+        rvg.removeViewWithSubviewClippingEnabled(child)
+      }
+      assertThat(rvg.allChildrenCount).isEqualTo(0)
+      assertThat(rvg.childCount).isEqualTo(0)
+    }
+  }
+
+  @Test
+  fun `updateClippingRect - scrolls the viewport through the whole list`() {
+    val rvg = createFilledContainer()
+    val step = VIEWPORT_HEIGHT / 4
+    measure("scroll") {
+      var offset = 0
+      while (offset < CHILD_COUNT * ROW_HEIGHT) {
+        rvg.scrollTo(0, offset)
+        rvg.updateClippingRect()
+        offset += step
+      }
+      rvg.scrollTo(0, 0)
+      rvg.updateClippingRect()
+      assertThat(rvg.childCount).isEqualTo(VIEWPORT_HEIGHT / ROW_HEIGHT)
+    }
+  }
+
+  private fun createClippingContainer(): ReactViewGroup {
+    val rvg = ReactViewGroup(context)
+    rvg.left = 0
+    rvg.right = 100
+    rvg.top = 0
+    rvg.bottom = VIEWPORT_HEIGHT
+    FrameLayout(context).addView(rvg)
+    rvg.removeClippedSubviews = true
+    return rvg
+  }
+
+  private fun createFilledContainer(): ReactViewGroup {
+    val rvg = createClippingContainer()
+    for (i in 0..<CHILD_COUNT) {
+      rvg.addViewWithSubviewClippingEnabled(TestView(context, i * ROW_HEIGHT), i)
+    }
+    return rvg
+  }
+
+  private fun measure(name: String, block: () -> Unit) {
+    benchmark.measure(
+        "$name ($CHILD_COUNT children)",
+        warmupIterations = WARMUP_ITERATIONS,
+        iterations = ITERATIONS,
+        block = block,
+    )
+  }
+
+  private companion object {
+    const val CHILD_COUNT = 2000
+    const val ROW_HEIGHT = 10
+    const val VIEWPORT_HEIGHT = 100
+    const val WARMUP_ITERATIONS = 1
+    const val ITERATIONS = 3
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+@file:Suppress("DEPRECATION")
+
+package com.facebook.react.views.view
+
+import android.app.Activity
+import android.content.Context
+import android.view.View
+import com.facebook.react.config.ReactFeatureFlags
+import com.facebook.react.internal.featureflags.ReactNativeFeatureFlagsForTests
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class SpatialFocusIndexTest {
+
+  private lateinit var context: Context
+  private lateinit var root: TestParent
+
+  @Before
+  fun setUp() {
+    ReactNativeFeatureFlagsForTests.setUp()
+    ReactFeatureFlags.enableSpatialFocusIndex = true
+    val activity = Robolectric.buildActivity(Activity::class.java).create().get()
+    context = activity
+    root = TestParent(context)
+    activity.setContentView(root)
+    SpatialFocusIndex.install(root)
+  }
+
+  @After
+  fun tearDown() {
+    ReactFeatureFlags.enableSpatialFocusIndex = false
+  }
+
+  @Test
+  fun `findNextFocus - picks the closest candidate in the beam`() {
+    val row1 = addGroup(root, 0, 0, 1000, 100)
+    val row2 = addGroup(root, 0, 200, 1000, 300)
+    val first = addFocusable(row1, 0, 0)
+    val second = addFocusable(row1, 120, 0)
+    addFocusable(row1, 240, 0)
+    val below = addFocusable(row2, 0, 0)
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(second)
+    assertThat(SpatialFocusIndex.findNextFocus(second, View.FOCUS_LEFT)).isSameAs(first)
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_DOWN)).isSameAs(below)
+    assertThat(SpatialFocusIndex.findNextFocus(below, View.FOCUS_DOWN)).isNull()
+  }
+
+  @Test
+  fun `findNextFocus - unfocused guide stands in for its children`() {
+    val row1 = addGroup(root, 0, 0, 1000, 100)
+    val guide = addGroup(root, 0, 200, 1000, 300)
+    guide.setAutoFocusTV(true)
+    val focused = addFocusable(row1, 0, 0)
+    val inGuide = addFocusable(guide, 0, 0)
+
+    assertThat(SpatialFocusIndex.findNextFocus(focused, View.FOCUS_DOWN)).isSameAs(guide)
+    assertThat(SpatialFocusIndex.findNextFocus(inGuide, View.FOCUS_UP)).isSameAs(focused)
+  }
+
+  @Test
+  fun `findNextFocus - bails out for trapped directions`() {
+    val row = addGroup(root, 0, 0, 1000, 100)
+    row.setTrapFocusRight(true)
+    val first = addFocusable(row, 0, 0)
+    addFocusable(row, 120, 0)
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isNull()
+  }
+
+  @Test
+  fun `findNextFocus - sees views added after the index was built`() {
+    val row = addGroup(root, 0, 0, 1000, 100)
+    val first = addFocusable(row, 0, 0)
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isNull()
+
+    val second = addFocusable(row, 120, 0)
+    SpatialFocusIndex.onChildrenChanged(row)
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(second)
+  }
+
+  @Test
+  fun `findNextFocus - moves entries of views that were laid out again`() {
+    val row = addGroup(root, 0, 0, 1000, 100)
+    val first = addFocusable(row, 0, 0)
+    val second = addFocusable(row, 120, 0)
+    val third = addFocusable(row, 240, 0)
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(second)
+
+    second.layout(360, 0, 460, 100)
+    SpatialFocusIndex.onLayoutChanged(second)
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(third)
+    assertThat(SpatialFocusIndex.findNextFocus(third, View.FOCUS_RIGHT)).isSameAs(second)
+  }
+
+  @Test
+  fun `findNextFocus - forgets views that were removed`() {
+    val row = addGroup(root, 0, 0, 1000, 100)
+    val first = addFocusable(row, 0, 0)
+    val second = addFocusable(row, 120, 0)
+    val third = addFocusable(row, 240, 0)
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(second)
+
+    row.removeView(second)
+    SpatialFocusIndex.onChildrenChanged(row)
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isSameAs(third)
+  }
+
+  @Test
+  fun `findNextFocus - leaves nextFocus destinations to FocusFinder`() {
+    val row = addGroup(root, 0, 0, 1000, 100)
+    val first = addFocusable(row, 0, 0)
+    addFocusable(row, 120, 0)
+    val third = addFocusable(row, 240, 0)
+    third.id = View.generateViewId()
+    first.nextFocusRightId = third.id
+
+    assertThat(SpatialFocusIndex.findNextFocus(first, View.FOCUS_RIGHT)).isNull()
+    assertThat(row.focusSearch(first, View.FOCUS_RIGHT)).isSameAs(third)
+  }
+
+  private fun addGroup(
+      parent: android.view.ViewGroup,
+      left: Int,
+      top: Int,
+      right: Int,
+      bottom: Int,
+  ): ReactViewGroup {
+    val group = ReactViewGroup(context)
+    parent.addView(group)
+    group.layout(left, top, right, bottom)
+    SpatialFocusIndex.onChildrenChanged(parent)
+    return group
+  }
+
+  private fun addFocusable(parent: ReactViewGroup, left: Int, top: Int): View {
+    val view = View(context)
+    view.isFocusable = true
+    view.isFocusableInTouchMode = true
+    parent.addView(view)
+    view.layout(left, top, left + 100, top + 100)
+    return view
+  }
+}
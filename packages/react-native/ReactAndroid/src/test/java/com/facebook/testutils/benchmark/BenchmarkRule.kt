@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.testutils.benchmark
+
+import java.io.File
+import org.json.JSONArray
+import org.json.JSONObject
+import org.junit.rules.TestWatcher
+import org.junit.runner.Description
+
+/**
+ * Measures microbenchmarks the way JMH does: each [measure] runs warm-up iterations, then timed
+ * ones, and returns the mean, minimum and maximum time per operation.
+ *
+ * When the [OUTPUT_DIR_PROPERTY] system property is set, the results of each class are
+ * written to `<dir>/<class name>.json`. When [BASELINE_DIR_PROPERTY] is set too, every result is
+ * compared with the same benchmark in `<dir>/<class name>.json`, and fails the test when its mean
+ * is more than [TOLERANCE_PROPERTY] (25% by default) above the baseline's. Baselines are only
+ * meaningful when recorded on the same kind of machine, e.g. by the previous CI run.
+ *
+ * JSON is written with the org.json of Robolectric, so benchmarks using this rule run with it.
+ *
+ * Gradle sets these properties from `-PreactBenchmarkOutputDir`, `-PreactBenchmarkBaselineDir` and
+ * `-PreactBenchmarkTolerance`.
+ */
+class BenchmarkRule : TestWatcher() {
+
+  class Result(
+      val name: String,
+      val meanNs: Double,
+      val minNs: Double,
+      val maxNs: Double,
+      val iterations: Int,
+      val operationsPerIteration: Int,
+  ) {
+    fun toJson(): JSONObject =
+        JSONObject()
+            .put("name", name)
+            .put("unit", "ns/op")
+            .put("mean", meanNs)
+            .put("min", minNs)
+            .put("max", maxNs)
+            .put("iterations", iterations)
+            .put("operationsPerIteration", operationsPerIteration)
+  }
+
+  private var className: String = ""
+
+  override fun starting(description: Description) {
+    className = description.className
+  }
+
+  override fun finished(description: Description) {
+    val outputDir = System.getProperty(OUTPUT_DIR_PROPERTY) ?: return
+    val results = synchronized(RESULTS) { RESULTS[className]?.toList() } ?: return
+    val json =
+        JSONObject()
+            .put("class", className)
+            .put("benchmarks", JSONArray().apply { results.forEach { put(it.toJson()) } })
+    File(outputDir).mkdirs()
+    File(outputDir, "$className.json").writeText(json.toString(2))
+  }
+
+  /**
+   * Runs [block] [warmupIterations] times, then [iterations] timed times, each call doing
+   * [operationsPerIteration] operations, and returns the times per operation. What [block] returns
+   * is consumed, so that the work producing it can't be optimised away.
+   */
+  fun measure(
+      name: String,
+      operationsPerIteration: Int = 1,
+      warmupIterations: Int = DEFAULT_WARMUP_ITERATIONS,
+      iterations: Int = DEFAULT_ITERATIONS,
+      block: () -> Any?,
+  ): Result {
+    repeat(warmupIterations) { consume(block()) }
+    var totalNs = 0L
+    var minNs = Long.MAX_VALUE
+    var maxNs = 0L
+    repeat(iterations) {
+      val start = System.nanoTime()
+      consume(block())
+      val elapsedNs = System.nanoTime() - start
+      totalNs += elapsedNs
+      minNs = minOf(minNs, elapsedNs)
+      maxNs = maxOf(maxNs, elapsedNs)
+    }
+    val operations = operationsPerIteration.toDouble()
+    val result =
+        Result(
+            name,
+            totalNs.toDouble() / iterations / operations,
+            minNs / operations,
+            maxNs / operations,
+            iterations,
+            operationsPerIteration,
+        )
+    synchronized(RESULTS) { RESULTS.getOrPut(className) { ArrayList() }.add(result) }
+    checkAgainstBaseline(result)
+    return result
+  }
+
+  private fun checkAgainstBaseline(result: Result) {
+    val baselineDir = System.getProperty(BASELINE_DIR_PROPERTY) ?: return
+    val baselineFile = File(baselineDir, "$className.json")
+    if (!baselineFile.exists()) {
+      return
+    }
+    val benchmarks = JSONObject(baselineFile.readText()).getJSONArray("benchmarks")
+    for (i in 0 until benchmarks.length()) {
+      val baseline = benchmarks.getJSONObject(i)
+      if (baseline.getString("name") != result.name) {
+        continue
+      }
+      val tolerance = System.getProperty(TOLERANCE_PROPERTY)?.toDouble() ?: DEFAULT_TOLERANCE
+      val thresholdNs = baseline.getDouble("mean") * (1 + tolerance)
+      if (result.meanNs > thresholdNs) {
+        throw AssertionError(
+            "$className: ${result.name} regressed: ${"%.1f".format(result.meanNs)} ns/op, " +
+                "above the threshold of ${"%.1f".format(thresholdNs)} ns/op")
+      }
+      return
+    }
+  }
+
+  private fun consume(value: Any?) {
+    blackhole = blackhole xor System.identityHashCode(value)
+  }
+
+  companion object {
+    const val OUTPUT_DIR_PROPERTY = "react.benchmark.outputDir"
+    const val BASELINE_DIR_PROPERTY = "react.benchmark.baselineDir"
+    const val TOLERANCE_PROPERTY = "react.benchmark.tolerance"
+
+    private const val DEFAULT_WARMUP_ITERATIONS = 3
+    private const val DEFAULT_ITERATIONS = 10
+    private const val DEFAULT_TOLERANCE = 0.25
+
+    private val RESULTS = HashMap<String, MutableList<Result>>()
+
+    @Volatile private var blackhole = 0
+  }
+}
@@ -96,6 +96,7 @@ declare module 'react-native' {
   export type HWEvent = {
     eventType: 'up' | 'down' | 'right' | 'left' | 'longUp' | 'longDown' | 'longRight' | 'longLeft' | 'blur' | 'focus' | 'pan' | string;
     eventKeyAction?: -1 | 1 | 0 | number | undefined;
+    repeatCount?: number | undefined;
     tag?: number | undefined;
     body?: {
       state: 'Began' | 'Changed' | 'Ended',